@@ -2,6 +2,7 @@ package com.loga.domain.community.controller;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
@@ -11,6 +12,7 @@ import com.loga.domain.roster.dto.RosterResponse;
 import com.loga.domain.user.entity.User;
 import com.loga.global.common.dto.response.ApiResponse;
 import com.loga.global.common.dto.response.PageResponse;
+import com.loga.global.config.ApiVersionInterceptor;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -26,7 +28,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @Tag(name = "Community", description = "커뮤니티 - 로스터 공유, 인기 로스터, 댓글 API")
 public interface CommunityApi {
 
-    @Operation(summary = "공개 로스터 목록 조회", description = "커뮤니티에 공개된 모든 로스터를 최신순으로 조회합니다.")
+    @Operation(summary = "공개 로스터 목록 조회", description = "커뮤니티에 공개된 모든 로스터를 최신순으로 조회합니다. v2(X-API-Version: 2)는 커서 페이징으로 동작하며 totalItems/totalPages 대신 pagination.nextCursor를 반환합니다.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = """
                     {
@@ -73,10 +75,12 @@ public interface CommunityApi {
                     """)))
     })
     ResponseEntity<ApiResponse<PageResponse<RosterResponse>>> getCommunityRosters(
-            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기", example = "10") @RequestParam(defaultValue = "10") int size);
+            @Parameter(description = "페이지 번호 (0부터 시작, v1 전용)", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기", example = "10") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "다음 페이지 커서 (v2 전용, 이전 응답의 pagination.nextCursor)", example = "NjdhMWIyYzNkNGU1ZjYwNzE4MjkzYTRi") @RequestParam(required = false) String cursor,
+            @Parameter(hidden = true) @RequestAttribute(name = ApiVersionInterceptor.API_VERSION_ATTRIBUTE, required = false) String apiVersion);
 
-    @Operation(summary = "인기 로스터 조회", description = "좋아요가 많은 인기 로스터를 조회합니다. 좋아요 수 기준 내림차순 정렬됩니다.")
+    @Operation(summary = "인기 로스터 조회", description = "좋아요가 많은 인기 로스터를 조회합니다. 좋아요 수 기준 내림차순 정렬됩니다. v2(X-API-Version: 2)는 커서 페이징으로 동작하며 totalItems/totalPages 대신 pagination.nextCursor를 반환합니다.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = """
                     {
@@ -117,10 +121,12 @@ public interface CommunityApi {
                     """)))
     })
     ResponseEntity<ApiResponse<PageResponse<RosterResponse>>> getPopularRosters(
-            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기", example = "10") @RequestParam(defaultValue = "10") int size);
+            @Parameter(description = "페이지 번호 (0부터 시작, v1 전용)", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기", example = "10") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "다음 페이지 커서 (v2 전용, 이전 응답의 pagination.nextCursor)", example = "NjdhMWIyYzNkNGU1ZjYwNzE4MjkzYTRi") @RequestParam(required = false) String cursor,
+            @Parameter(hidden = true) @RequestAttribute(name = ApiVersionInterceptor.API_VERSION_ATTRIBUTE, required = false) String apiVersion);
 
-    @Operation(summary = "우승 로스터 매칭 목록 조회", description = "실제 대회 우승 로스터와 매칭된 로스터들을 조회합니다. (월즈, MSI 등 우승 라인업과 동일한 선수 조합)")
+    @Operation(summary = "우승 로스터 매칭 목록 조회", description = "실제 대회 우승 로스터와 매칭된 로스터들을 조회합니다. (월즈, MSI 등 우승 라인업과 동일한 선수 조합) v2(X-API-Version: 2)는 커서 페이징으로 동작하며 totalItems/totalPages 대신 pagination.nextCursor를 반환합니다.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = """
                     {
@@ -164,8 +170,10 @@ public interface CommunityApi {
                     """)))
     })
     ResponseEntity<ApiResponse<PageResponse<RosterResponse>>> getChampionshipRosters(
-            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기", example = "10") @RequestParam(defaultValue = "10") int size);
+            @Parameter(description = "페이지 번호 (0부터 시작, v1 전용)", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기", example = "10") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "다음 페이지 커서 (v2 전용, 이전 응답의 pagination.nextCursor)", example = "NjdhMWIyYzNkNGU1ZjYwNzE4MjkzYTRi") @RequestParam(required = false) String cursor,
+            @Parameter(hidden = true) @RequestAttribute(name = ApiVersionInterceptor.API_VERSION_ATTRIBUTE, required = false) String apiVersion);
 
     @Operation(summary = "로스터 댓글 조회", description = "특정 로스터의 댓글 목록을 페이징하여 조회합니다. 최신순으로 정렬됩니다.")
     @ApiResponses(value = {
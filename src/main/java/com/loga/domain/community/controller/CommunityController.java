@@ -14,6 +14,7 @@ import com.loga.domain.user.entity.User;
 import com.loga.global.common.dto.request.PageRequest;
 import com.loga.global.common.dto.response.ApiResponse;
 import com.loga.global.common.dto.response.PageResponse;
+import com.loga.global.config.ApiVersionInterceptor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -27,7 +28,13 @@ public class CommunityController implements CommunityApi {
     @GetMapping("/rosters")
     public ResponseEntity<ApiResponse<PageResponse<RosterResponse>>> getCommunityRosters(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestAttribute(name = ApiVersionInterceptor.API_VERSION_ATTRIBUTE, required = false) String apiVersion) {
+        if (isCursorMode(apiVersion)) {
+            return ResponseEntity.ok(ApiResponse.success(
+                    communityService.getCommunityRosters(cursor, PageRequest.of(1, size).toPageable())));
+        }
         return ResponseEntity.ok(ApiResponse.success(
                 communityService.getCommunityRosters(PageRequest.of(page, size).toPageable())));
     }
@@ -35,7 +42,13 @@ public class CommunityController implements CommunityApi {
     @GetMapping("/rosters/popular")
     public ResponseEntity<ApiResponse<PageResponse<RosterResponse>>> getPopularRosters(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestAttribute(name = ApiVersionInterceptor.API_VERSION_ATTRIBUTE, required = false) String apiVersion) {
+        if (isCursorMode(apiVersion)) {
+            return ResponseEntity.ok(ApiResponse.success(
+                    communityService.getPopularRosters(cursor, PageRequest.of(1, size).toPageable())));
+        }
         return ResponseEntity.ok(ApiResponse.success(
                 communityService.getPopularRosters(PageRequest.of(page, size).toPageable())));
     }
@@ -43,7 +56,13 @@ public class CommunityController implements CommunityApi {
     @GetMapping("/rosters/championships")
     public ResponseEntity<ApiResponse<PageResponse<RosterResponse>>> getChampionshipRosters(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestAttribute(name = ApiVersionInterceptor.API_VERSION_ATTRIBUTE, required = false) String apiVersion) {
+        if (isCursorMode(apiVersion)) {
+            return ResponseEntity.ok(ApiResponse.success(
+                    communityService.getChampionshipRosters(cursor, PageRequest.of(1, size).toPageable())));
+        }
         return ResponseEntity.ok(ApiResponse.success(
                 communityService.getChampionshipRosters(PageRequest.of(page, size).toPageable())));
     }
@@ -74,4 +93,11 @@ public class CommunityController implements CommunityApi {
         communityService.deleteComment(rosterId, commentId, user);
         return ResponseEntity.ok(ApiResponse.success("Comment deleted"));
     }
+
+    /**
+     * v2부터 로스터 목록은 커서(키셋) 페이징, v1은 기존 offset 페이징 유지
+     */
+    private boolean isCursorMode(String apiVersion) {
+        return "2".equals(apiVersion);
+    }
 }
@@ -1,6 +1,6 @@
 package com.loga.domain.community.entity;
 
-import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import com.loga.infrastructure.persistence.BaseDocument;
@@ -11,13 +11,13 @@ import lombok.*;
  * 댓글 도메인 엔티티
  */
 @Document(collection = "comments")
+@CompoundIndex(name = "roster_recent", def = "{ 'rosterId': 1, 'createdAt': -1 }")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 public class Comment extends BaseDocument {
 
-    @Indexed
     private String rosterId;
 
     private String userId;
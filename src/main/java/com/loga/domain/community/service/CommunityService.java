@@ -2,6 +2,7 @@ package com.loga.domain.community.service;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,12 +11,13 @@ import com.loga.domain.community.dto.CreateCommentRequest;
 import com.loga.domain.community.entity.Comment;
 import com.loga.domain.community.repository.CommentRepository;
 import com.loga.domain.roster.dto.RosterResponse;
-import com.loga.domain.roster.entity.Roster;
+import com.loga.domain.roster.dto.RosterSummary;
 import com.loga.domain.roster.repository.RosterRepository;
 import com.loga.domain.user.entity.User;
 import com.loga.global.common.dto.response.PageResponse;
 import com.loga.global.error.BusinessException;
 import com.loga.global.error.ErrorCode;
+import com.loga.infrastructure.persistence.KeysetCursor;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,22 +32,54 @@ public class CommunityService {
 
     @Transactional(readOnly = true)
     public PageResponse<RosterResponse> getCommunityRosters(Pageable pageable) {
-        Page<Roster> page = rosterRepository.findPublicRosters(pageable);
+        Page<RosterSummary> page = rosterRepository.findPublicRosters(pageable);
         return PageResponse.from(page, RosterResponse::from);
     }
 
     @Transactional(readOnly = true)
     public PageResponse<RosterResponse> getPopularRosters(Pageable pageable) {
-        Page<Roster> page = rosterRepository.findByPopularity(pageable);
+        Page<RosterSummary> page = rosterRepository.findByPopularity(pageable);
         return PageResponse.from(page, RosterResponse::from);
     }
 
     @Transactional(readOnly = true)
     public PageResponse<RosterResponse> getChampionshipRosters(Pageable pageable) {
-        Page<Roster> page = rosterRepository.findPublicChampionshipRosters(pageable);
+        Page<RosterSummary> page = rosterRepository.findPublicChampionshipRosters(pageable);
         return PageResponse.from(page, RosterResponse::from);
     }
 
+    /**
+     * 공개 로스터 커서 페이징 조회 (v2)
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<RosterResponse> getCommunityRosters(String cursor, Pageable pageable) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Slice<RosterSummary> slice = rosterRepository.findPublicSlice(false, after, pageable);
+        return PageResponse.fromSlice(slice, RosterResponse::from, CommunityService::idCursor, after != null);
+    }
+
+    /**
+     * 인기 로스터 커서 페이징 조회 (v2)
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<RosterResponse> getPopularRosters(String cursor, Pageable pageable) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Slice<RosterSummary> slice = rosterRepository.findPopularSlice(after, pageable);
+        return PageResponse.fromSlice(slice, RosterResponse::from,
+                roster -> KeysetCursor.of(roster.communityInfo().getLikeCount(), roster.id()).encode(),
+                after != null);
+    }
+
+    /**
+     * 우승 로스터 커서 페이징 조회 (v2)
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<RosterResponse> getChampionshipRosters(String cursor, Pageable pageable) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Slice<RosterSummary> slice = rosterRepository.findPublicSlice(true, after, pageable);
+        return PageResponse.fromSlice(slice, RosterResponse::from, CommunityService::idCursor, after != null);
+    }
+
     @Transactional(readOnly = true)
     public PageResponse<CommentResponse> getComments(String rosterId, Pageable pageable) {
         Page<Comment> page = commentRepository.findByRosterIdOrderByCreatedAtDesc(rosterId, pageable);
@@ -54,8 +88,9 @@ public class CommunityService {
 
     @Transactional
     public CommentResponse createComment(String rosterId, CreateCommentRequest request, User user) {
-        Roster roster = rosterRepository.findById(rosterId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ROSTER_NOT_FOUND));
+        if (!rosterRepository.existsById(rosterId)) {
+            throw new BusinessException(ErrorCode.ROSTER_NOT_FOUND);
+        }
 
         Comment comment = Comment.create(
                 rosterId,
@@ -65,8 +100,8 @@ public class CommunityService {
                 request.getContent());
         comment = commentRepository.save(comment);
 
-        roster.addComment();
-        rosterRepository.save(roster);
+        // 문서 전체를 저장하면 그 사이 $inc된 좋아요 수나 이전 전 내장 좋아요를 덮어쓰므로 댓글 수만 원자적으로 갱신
+        rosterRepository.incrementCommentCount(rosterId, 1);
 
         return CommentResponse.from(comment);
     }
@@ -82,9 +117,10 @@ public class CommunityService {
 
         commentRepository.delete(comment);
 
-        rosterRepository.findById(rosterId).ifPresent(roster -> {
-            roster.removeComment();
-            rosterRepository.save(roster);
-        });
+        rosterRepository.incrementCommentCount(rosterId, -1);
+    }
+
+    private static String idCursor(RosterSummary roster) {
+        return KeysetCursor.of(null, roster.id()).encode();
     }
 }
@@ -1,8 +1,17 @@
 package com.loga.domain.gacha.controller;
 
+import java.time.Instant;
+import java.util.List;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import com.loga.domain.gacha.dto.ChampionshipOddsResponse;
+import com.loga.domain.gacha.dto.CollectionResponse;
+import com.loga.domain.gacha.dto.GachaDrawRollupResponse;
+import com.loga.domain.gacha.dto.GachaMultiResultResponse;
+import com.loga.domain.gacha.dto.GachaOddsResponse;
 import com.loga.domain.gacha.dto.GachaResultResponse;
 import com.loga.domain.user.entity.User;
 import com.loga.global.common.dto.response.ApiResponse;
@@ -25,6 +34,7 @@ public interface GachaApi {
 
             - 비로그인 사용자도 뽑기 가능
             - 로그인 사용자는 통계에 기록됨
+            - excludeOwned=true: 이미 보유한 카드를 제외하고 뽑기 (프리미엄 회원 전용, 모두 보유 시 일반 뽑기)
             """)
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "뽑기 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = """
@@ -74,6 +84,7 @@ public interface GachaApi {
     })
     ResponseEntity<ApiResponse<GachaResultResponse>> drawByPosition(
             @Parameter(description = "포지션 (TOP, JUNGLE, MID, ADC, SUPPORT)", example = "MID") @PathVariable String position,
+            @Parameter(description = "보유 카드 제외 여부 (프리미엄 전용)", example = "false") @RequestParam(defaultValue = "false") boolean excludeOwned,
             @Parameter(hidden = true) User user);
 
     @Operation(summary = "전체 로스터 뽑기", description = """
@@ -157,6 +168,62 @@ public interface GachaApi {
     ResponseEntity<ApiResponse<GachaResultResponse>> drawFullRoster(
             @Parameter(hidden = true) User user);
 
+    @Operation(summary = "연속 뽑기 (10연차 / N연차)", description = """
+            한 번의 요청으로 N회 뽑기를 수행합니다.
+
+            - position 지정 시 해당 포지션 단일 뽑기를 N회 수행
+            - position 미지정 시 전체 로스터 뽑기를 N회 수행 (회차별 우승 로스터 매칭 포함)
+            - 한 번에 최대 50회까지 가능
+            - 비로그인 사용자도 뽑기 가능
+            """)
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "연속 뽑기 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = """
+                    {
+                      "success": true,
+                      "code": "SUCCESS",
+                      "data": {
+                        "count": 2,
+                        "results": [
+                          {
+                            "player": {
+                              "id": "6972edb355a6e8f16d8e8d60",
+                              "name": "Faker",
+                              "position": "MID",
+                              "year": 2023,
+                              "teamShort": "T1"
+                            },
+                            "isChampionshipRoster": false
+                          },
+                          {
+                            "player": {
+                              "id": "6972edb355a6e8f16d8e8d61",
+                              "name": "Chovy",
+                              "position": "MID",
+                              "year": 2023,
+                              "teamShort": "GEN"
+                            },
+                            "isChampionshipRoster": false
+                          }
+                        ],
+                        "championshipCount": 0
+                      },
+                      "timestamp": "2026-01-25T14:30:00"
+                    }
+                    """))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 뽑기 횟수", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = """
+                    {
+                      "success": false,
+                      "code": "C001",
+                      "message": "Draw count must be between 1 and 50",
+                      "timestamp": "2026-01-25T14:30:00"
+                    }
+                    """)))
+    })
+    ResponseEntity<ApiResponse<GachaMultiResultResponse>> drawMany(
+            @Parameter(description = "뽑기 횟수 (1~50, 기본: 10)", example = "10") @RequestParam(defaultValue = "10") int count,
+            @Parameter(description = "포지션 (TOP, JUNGLE, MID, ADC, SUPPORT), 미지정 시 전체 로스터", example = "MID") @RequestParam(required = false) String position,
+            @Parameter(hidden = true) User user);
+
     @Operation(summary = "리롤 (Reroll)", description = """
             특정 포지션의 선수를 다시 뽑습니다.
 
@@ -209,4 +276,162 @@ public interface GachaApi {
     ResponseEntity<ApiResponse<GachaResultResponse>> reroll(
             @Parameter(description = "리롤할 포지션 (TOP, JUNGLE, MID, ADC, SUPPORT)", example = "MID") @PathVariable String position,
             @Parameter(hidden = true) User user);
+
+    @Operation(summary = "포지션별 뽑기 확률 조회", description = """
+            지정된 포지션의 카드별 실제 뽑기 확률을 조회합니다.
+
+            - 인증 불필요
+            - 희귀도(COMMON, RARE, EPIC, LEGENDARY) 가중치 기반
+            - 확률 높은 순 정렬
+            """)
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = """
+                    {
+                      "success": true,
+                      "code": "SUCCESS",
+                      "data": {
+                        "position": "MID",
+                        "totalCards": 2,
+                        "cards": [
+                          {
+                            "playerId": "6972edb355a6e8f16d8e8d61",
+                            "name": "Chovy",
+                            "year": 2023,
+                            "teamShort": "GEN",
+                            "rarity": "COMMON",
+                            "weight": 100.0,
+                            "probability": 0.9523809523809523
+                          },
+                          {
+                            "playerId": "6972edb355a6e8f16d8e8d60",
+                            "name": "Faker",
+                            "year": 2013,
+                            "teamShort": "SKT",
+                            "rarity": "LEGENDARY",
+                            "weight": 5.0,
+                            "probability": 0.047619047619047616
+                          }
+                        ]
+                      },
+                      "timestamp": "2026-01-25T14:30:00"
+                    }
+                    """)))
+    })
+    ResponseEntity<ApiResponse<GachaOddsResponse>> getOdds(
+            @Parameter(description = "포지션 (TOP, JUNGLE, MID, ADC, SUPPORT)", example = "MID") @PathVariable String position);
+
+    @Operation(summary = "우승 로스터 적중 확률 조회", description = """
+            전체 로스터 뽑기 1회에서 각 우승 로스터가 나올 확률을 조회합니다.
+
+            - 인증 불필요
+            - 포지션별 실제 뽑기 확률의 곱으로 정확히 계산
+            - 선수/우승 로스터 데이터가 바뀌기 전까지 캐시
+            """)
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = """
+                    {
+                      "success": true,
+                      "code": "SUCCESS",
+                      "data": {
+                        "totalChampionships": 1,
+                        "anyChampionshipProbability": 3.2e-10,
+                        "championships": [
+                          {
+                            "championshipId": "6972f0a155a6e8f16d8e8e01",
+                            "displayName": "2023 Worlds - T1",
+                            "year": 2023,
+                            "team": "T1",
+                            "probability": 3.2e-10,
+                            "expectedDraws": 3125000000.0
+                          }
+                        ]
+                      },
+                      "timestamp": "2026-01-25T14:30:00"
+                    }
+                    """)))
+    })
+    ResponseEntity<ApiResponse<ChampionshipOddsResponse>> getChampionshipOdds();
+
+    @Operation(summary = "뽑기 추이 집계 조회 (관리자)", description = """
+            뽑기 이벤트 로그를 시간(HOUR) 또는 일(DAY) 단위로 집계합니다.
+
+            - 관리자 권한 필요 (집계 비용이 커서 공개하지 않음)
+            - 기간 미지정 시 HOUR는 최근 24시간, DAY는 최근 30일
+            - 최대 기간: HOUR 31일, DAY 366일
+            - 포지션별로 버킷이 나뉘며 우승 로스터 적중 수를 함께 제공
+            """)
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = """
+                    {
+                      "success": true,
+                      "code": "SUCCESS",
+                      "data": [
+                        {
+                          "bucket": "2026-01-25T05:00:00Z",
+                          "position": "MID",
+                          "draws": 1284,
+                          "championshipHits": 3
+                        },
+                        {
+                          "bucket": "2026-01-25T05:00:00Z",
+                          "position": "TOP",
+                          "draws": 1190,
+                          "championshipHits": 3
+                        }
+                      ],
+                      "timestamp": "2026-01-25T14:30:00"
+                    }
+                    """))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 집계 단위 또는 기간", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = """
+                    {
+                      "success": false,
+                      "code": "C001",
+                      "message": "Rollup unit must be HOUR or DAY",
+                      "timestamp": "2026-01-25T14:30:00"
+                    }
+                    """))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "관리자 권한 필요")
+    })
+    ResponseEntity<ApiResponse<List<GachaDrawRollupResponse>>> getDrawRollup(
+            @Parameter(description = "집계 단위 (HOUR, DAY)", example = "HOUR") @RequestParam(defaultValue = "HOUR") String unit,
+            @Parameter(description = "시작 시각 (ISO-8601, 포함)", example = "2026-01-24T00:00:00Z") @RequestParam(required = false) Instant from,
+            @Parameter(description = "종료 시각 (ISO-8601, 미포함)", example = "2026-01-25T00:00:00Z") @RequestParam(required = false) Instant to,
+            @Parameter(description = "포지션 필터 (TOP, JUNGLE, MID, ADC, SUPPORT)", example = "MID") @RequestParam(required = false) String position,
+            @Parameter(description = "버킷 기준 시간대", example = "Asia/Seoul") @RequestParam(defaultValue = "Asia/Seoul") String timezone);
+
+    @Operation(summary = "카드 도감 조회", description = """
+            로그인 사용자가 지금까지 뽑은 카드의 포지션별 보유 현황을 조회합니다.
+
+            - 로그인 필요
+            - 뽑기 직후 몇 초 안에 반영됨
+            """)
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = """
+                    {
+                      "success": true,
+                      "code": "SUCCESS",
+                      "data": {
+                        "ownedCount": 57,
+                        "totalCount": 490,
+                        "positions": [
+                          { "position": "TOP", "owned": 12, "total": 98 },
+                          { "position": "JUNGLE", "owned": 10, "total": 98 },
+                          { "position": "MID", "owned": 15, "total": 98 },
+                          { "position": "ADC", "owned": 11, "total": 98 },
+                          { "position": "SUPPORT", "owned": 9, "total": 98 }
+                        ]
+                      },
+                      "timestamp": "2026-01-25T14:30:00"
+                    }
+                    """))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = """
+                    {
+                      "success": false,
+                      "code": "A001",
+                      "message": "Unauthorized",
+                      "timestamp": "2026-01-25T14:30:00"
+                    }
+                    """)))
+    })
+    ResponseEntity<ApiResponse<CollectionResponse>> getCollection(@Parameter(hidden = true) User user);
 }
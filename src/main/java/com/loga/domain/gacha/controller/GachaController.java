@@ -1,10 +1,21 @@
 package com.loga.domain.gacha.controller;
 
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import com.loga.domain.gacha.dto.ChampionshipOddsResponse;
+import com.loga.domain.gacha.dto.CollectionResponse;
+import com.loga.domain.gacha.dto.GachaDrawRollupResponse;
+import com.loga.domain.gacha.dto.GachaMultiResultResponse;
+import com.loga.domain.gacha.dto.GachaOddsResponse;
 import com.loga.domain.gacha.dto.GachaResultResponse;
+import com.loga.domain.gacha.service.CollectionService;
 import com.loga.domain.gacha.service.GachaService;
 import com.loga.domain.user.entity.User;
 import com.loga.global.common.dto.response.ApiResponse;
@@ -20,14 +31,16 @@ import lombok.RequiredArgsConstructor;
 public class GachaController implements GachaApi {
 
     private final GachaService gachaService;
+    private final CollectionService collectionService;
 
     @Override
     @PostMapping("/draw/{position}")
     public ResponseEntity<ApiResponse<GachaResultResponse>> drawByPosition(
             @PathVariable String position,
+            @RequestParam(defaultValue = "false") boolean excludeOwned,
             @AuthenticationPrincipal User user) {
         String userId = user != null ? user.getId() : null;
-        return ResponseEntity.ok(ApiResponse.success(gachaService.drawByPosition(position, userId)));
+        return ResponseEntity.ok(ApiResponse.success(gachaService.drawByPosition(position, userId, excludeOwned)));
     }
 
     @Override
@@ -38,6 +51,16 @@ public class GachaController implements GachaApi {
         return ResponseEntity.ok(ApiResponse.success(gachaService.drawFullRoster(userId)));
     }
 
+    @Override
+    @PostMapping("/draw/multi")
+    public ResponseEntity<ApiResponse<GachaMultiResultResponse>> drawMany(
+            @RequestParam(defaultValue = "10") int count,
+            @RequestParam(required = false) String position,
+            @AuthenticationPrincipal User user) {
+        String userId = user != null ? user.getId() : null;
+        return ResponseEntity.ok(ApiResponse.success(gachaService.drawMany(count, position, userId)));
+    }
+
     @Override
     @PostMapping("/reroll/{position}")
     public ResponseEntity<ApiResponse<GachaResultResponse>> reroll(
@@ -46,4 +69,36 @@ public class GachaController implements GachaApi {
         String userId = user != null ? user.getId() : null;
         return ResponseEntity.ok(ApiResponse.success(gachaService.reroll(position, userId)));
     }
+
+    @Override
+    @GetMapping("/odds/{position}")
+    public ResponseEntity<ApiResponse<GachaOddsResponse>> getOdds(@PathVariable String position) {
+        return ResponseEntity.ok(ApiResponse.success(gachaService.getOdds(position)));
+    }
+
+    @Override
+    @GetMapping("/odds/championships")
+    public ResponseEntity<ApiResponse<ChampionshipOddsResponse>> getChampionshipOdds() {
+        return ResponseEntity.ok(ApiResponse.success(gachaService.getChampionshipOdds()));
+    }
+
+    @Override
+    @GetMapping("/stats/rollup")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<GachaDrawRollupResponse>>> getDrawRollup(
+            @RequestParam(defaultValue = "HOUR") String unit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String position,
+            @RequestParam(defaultValue = "Asia/Seoul") String timezone) {
+        return ResponseEntity.ok(ApiResponse.success(
+                gachaService.getDrawRollup(unit, from, to, position, timezone)));
+    }
+
+    @Override
+    @GetMapping("/collection")
+    public ResponseEntity<ApiResponse<CollectionResponse>> getCollection(@AuthenticationPrincipal User user) {
+        String userId = user != null ? user.getId() : null;
+        return ResponseEntity.ok(ApiResponse.success(collectionService.getCollection(userId)));
+    }
 }
@@ -0,0 +1,39 @@
+package com.loga.domain.gacha.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 우승 로스터 적중 확률 응답 DTO (전체 로스터 뽑기 1회 기준)
+ */
+@Getter
+@Builder
+public class ChampionshipOddsResponse {
+
+    private int totalChampionships;
+    // 전체 로스터 뽑기 1회에서 아무 우승 로스터나 적중할 확률
+    private double anyChampionshipProbability;
+    private List<ChampionshipOdds> championships;
+
+    @Getter
+    @Builder
+    public static class ChampionshipOdds {
+        private String championshipId;
+        private String displayName;
+        private int year;
+        private String team;
+        private double probability;
+        // 적중까지 필요한 평균 전체 로스터 뽑기 횟수 (적중 불가면 null)
+        private Double expectedDraws;
+    }
+
+    public static ChampionshipOddsResponse of(List<ChampionshipOdds> championships) {
+        return ChampionshipOddsResponse.builder()
+                .totalChampionships(championships.size())
+                .anyChampionshipProbability(championships.stream().mapToDouble(ChampionshipOdds::getProbability).sum())
+                .championships(championships)
+                .build();
+    }
+}
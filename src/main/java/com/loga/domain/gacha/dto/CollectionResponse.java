@@ -0,0 +1,34 @@
+package com.loga.domain.gacha.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 카드 도감 달성 현황 응답 DTO
+ */
+@Getter
+@Builder
+public class CollectionResponse {
+
+    private int ownedCount;
+    private int totalCount;
+    private List<PositionProgress> positions;
+
+    @Getter
+    @Builder
+    public static class PositionProgress {
+        private String position;
+        private int owned;
+        private int total;
+    }
+
+    public static CollectionResponse of(List<PositionProgress> positions) {
+        return CollectionResponse.builder()
+                .ownedCount(positions.stream().mapToInt(PositionProgress::getOwned).sum())
+                .totalCount(positions.stream().mapToInt(PositionProgress::getTotal).sum())
+                .positions(positions)
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.loga.domain.gacha.dto;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 시간/일 단위 뽑기 집계 응답 DTO
+ */
+@Getter
+@Builder
+public class GachaDrawRollupResponse {
+
+    // 버킷 시작 시각
+    private Instant bucket;
+    private String position;
+    private long draws;
+    private long championshipHits;
+}
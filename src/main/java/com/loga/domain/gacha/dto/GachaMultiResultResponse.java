@@ -0,0 +1,33 @@
+package com.loga.domain.gacha.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 연속 뽑기 결과 응답 DTO
+ */
+@Getter
+@Builder
+public class GachaMultiResultResponse {
+
+    // 뽑기 횟수
+    private int count;
+
+    // 회차별 뽑기 결과
+    private List<GachaResultResponse> results;
+
+    // 우승 로스터 달성 횟수
+    private int championshipCount;
+
+    public static GachaMultiResultResponse of(List<GachaResultResponse> results) {
+        return GachaMultiResultResponse.builder()
+                .count(results.size())
+                .results(results)
+                .championshipCount((int) results.stream()
+                        .filter(GachaResultResponse::isChampionshipRoster)
+                        .count())
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.loga.domain.gacha.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 포지션별 뽑기 확률표 응답 DTO
+ */
+@Getter
+@Builder
+public class GachaOddsResponse {
+
+    private String position;
+    private int totalCards;
+    private List<CardOdds> cards;
+
+    @Getter
+    @Builder
+    public static class CardOdds {
+        private String playerId;
+        private String name;
+        private int year;
+        private String teamShort;
+        private String rarity;
+        private double weight;
+        private double probability;
+    }
+
+    public static GachaOddsResponse of(String position, List<CardOdds> cards) {
+        return GachaOddsResponse.builder()
+                .position(position)
+                .totalCards(cards.size())
+                .cards(cards)
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.loga.domain.gacha.entity;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.TimeSeries;
+import org.springframework.data.mongodb.core.timeseries.Granularity;
+
+import lombok.*;
+
+/**
+ * 가챠 뽑기 이벤트 로그 (Append-only, Time Series 컬렉션)
+ *
+ * 선수 1명이 뽑힐 때마다 1건이 기록됩니다. 전체 로스터 뽑기는 5건이며 우승 로스터 여부가 함께 저장됩니다.
+ */
+@Document(collection = "gacha_draw_events")
+@TimeSeries(timeField = "drawnAt", metaField = "position", granularity = Granularity.SECONDS)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class GachaDrawEvent {
+
+    @Id
+    private String id;
+
+    private String userId;
+
+    private String position;
+
+    private String playerId;
+
+    private boolean championship;
+
+    private Instant drawnAt;
+
+    // ===== Factory Methods =====
+
+    public static GachaDrawEvent create(String userId, String position, String playerId, boolean championship,
+            Instant drawnAt) {
+        return GachaDrawEvent.builder()
+                .userId(userId)
+                .position(position)
+                .playerId(playerId)
+                .championship(championship)
+                .drawnAt(drawnAt)
+                .build();
+    }
+}
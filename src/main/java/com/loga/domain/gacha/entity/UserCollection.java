@@ -0,0 +1,44 @@
+package com.loga.domain.gacha.entity;
+
+import java.util.Map;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.*;
+
+/**
+ * 사용자 카드 도감 (보유 카드 비트셋)
+ *
+ * 선수의 컬렉션 인덱스를 비트 번호로 사용하는 비트셋을 64bit 워드 단위로 저장합니다. 보유 카드가 없는 워드는 저장하지 않으며, 갱신은 $bit or 연산으로만 이루어집니다.
+ */
+@Document(collection = "user_collections")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class UserCollection {
+
+    // 사용자 ID
+    @Id
+    private String id;
+
+    // 워드 번호(문자열) → 64bit 워드
+    private Map<String, Long> words;
+
+    /**
+     * 워드 배열로 변환 (저장되지 않은 워드는 0)
+     */
+    public long[] toWords(int wordCount) {
+        long[] result = new long[wordCount];
+        if (words != null) {
+            words.forEach((key, word) -> {
+                int index = Integer.parseInt(key);
+                if (index < wordCount && word != null) {
+                    result[index] = word;
+                }
+            });
+        }
+        return result;
+    }
+}
@@ -0,0 +1,49 @@
+package com.loga.domain.gacha.event;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.loga.domain.gacha.dto.GachaResultResponse;
+import com.loga.domain.player.dto.PlayerResponse;
+
+/**
+ * 뽑기 완료 이벤트 (응답 이후 비동기로 처리할 부수 효과)
+ *
+ * @param userId 사용자 ID (비로그인 시 null)
+ * @param gachaCount 사용자 통계에 반영할 가챠 횟수 (이미 반영된 경우 0)
+ * @param results 뽑기 결과
+ * @param drawnAt 뽑기 시각
+ */
+public record GachaDrawnEvent(String userId, int gachaCount, List<GachaResultResponse> results, Instant drawnAt) {
+
+    public static GachaDrawnEvent of(String userId, int gachaCount, List<GachaResultResponse> results) {
+        return new GachaDrawnEvent(userId, gachaCount, results, Instant.now());
+    }
+
+    public static GachaDrawnEvent of(String userId, int gachaCount, GachaResultResponse result) {
+        return of(userId, gachaCount, List.of(result));
+    }
+
+    /**
+     * 뽑힌 선수 ID 목록 (단일 뽑기는 1명, 전체 뽑기는 5명씩)
+     */
+    public List<String> pickedPlayerIds() {
+        List<String> playerIds = new ArrayList<>();
+        for (GachaResultResponse result : results) {
+            addId(playerIds, result.getPlayer());
+            addId(playerIds, result.getTop());
+            addId(playerIds, result.getJungle());
+            addId(playerIds, result.getMid());
+            addId(playerIds, result.getAdc());
+            addId(playerIds, result.getSupport());
+        }
+        return playerIds;
+    }
+
+    private static void addId(List<String> playerIds, PlayerResponse player) {
+        if (player != null) {
+            playerIds.add(player.getId());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.loga.domain.gacha.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.loga.domain.gacha.entity.GachaDrawEvent;
+
+/**
+ * 가챠 뽑기 이벤트 레포지토리
+ */
+@Repository
+public interface GachaDrawEventRepository extends MongoRepository<GachaDrawEvent, String>, GachaDrawEventRepositoryCustom {
+}
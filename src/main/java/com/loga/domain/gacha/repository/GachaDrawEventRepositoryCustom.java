@@ -0,0 +1,26 @@
+package com.loga.domain.gacha.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.loga.domain.gacha.dto.GachaDrawRollupResponse;
+
+/**
+ * 가챠 뽑기 이벤트 커스텀 레포지토리 인터페이스
+ */
+public interface GachaDrawEventRepositoryCustom {
+
+    /**
+     * 컬렉션이 없으면 Time Series 컬렉션으로 생성
+     */
+    void createCollectionIfAbsent();
+
+    /**
+     * 시간/일 단위 뽑기 집계
+     *
+     * @param unit $dateTrunc 단위 (hour, day)
+     * @param timezone 버킷 기준 시간대
+     * @param position 포지션 필터 (null이면 전체)
+     */
+    List<GachaDrawRollupResponse> rollup(String unit, String timezone, Instant from, Instant to, String position);
+}
@@ -0,0 +1,82 @@
+package com.loga.domain.gacha.repository;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Repository;
+
+import com.loga.domain.gacha.dto.GachaDrawRollupResponse;
+import com.loga.domain.gacha.entity.GachaDrawEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가챠 뽑기 이벤트 커스텀 레포지토리 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class GachaDrawEventRepositoryCustomImpl implements GachaDrawEventRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void createCollectionIfAbsent() {
+        if (!mongoTemplate.collectionExists(GachaDrawEvent.class)) {
+            // @TimeSeries 설정(timeField, metaField, granularity)으로 생성
+            mongoTemplate.createCollection(GachaDrawEvent.class);
+        }
+    }
+
+    @Override
+    public List<GachaDrawRollupResponse> rollup(String unit, String timezone, Instant from, Instant to,
+            String position) {
+        Criteria criteria = Criteria.where("drawnAt").gte(from).lt(to);
+        if (position != null) {
+            criteria = criteria.and("position").is(position);
+        }
+
+        // $dateTrunc는 타입 세이프 빌더가 없어 원본 스테이지로 작성
+        AggregationOperation group = context -> new Document("$group", new Document()
+                .append("_id", new Document()
+                        .append("bucket", new Document("$dateTrunc", new Document()
+                                .append("date", "$drawnAt")
+                                .append("unit", unit)
+                                .append("timezone", timezone)))
+                        .append("position", "$position"))
+                .append("draws", new Document("$sum", 1))
+                .append("championshipHits", new Document("$sum",
+                        new Document("$cond", List.of("$championship", 1, 0)))));
+        AggregationOperation project = context -> new Document("$project", new Document()
+                .append("_id", 0)
+                .append("bucket", "$_id.bucket")
+                .append("position", "$_id.position")
+                .append("draws", 1)
+                .append("championshipHits", 1));
+        AggregationOperation sort = context -> new Document("$sort", new Document()
+                .append("bucket", 1)
+                .append("position", 1));
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(criteria),
+                group,
+                project,
+                sort);
+
+        return mongoTemplate.aggregate(aggregation, GachaDrawEvent.class, Document.class)
+                .getMappedResults()
+                .stream()
+                .map(doc -> GachaDrawRollupResponse.builder()
+                        .bucket(doc.get("bucket", Date.class).toInstant())
+                        .position(doc.getString("position"))
+                        .draws(doc.get("draws", Number.class).longValue())
+                        .championshipHits(doc.get("championshipHits", Number.class).longValue())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,13 @@
+package com.loga.domain.gacha.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.loga.domain.gacha.entity.UserCollection;
+
+/**
+ * 사용자 카드 도감 레포지토리
+ */
+@Repository
+public interface UserCollectionRepository extends MongoRepository<UserCollection, String>, UserCollectionRepositoryCustom {
+}
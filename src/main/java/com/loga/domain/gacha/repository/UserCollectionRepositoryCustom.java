@@ -0,0 +1,16 @@
+package com.loga.domain.gacha.repository;
+
+import java.util.Map;
+
+/**
+ * 사용자 카드 도감 커스텀 레포지토리 인터페이스
+ */
+public interface UserCollectionRepositoryCustom {
+
+    /**
+     * 사용자별 보유 카드 비트 일괄 추가 (워드별 $bit or, upsert, 단일 bulkWrite)
+     *
+     * @param masksByUser 사용자 ID → (워드 번호 → 추가할 비트)
+     */
+    void bulkAddCards(Map<String, Map<Integer, Long>> masksByUser);
+}
@@ -0,0 +1,39 @@
+package com.loga.domain.gacha.repository;
+
+import java.util.Map;
+
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import com.loga.domain.gacha.entity.UserCollection;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 카드 도감 커스텀 레포지토리 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserCollectionRepositoryCustomImpl implements UserCollectionRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void bulkAddCards(Map<String, Map<Integer, Long>> masksByUser) {
+        if (masksByUser.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, UserCollection.class);
+        masksByUser.forEach((userId, masks) -> {
+            Update update = new Update();
+            masks.forEach((word, mask) -> update.bitwise("words." + word).or(mask));
+            bulkOps.upsert(Query.query(Criteria.where("_id").is(userId)), update);
+        });
+        bulkOps.execute();
+    }
+}
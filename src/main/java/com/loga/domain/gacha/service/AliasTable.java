@@ -0,0 +1,119 @@
+package com.loga.domain.gacha.service;
+
+import java.util.SplittableRandom;
+
+/**
+ * 가중치 랜덤 선택용 Alias 테이블 (Vose's alias method)
+ *
+ * 생성 O(n), 선택 O(1). 생성 후에는 변경되지 않으므로 여러 스레드에서 동시에 읽어도 안전합니다.
+ */
+public final class AliasTable {
+
+    private static final AliasTable EMPTY = new AliasTable(new double[0], new int[0], new double[0]);
+
+    private final double[] prob;
+    private final int[] alias;
+    private final double[] probabilities;
+
+    private AliasTable(double[] prob, int[] alias, double[] probabilities) {
+        this.prob = prob;
+        this.alias = alias;
+        this.probabilities = probabilities;
+    }
+
+    /**
+     * 가중치 배열로 테이블 생성 (음수/NaN 가중치는 0으로 취급, 합이 0이면 빈 테이블)
+     */
+    public static AliasTable of(double[] weights) {
+        int n = weights.length;
+        double total = 0;
+        for (double weight : weights) {
+            total += sanitize(weight);
+        }
+        if (n == 0 || total <= 0) {
+            return EMPTY;
+        }
+
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallSize = 0;
+        int largeSize = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = sanitize(weights[i]) * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
+            }
+        }
+
+        double[] prob = new double[n];
+        int[] alias = new int[n];
+        while (smallSize > 0 && largeSize > 0) {
+            int less = small[--smallSize];
+            int more = large[--largeSize];
+            prob[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallSize++] = more;
+            } else {
+                large[largeSize++] = more;
+            }
+        }
+        // 남은 항목은 부동소수 오차만큼의 차이이므로 자기 자신으로 채움
+        while (largeSize > 0) {
+            int i = large[--largeSize];
+            prob[i] = 1.0;
+            alias[i] = i;
+        }
+        while (smallSize > 0) {
+            int i = small[--smallSize];
+            prob[i] = 1.0;
+            alias[i] = i;
+        }
+
+        return new AliasTable(prob, alias, computeProbabilities(prob, alias));
+    }
+
+    /**
+     * 인덱스 1개 선택
+     */
+    public int sample(SplittableRandom random) {
+        int column = random.nextInt(prob.length);
+        return random.nextDouble() < prob[column] ? column : alias[column];
+    }
+
+    /**
+     * 테이블 기준 실제 선택 확률
+     */
+    public double probabilityOf(int index) {
+        return probabilities[index];
+    }
+
+    public int size() {
+        return prob.length;
+    }
+
+    public boolean isEmpty() {
+        return prob.length == 0;
+    }
+
+    /**
+     * 각 칸은 1/n 확률로 선택되고, 그 안에서 prob[i]는 자기 자신, 나머지는 alias[i]로 넘어감
+     */
+    private static double[] computeProbabilities(double[] prob, int[] alias) {
+        int n = prob.length;
+        double[] probabilities = new double[n];
+        for (int i = 0; i < n; i++) {
+            probabilities[i] += prob[i] / n;
+            probabilities[alias[i]] += (1.0 - prob[i]) / n;
+        }
+        return probabilities;
+    }
+
+    private static double sanitize(double weight) {
+        return weight > 0 && Double.isFinite(weight) ? weight : 0;
+    }
+}
@@ -0,0 +1,81 @@
+package com.loga.domain.gacha.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.loga.domain.gacha.dto.ChampionshipOddsResponse;
+import com.loga.domain.player.entity.Championship;
+import com.loga.domain.player.entity.Player;
+import com.loga.domain.player.service.ChampionshipMatcher;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 우승 로스터 적중 확률 계산기
+ *
+ * 전체 로스터 뽑기는 포지션별로 독립 추첨하므로, 특정 우승 로스터가 나올 확률은 다섯 선수의 포지션별 선택 확률의 곱으로 정확히 계산됩니다. 결과는 뽑기 풀과 우승 로스터 테이블의 버전이
+ * 바뀔 때까지 캐시합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChampionshipOddsCalculator {
+
+    private final PlayerDrawPool playerDrawPool;
+    private final ChampionshipMatcher championshipMatcher;
+
+    private volatile Cached cached;
+
+    /**
+     * 우승 로스터별 적중 확률 (캐시)
+     */
+    public ChampionshipOddsResponse getOdds() {
+        long poolVersion = playerDrawPool.getVersion();
+        long matcherVersion = championshipMatcher.getVersion();
+        Cached current = cached;
+        if (current != null && current.matches(poolVersion, matcherVersion)) {
+            return current.odds();
+        }
+        return recompute(poolVersion, matcherVersion);
+    }
+
+    private synchronized ChampionshipOddsResponse recompute(long poolVersion, long matcherVersion) {
+        Cached current = cached;
+        if (current != null && current.matches(poolVersion, matcherVersion)) {
+            return current.odds();
+        }
+
+        List<ChampionshipOddsResponse.ChampionshipOdds> odds = new ArrayList<>();
+        for (Championship championship : championshipMatcher.getChampionships()) {
+            Championship.RosterPlayers players = championship.getPlayers();
+            double probability = playerDrawPool.probabilityOf(Player.Position.TOP, players.getTopPlayerId())
+                    * playerDrawPool.probabilityOf(Player.Position.JUNGLE, players.getJunglePlayerId())
+                    * playerDrawPool.probabilityOf(Player.Position.MID, players.getMidPlayerId())
+                    * playerDrawPool.probabilityOf(Player.Position.ADC, players.getAdcPlayerId())
+                    * playerDrawPool.probabilityOf(Player.Position.SUPPORT, players.getSupportPlayerId());
+
+            odds.add(ChampionshipOddsResponse.ChampionshipOdds.builder()
+                    .championshipId(championship.getId())
+                    .displayName(championship.getDisplayName())
+                    .year(championship.getYear())
+                    .team(championship.getTeam())
+                    .probability(probability)
+                    .expectedDraws(probability > 0 ? 1 / probability : null)
+                    .build());
+        }
+        odds.sort(Comparator.comparingDouble(ChampionshipOddsResponse.ChampionshipOdds::getProbability).reversed());
+
+        ChampionshipOddsResponse result = ChampionshipOddsResponse.of(odds);
+        cached = new Cached(poolVersion, matcherVersion, result);
+        return result;
+    }
+
+    private record Cached(long poolVersion, long matcherVersion, ChampionshipOddsResponse odds) {
+
+        boolean matches(long poolVersion, long matcherVersion) {
+            return this.poolVersion == poolVersion && this.matcherVersion == matcherVersion;
+        }
+    }
+}
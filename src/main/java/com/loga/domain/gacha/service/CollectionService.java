@@ -0,0 +1,58 @@
+package com.loga.domain.gacha.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.loga.domain.gacha.dto.CollectionResponse;
+import com.loga.domain.gacha.entity.UserCollection;
+import com.loga.domain.gacha.repository.UserCollectionRepository;
+import com.loga.domain.player.entity.Player;
+import com.loga.global.error.BusinessException;
+import com.loga.global.error.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 카드 도감 서비스
+ */
+@Service
+@RequiredArgsConstructor
+public class CollectionService {
+
+    private final UserCollectionRepository userCollectionRepository;
+    private final PlayerDrawPool playerDrawPool;
+
+    /**
+     * 포지션별 보유 / 전체 카드 수 (워드 단위 AND + bitCount, O(선수 수 / 64))
+     */
+    public CollectionResponse getCollection(String userId) {
+        if (userId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+
+        long[] owned = userCollectionRepository.findById(userId)
+                .map(collection -> collection.toWords(playerDrawPool.collectionWordCount()))
+                .orElse(new long[0]);
+
+        List<CollectionResponse.PositionProgress> positions = new ArrayList<>();
+        for (Player.Position position : Player.Position.values()) {
+            long[] mask = playerDrawPool.collectionMask(position);
+            int ownedCount = 0;
+            int total = 0;
+            for (int i = 0; i < mask.length; i++) {
+                total += Long.bitCount(mask[i]);
+                if (i < owned.length) {
+                    ownedCount += Long.bitCount(mask[i] & owned[i]);
+                }
+            }
+            positions.add(CollectionResponse.PositionProgress.builder()
+                    .position(position.name())
+                    .owned(ownedCount)
+                    .total(total)
+                    .build());
+        }
+        return CollectionResponse.of(positions);
+    }
+}
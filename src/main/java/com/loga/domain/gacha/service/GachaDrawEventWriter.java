@@ -0,0 +1,151 @@
+package com.loga.domain.gacha.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.loga.domain.gacha.dto.GachaResultResponse;
+import com.loga.domain.gacha.entity.GachaDrawEvent;
+import com.loga.domain.gacha.event.GachaDrawnEvent;
+import com.loga.domain.gacha.repository.GachaDrawEventRepository;
+import com.loga.domain.player.dto.PlayerResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가챠 뽑기 이벤트 배치 기록기
+ *
+ * 뽑기 이벤트를 메모리 버퍼에 모았다가 배치 크기(기본 500건)가 차거나 주기(기본 200ms)가 되면 insertMany 한 번으로 기록합니다. 분석용 로그이므로 버퍼가 가득 차면 가장 최근 이벤트를
+ * 버리고 카운터로 남깁니다.
+ */
+@Slf4j
+@Component
+public class GachaDrawEventWriter {
+
+    private final GachaDrawEventRepository gachaDrawEventRepository;
+
+    private final BlockingQueue<GachaDrawEvent> buffer;
+    private final int batchSize;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failureCounter;
+
+    public GachaDrawEventWriter(GachaDrawEventRepository gachaDrawEventRepository, MeterRegistry meterRegistry,
+            @Value("${gacha.draw-event.buffer-capacity:50000}") int bufferCapacity,
+            @Value("${gacha.draw-event.batch-size:500}") int batchSize) {
+        this.gachaDrawEventRepository = gachaDrawEventRepository;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.writtenCounter = Counter.builder("gacha.draw-events.written")
+                .description("Draw events inserted into the time series collection")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("gacha.draw-events.dropped")
+                .description("Draw events dropped because the buffer was full")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("gacha.draw-events.failures")
+                .description("Failed batch inserts of draw events")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Time Series 컬렉션 생성 (자동 생성 시 일반 컬렉션이 되므로 먼저 명시적으로 생성)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            gachaDrawEventRepository.createCollectionIfAbsent();
+        } catch (RuntimeException e) {
+            log.error("Failed to create gacha draw event time series collection", e);
+        }
+    }
+
+    /**
+     * 뽑기 결과를 선수 단위 이벤트로 펼쳐 버퍼에 추가
+     */
+    public void append(GachaDrawnEvent event) {
+        for (GachaResultResponse result : event.results()) {
+            if (result.getPlayer() != null) {
+                offer(event, result.getPlayer(), false);
+            }
+            for (PlayerResponse player : new PlayerResponse[] { result.getTop(), result.getJungle(),
+                    result.getMid(), result.getAdc(), result.getSupport() }) {
+                if (player != null) {
+                    offer(event, player, result.isChampionshipRoster());
+                }
+            }
+        }
+
+        // 배치 크기가 찼으면 주기를 기다리지 않고 기록
+        if (buffer.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * 버퍼의 이벤트를 배치 단위로 기록 (다른 스레드가 기록 중이면 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${gacha.draw-event.flush-interval-ms:200}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            drain();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 진행 중인 기록을 기다린 뒤 남은 이벤트 기록
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLock.lock();
+        try {
+            drain();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void drain() {
+        List<GachaDrawEvent> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void offer(GachaDrawnEvent event, PlayerResponse player, boolean championship) {
+        GachaDrawEvent drawEvent = GachaDrawEvent.create(event.userId(), player.getPosition(), player.getId(),
+                championship, event.drawnAt());
+        if (!buffer.offer(drawEvent)) {
+            droppedCounter.increment();
+        }
+    }
+
+    private void write(List<GachaDrawEvent> batch) {
+        try {
+            gachaDrawEventRepository.insert(batch);
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            log.error("Failed to insert {} gacha draw events", batch.size(), e);
+        }
+    }
+}
@@ -1,16 +1,28 @@
 package com.loga.domain.gacha.service;
 
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.loga.domain.gacha.dto.ChampionshipOddsResponse;
+import com.loga.domain.gacha.dto.GachaDrawRollupResponse;
+import com.loga.domain.gacha.dto.GachaMultiResultResponse;
+import com.loga.domain.gacha.dto.GachaOddsResponse;
 import com.loga.domain.gacha.dto.GachaResultResponse;
+import com.loga.domain.gacha.event.GachaDrawnEvent;
+import com.loga.domain.gacha.repository.GachaDrawEventRepository;
+import com.loga.domain.gacha.repository.UserCollectionRepository;
 import com.loga.domain.player.dto.PlayerResponse;
 import com.loga.domain.player.entity.Championship;
 import com.loga.domain.player.entity.Player;
-import com.loga.domain.player.repository.ChampionshipRepository;
-import com.loga.domain.player.repository.PlayerRepository;
+import com.loga.domain.player.service.ChampionshipMatcher;
 import com.loga.domain.user.entity.User;
 import com.loga.domain.user.repository.UserRepository;
 import com.loga.global.error.BusinessException;
@@ -27,28 +39,40 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class GachaService {
 
-    private final PlayerRepository playerRepository;
-    private final ChampionshipRepository championshipRepository;
+    private static final int MAX_MULTI_DRAW_COUNT = 50;
+    private static final Duration MAX_HOURLY_ROLLUP_RANGE = Duration.ofDays(31);
+    private static final Duration MAX_DAILY_ROLLUP_RANGE = Duration.ofDays(366);
+
+    private final PlayerDrawPool playerDrawPool;
+    private final GachaSideEffectPipeline sideEffectPipeline;
+    private final ChampionshipMatcher championshipMatcher;
+    private final ChampionshipOddsCalculator championshipOddsCalculator;
     private final UserRepository userRepository;
+    private final GachaDrawEventRepository gachaDrawEventRepository;
+    private final UserCollectionRepository userCollectionRepository;
 
     /**
      * 특정 포지션에서 랜덤 선수 뽑기
      */
     @Transactional
     public GachaResultResponse drawByPosition(String position, String userId) {
-        Player.Position pos = Player.Position.valueOf(position.toUpperCase());
+        return drawByPosition(position, userId, false);
+    }
 
-        Player player = playerRepository.findRandomByPosition(pos.name())
-                .orElseThrow(() -> new BusinessException(ErrorCode.NO_PLAYERS_AVAILABLE));
+    /**
+     * 특정 포지션에서 랜덤 선수 뽑기 (excludeOwned: 프리미엄 회원 전용, 이미 보유한 카드 제외)
+     */
+    @Transactional
+    public GachaResultResponse drawByPosition(String position, String userId, boolean excludeOwned) {
+        Player.Position pos = Player.Position.valueOf(position.toUpperCase());
 
-        // 뽑힌 횟수 증가
-        player.picked();
-        playerRepository.save(player);
+        PlayerResponse player = excludeOwned ? pickUnownedPlayer(pos, userId) : pickRandomPlayer(pos);
+        GachaResultResponse result = GachaResultResponse.ofSingle(player);
 
-        // 유저 통계 업데이트
-        updateUserGachaStats(userId, 1, false);
+        // 뽑힌 횟수 / 유저 통계는 비동기 반영
+        sideEffectPipeline.publish(GachaDrawnEvent.of(userId, 1, result));
 
-        return GachaResultResponse.ofSingle(PlayerResponse.from(player));
+        return result;
     }
 
     /**
@@ -56,32 +80,42 @@ public class GachaService {
      */
     @Transactional
     public GachaResultResponse drawFullRoster(String userId) {
-        Player top = drawRandomPlayer(Player.Position.TOP);
-        Player jungle = drawRandomPlayer(Player.Position.JUNGLE);
-        Player mid = drawRandomPlayer(Player.Position.MID);
-        Player adc = drawRandomPlayer(Player.Position.ADC);
-        Player support = drawRandomPlayer(Player.Position.SUPPORT);
+        GachaResultResponse result = toFullRosterResult(pickRandomRoster());
 
-        // 우승 로스터 체크
-        Optional<Championship> matched = championshipRepository.findByRosterPlayers(
-                top.getId(), jungle.getId(), mid.getId(), adc.getId(), support.getId());
+        // 뽑힌 횟수 / 유저 통계는 비동기 반영
+        sideEffectPipeline.publish(GachaDrawnEvent.of(userId, 5, result));
 
-        boolean isChampionship = matched.isPresent();
-        String matchedChampionship = matched.map(Championship::getDisplayName).orElse(null);
-        Integer matchedYear = matched.map(Championship::getYear).orElse(null);
+        return result;
+    }
 
-        // 유저 통계 업데이트
-        updateUserGachaStats(userId, 5, isChampionship);
+    /**
+     * 연속 뽑기 (N회)
+     *
+     * 포지션을 지정하면 해당 포지션 단일 뽑기를, 지정하지 않으면 전체 로스터 뽑기를 N회 수행합니다. 뽑힌 횟수와 유저 통계는 요청 단위 이벤트 하나로 비동기 반영합니다.
+     */
+    @Transactional
+    public GachaMultiResultResponse drawMany(int count, String position, String userId) {
+        if (count < 1 || count > MAX_MULTI_DRAW_COUNT) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                    "Draw count must be between 1 and " + MAX_MULTI_DRAW_COUNT);
+        }
 
-        return GachaResultResponse.ofFullRoster(
-                PlayerResponse.from(top),
-                PlayerResponse.from(jungle),
-                PlayerResponse.from(mid),
-                PlayerResponse.from(adc),
-                PlayerResponse.from(support),
-                isChampionship,
-                matchedChampionship,
-                matchedYear);
+        Player.Position pos = position != null ? Player.Position.valueOf(position.toUpperCase()) : null;
+        List<GachaResultResponse> results = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            if (pos != null) {
+                results.add(GachaResultResponse.ofSingle(pickRandomPlayer(pos)));
+            } else {
+                results.add(toFullRosterResult(pickRandomRoster()));
+            }
+        }
+
+        // 뽑힌 횟수 / 유저 통계는 비동기 일괄 반영
+        int totalPicks = pos != null ? count : count * 5;
+        sideEffectPipeline.publish(GachaDrawnEvent.of(userId, totalPicks, results));
+
+        return GachaMultiResultResponse.of(results);
     }
 
     /**
@@ -93,33 +127,111 @@ public class GachaService {
             throw new BusinessException(ErrorCode.UNAUTHORIZED);
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Player.Position pos = Player.Position.valueOf(position.toUpperCase());
+        PlayerResponse player = pickRandomPlayer(pos);
 
-        if (!user.canReroll()) {
+        // 리롤 차감 + 유저 통계 업데이트 (단일 조건부 업데이트)
+        if (!userRepository.consumeReroll(userId, 1)) {
+            if (!userRepository.existsById(userId)) {
+                throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+            }
             throw new BusinessException(ErrorCode.NO_REROLL_LEFT);
         }
 
-        user.useReroll();
-        userRepository.save(user);
+        // 유저 통계는 위에서 반영했으므로 뽑힌 횟수만 비동기 반영
+        GachaResultResponse result = GachaResultResponse.ofSingle(player);
+        sideEffectPipeline.publish(GachaDrawnEvent.of(userId, 0, result));
+        return result;
+    }
+
+    /**
+     * 포지션별 카드 확률표 조회
+     */
+    public GachaOddsResponse getOdds(String position) {
+        Player.Position pos = Player.Position.valueOf(position.toUpperCase());
+        return playerDrawPool.getOdds(pos);
+    }
+
+    /**
+     * 우승 로스터별 적중 확률 조회 (전체 로스터 뽑기 1회 기준)
+     */
+    public ChampionshipOddsResponse getChampionshipOdds() {
+        return championshipOddsCalculator.getOdds();
+    }
+
+    /**
+     * 시간/일 단위 뽑기 집계 조회
+     *
+     * 기간을 지정하지 않으면 시간 단위는 최근 24시간, 일 단위는 최근 30일을 집계합니다.
+     */
+    public List<GachaDrawRollupResponse> getDrawRollup(String unit, Instant from, Instant to, String position,
+            String timezone) {
+        boolean hourly = "HOUR".equalsIgnoreCase(unit);
+        if (!hourly && !"DAY".equalsIgnoreCase(unit)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "Rollup unit must be HOUR or DAY");
+        }
+
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : end.minus(hourly ? Duration.ofHours(24) : Duration.ofDays(30));
+        Duration maxRange = hourly ? MAX_HOURLY_ROLLUP_RANGE : MAX_DAILY_ROLLUP_RANGE;
+        if (!start.isBefore(end) || Duration.between(start, end).compareTo(maxRange) > 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                    "Rollup range must be positive and at most " + maxRange.toDays() + " days");
+        }
 
-        return drawByPosition(position, userId);
+        String pos = position != null ? Player.Position.valueOf(position.toUpperCase()).name() : null;
+        return gachaDrawEventRepository.rollup(hourly ? "hour" : "day", toZoneId(timezone), start, end, pos);
     }
 
-    private Player drawRandomPlayer(Player.Position position) {
-        Player player = playerRepository.findRandomByPosition(position.name())
+    private String toZoneId(String timezone) {
+        try {
+            return ZoneId.of(timezone).getId();
+        } catch (DateTimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "Invalid timezone: " + timezone);
+        }
+    }
+
+    private PlayerResponse pickRandomPlayer(Player.Position position) {
+        return playerDrawPool.draw(position)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NO_PLAYERS_AVAILABLE));
-        player.picked();
-        playerRepository.save(player);
-        return player;
     }
 
-    private void updateUserGachaStats(String userId, int count, boolean isChampionship) {
-        if (userId != null) {
-            userRepository.findById(userId).ifPresent(user -> {
-                user.incrementGachaCount(count);
-                userRepository.save(user);
-            });
+    private PlayerResponse pickUnownedPlayer(Player.Position position, String userId) {
+        if (userId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        User.MembershipInfo membership = userRepository.findMembershipById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        if (!membership.isPremium()) {
+            throw new BusinessException(ErrorCode.PREMIUM_REQUIRED);
         }
+
+        long[] owned = userCollectionRepository.findById(userId)
+                .map(collection -> collection.toWords(playerDrawPool.collectionWordCount()))
+                .orElse(new long[0]);
+        return playerDrawPool.drawExcluding(position, owned)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NO_PLAYERS_AVAILABLE));
+    }
+
+    private PlayerDrawPool.DrawnRoster pickRandomRoster() {
+        return playerDrawPool.drawRoster()
+                .orElseThrow(() -> new BusinessException(ErrorCode.NO_PLAYERS_AVAILABLE));
+    }
+
+    private GachaResultResponse toFullRosterResult(PlayerDrawPool.DrawnRoster roster) {
+        // 우승 로스터 체크
+        Optional<Championship> matched = championshipMatcher.match(
+                roster.top().getId(), roster.jungle().getId(), roster.mid().getId(), roster.adc().getId(),
+                roster.support().getId());
+
+        return GachaResultResponse.ofFullRoster(
+                roster.top(),
+                roster.jungle(),
+                roster.mid(),
+                roster.adc(),
+                roster.support(),
+                matched.isPresent(),
+                matched.map(Championship::getDisplayName).orElse(null),
+                matched.map(Championship::getYear).orElse(null));
     }
 }
@@ -0,0 +1,288 @@
+package com.loga.domain.gacha.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.loga.domain.gacha.event.GachaDrawnEvent;
+import com.loga.domain.gacha.repository.UserCollectionRepository;
+import com.loga.domain.user.repository.UserRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 뽑기 부수 효과 비동기 파이프라인
+ *
+ * 뽑기 요청은 결과가 정해지면 {@link GachaDrawnEvent}를 제한된 크기의 큐에 넣고 바로 응답합니다. Virtual Thread 소비자가 이벤트를 배치로 꺼내 사용자별 가챠 횟수를 합산한 뒤
+ * 한 번의 bulkWrite($inc)로, 카드 도감은 사용자별 $bit or로 반영하고, 뽑힌 횟수는 {@link PickCountAggregator}에, 이벤트 로그는 {@link GachaDrawEventWriter}에 넘깁니다. 큐가 가득 차면 요청 스레드에서 동기로 처리하여 이벤트를 잃지 않습니다.
+ *
+ * 도감 반영에 실패한 비트는 버리지 않고 모아 두었다가 다음 배치 또는 재시도 주기에 합쳐서 다시 씁니다 ($bit or는 멱등이므로 중복 반영되어도 안전). 가챠 횟수도 같은 방식으로
+ * 재시도하되, $inc는 멱등이 아니므로 {@link PickCountAggregator}처럼 bulkWrite에서 실패한 사용자의 증가량만 다시 모아 둡니다.
+ */
+@Slf4j
+@Component
+public class GachaSideEffectPipeline {
+
+    private static final long POLL_TIMEOUT_MS = 200;
+
+    private final UserRepository userRepository;
+    private final PickCountAggregator pickCountAggregator;
+    private final GachaDrawEventWriter drawEventWriter;
+    private final UserCollectionRepository userCollectionRepository;
+    private final PlayerDrawPool playerDrawPool;
+
+    private final BlockingQueue<GachaDrawnEvent> queue;
+    private final int consumerCount;
+    private final int batchSize;
+    private final List<Thread> consumers = new ArrayList<>();
+
+    // 도감 반영에 실패해 재시도를 기다리는 비트 (사용자 ID → 워드 번호 → 비트)
+    private final Map<String, Map<Integer, Long>> failedCollections = new HashMap<>();
+
+    // 가챠 횟수 반영에 실패해 재시도를 기다리는 증가량 (사용자 ID → 증가량)
+    private final Map<String, Long> failedGachaCounts = new HashMap<>();
+
+    private final Counter publishedCounter;
+    private final Counter fallbackCounter;
+    private final Counter failureCounter;
+
+    private volatile boolean running = false;
+
+    public GachaSideEffectPipeline(UserRepository userRepository, PickCountAggregator pickCountAggregator,
+            GachaDrawEventWriter drawEventWriter, UserCollectionRepository userCollectionRepository,
+            PlayerDrawPool playerDrawPool, MeterRegistry meterRegistry,
+            @Value("${gacha.side-effect.queue-capacity:10000}") int queueCapacity,
+            @Value("${gacha.side-effect.consumers:2}") int consumerCount,
+            @Value("${gacha.side-effect.batch-size:500}") int batchSize) {
+        this.userRepository = userRepository;
+        this.pickCountAggregator = pickCountAggregator;
+        this.drawEventWriter = drawEventWriter;
+        this.userCollectionRepository = userCollectionRepository;
+        this.playerDrawPool = playerDrawPool;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.consumerCount = consumerCount;
+        this.batchSize = batchSize;
+        this.publishedCounter = Counter.builder("gacha.side-effects.published")
+                .description("Draw events queued for asynchronous processing")
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("gacha.side-effects.sync-fallback")
+                .description("Draw events processed on the request thread because the queue was full")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("gacha.side-effects.failures")
+                .description("Failed batches of draw side effects")
+                .register(meterRegistry);
+        Gauge.builder("gacha.side-effects.queued", queue, BlockingQueue::size)
+                .description("Draw events waiting in the queue")
+                .register(meterRegistry);
+        Gauge.builder("gacha.side-effects.collection-retries", this, GachaSideEffectPipeline::getFailedCollectionCount)
+                .description("Users whose card collection update is waiting to be retried")
+                .register(meterRegistry);
+        Gauge.builder("gacha.side-effects.gacha-count-retries", this,
+                GachaSideEffectPipeline::getFailedGachaCountUserCount)
+                .description("Users whose gacha count increment is waiting to be retried")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Virtual Thread 소비자 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < consumerCount; i++) {
+            consumers.add(Thread.ofVirtual().name("gacha-side-effect-" + i).start(this::consume));
+        }
+        log.info("Gacha side-effect pipeline started with {} consumers", consumerCount);
+    }
+
+    /**
+     * 뽑기 이벤트 발행 (큐가 가득 차면 호출 스레드에서 동기 처리)
+     */
+    public void publish(GachaDrawnEvent event) {
+        if (running && queue.offer(event)) {
+            publishedCounter.increment();
+            return;
+        }
+        fallbackCounter.increment();
+        apply(List.of(event));
+    }
+
+    /**
+     * 종료 시 소비자를 멈추고 남은 이벤트 처리
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        synchronized (this) {
+            running = false;
+        }
+        for (Thread consumer : consumers) {
+            consumer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        List<GachaDrawnEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        apply(remaining);
+        if (getFailedCollectionCount() > 0 || getFailedGachaCountUserCount() > 0) {
+            log.warn("Shutting down with unapplied side effects: {} card collections, {} gacha counts",
+                    getFailedCollectionCount(), getFailedGachaCountUserCount());
+        }
+    }
+
+    /**
+     * 실패한 도감 비트와 가챠 횟수 재시도 (새 이벤트가 없어도 주기적으로 반영)
+     */
+    @Scheduled(fixedDelayString = "${gacha.side-effect.retry-interval-ms:5000}")
+    public void retryFailedWrites() {
+        addCards(new HashMap<>());
+        incrementGachaCounts(new HashMap<>());
+    }
+
+    /**
+     * 도감 반영 재시도를 기다리는 사용자 수
+     */
+    public int getFailedCollectionCount() {
+        synchronized (failedCollections) {
+            return failedCollections.size();
+        }
+    }
+
+    /**
+     * 가챠 횟수 반영 재시도를 기다리는 사용자 수
+     */
+    public int getFailedGachaCountUserCount() {
+        synchronized (failedGachaCounts) {
+            return failedGachaCounts.size();
+        }
+    }
+
+    private void consume() {
+        List<GachaDrawnEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                GachaDrawnEvent first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                apply(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // 예외로 소비자가 종료되면 큐가 줄지 않아 모든 발행이 동기 처리로 밀리므로 배치만 버리고 계속 소비
+                failureCounter.increment();
+                log.error("Failed to process {} draw events", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void apply(List<GachaDrawnEvent> events) {
+        Map<String, Long> gachaCounts = new HashMap<>();
+        Map<String, Map<Integer, Long>> collectionMasks = new HashMap<>();
+        for (GachaDrawnEvent event : events) {
+            List<String> playerIds = event.pickedPlayerIds();
+            playerIds.forEach(pickCountAggregator::record);
+            drawEventWriter.append(event);
+            if (event.userId() != null) {
+                if (event.gachaCount() > 0) {
+                    gachaCounts.merge(event.userId(), (long) event.gachaCount(), Long::sum);
+                }
+                addToCollection(collectionMasks.computeIfAbsent(event.userId(), id -> new HashMap<>()), playerIds);
+            }
+        }
+
+        addCards(collectionMasks);
+        incrementGachaCounts(gachaCounts);
+    }
+
+    /**
+     * 가챠 횟수 반영 (이전에 실패한 증가량을 합쳐서 쓰고, 반영되지 않은 증가량은 다시 모아 둠)
+     */
+    private void incrementGachaCounts(Map<String, Long> gachaCounts) {
+        synchronized (failedGachaCounts) {
+            failedGachaCounts.forEach((userId, count) -> gachaCounts.merge(userId, count, Long::sum));
+            failedGachaCounts.clear();
+        }
+        if (gachaCounts.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> failed;
+        try {
+            failed = userRepository.bulkIncrementGachaCount(gachaCounts);
+        } catch (RuntimeException e) {
+            // 쓰기 결과를 받지 못했으면 배치 전체를 재시도
+            log.error("Failed to apply gacha stats for {} users, will retry", gachaCounts.size(), e);
+            failed = gachaCounts;
+        }
+        if (failed.isEmpty()) {
+            return;
+        }
+
+        failureCounter.increment();
+        synchronized (failedGachaCounts) {
+            failed.forEach((userId, count) -> failedGachaCounts.merge(userId, count, Long::sum));
+        }
+        log.warn("Gacha stats of {} users were not applied, will retry", failed.size());
+    }
+
+    /**
+     * 도감 비트 반영 (이전에 실패한 비트를 합쳐서 쓰고, 실패하면 다시 모아 둠)
+     */
+    private void addCards(Map<String, Map<Integer, Long>> collectionMasks) {
+        synchronized (failedCollections) {
+            mergeMasks(collectionMasks, failedCollections);
+            failedCollections.clear();
+        }
+        if (collectionMasks.isEmpty()) {
+            return;
+        }
+
+        try {
+            userCollectionRepository.bulkAddCards(collectionMasks);
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            synchronized (failedCollections) {
+                mergeMasks(failedCollections, collectionMasks);
+            }
+            log.error("Failed to update card collections for {} users, will retry", collectionMasks.size(), e);
+        }
+    }
+
+    private static void mergeMasks(Map<String, Map<Integer, Long>> target, Map<String, Map<Integer, Long>> source) {
+        source.forEach((userId, masks) -> {
+            Map<Integer, Long> targetMasks = target.computeIfAbsent(userId, id -> new HashMap<>());
+            masks.forEach((word, mask) -> targetMasks.merge(word, mask, (a, b) -> a | b));
+        });
+    }
+
+    private void addToCollection(Map<Integer, Long> masks, List<String> playerIds) {
+        for (String playerId : playerIds) {
+            int index = playerDrawPool.collectionIndexOf(playerId);
+            if (index >= 0) {
+                masks.merge(index >> 6, 1L << index, (a, b) -> a | b);
+            }
+        }
+    }
+}
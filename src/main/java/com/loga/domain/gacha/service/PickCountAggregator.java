@@ -0,0 +1,159 @@
+package com.loga.domain.gacha.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.loga.domain.player.repository.PlayerRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 선수 뽑힌 횟수(pickedCount) Write-Behind 집계기
+ *
+ * 뽑기마다 문서를 저장하지 않고 선수 ID별 LongAdder에 누적한 뒤, 주기적으로 한 번의 unordered bulkWrite($inc)로 반영합니다. 쓰기에 실패한 배치는 제한된 크기의 큐에 남아 다음
+ * 주기에 재시도됩니다. 일부 쓰기만 실패한 경우 이미 반영된 선수를 다시 보내면 중복 집계되므로, 실패한 선수의 증가량만 버퍼로 되돌립니다.
+ */
+@Slf4j
+@Component
+public class PickCountAggregator {
+
+    private final PlayerRepository playerRepository;
+
+    private final ConcurrentHashMap<String, LongAdder> buffer = new ConcurrentHashMap<>();
+    private final BlockingQueue<Map<String, Long>> flushQueue;
+
+    private final LongAdder pending = new LongAdder();
+    private final Counter recordedCounter;
+    private final Counter flushedCounter;
+    private final Counter failedFlushCounter;
+
+    public PickCountAggregator(PlayerRepository playerRepository, MeterRegistry meterRegistry,
+            @Value("${gacha.pick-count.flush-queue-capacity:64}") int flushQueueCapacity) {
+        this.playerRepository = playerRepository;
+        this.flushQueue = new ArrayBlockingQueue<>(flushQueueCapacity);
+        this.recordedCounter = Counter.builder("gacha.picks.recorded")
+                .description("Picks recorded into the write-behind buffer")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("gacha.picks.flushed")
+                .description("Picks written to MongoDB")
+                .register(meterRegistry);
+        this.failedFlushCounter = Counter.builder("gacha.picks.flush.failures")
+                .description("Failed bulk writes of buffered picks")
+                .register(meterRegistry);
+        Gauge.builder("gacha.picks.buffered", pending, LongAdder::sum)
+                .description("Picks buffered in memory and not yet written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 뽑힌 횟수 1 누적
+     */
+    public void record(String playerId) {
+        record(playerId, 1);
+    }
+
+    /**
+     * 뽑힌 횟수 누적
+     */
+    public void record(String playerId, long count) {
+        if (playerId == null || count <= 0) {
+            return;
+        }
+        buffer.computeIfAbsent(playerId, id -> new LongAdder()).add(count);
+        pending.add(count);
+        recordedCounter.increment(count);
+    }
+
+    /**
+     * 현재 버퍼를 배치로 봉인하고 큐에 쌓인 배치를 DB에 반영
+     */
+    @Scheduled(fixedDelayString = "${gacha.pick-count.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        seal();
+        drain();
+    }
+
+    /**
+     * 종료 시 남은 카운트 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (pending.sum() > 0) {
+            log.warn("Shutting down with {} unflushed picks", pending.sum());
+        }
+    }
+
+    /**
+     * 버퍼에 남아있는(아직 DB에 반영되지 않은) 카운트 합계
+     */
+    public long getBufferedCount() {
+        return pending.sum();
+    }
+
+    private void seal() {
+        Map<String, Long> batch = new HashMap<>();
+        buffer.forEach((playerId, adder) -> {
+            long count = adder.sumThenReset();
+            if (count > 0) {
+                batch.put(playerId, count);
+            }
+        });
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        if (!flushQueue.offer(batch)) {
+            // 큐가 가득 찬 경우 (DB 장애 지속) 버퍼로 되돌려 다음 주기에 다시 봉인
+            batch.forEach((playerId, count) -> buffer.computeIfAbsent(playerId, id -> new LongAdder()).add(count));
+            log.warn("Pick count flush queue is full ({} batches), deferring {} players", flushQueue.size(),
+                    batch.size());
+        }
+    }
+
+    private void drain() {
+        Map<String, Long> batch;
+        while ((batch = flushQueue.peek()) != null) {
+            Map<String, Long> failed;
+            try {
+                failed = playerRepository.bulkIncrementPickedCount(batch);
+            } catch (RuntimeException e) {
+                // 쓰기 결과를 받지 못한 경우 배치 전체를 다음 주기에 재시도
+                failedFlushCounter.increment();
+                log.error("Failed to flush pick counts ({} players), will retry", batch.size(), e);
+                return;
+            }
+            flushQueue.poll();
+
+            long flushed = sum(batch) - sum(failed);
+            pending.add(-flushed);
+            flushedCounter.increment(flushed);
+
+            if (!failed.isEmpty()) {
+                // 반영된 선수는 제외하고 실패한 선수만 버퍼로 되돌림 (pending에는 이미 포함)
+                failedFlushCounter.increment();
+                failed.forEach((playerId, count) -> buffer.computeIfAbsent(playerId, id -> new LongAdder()).add(count));
+                log.warn("Failed to flush pick counts of {} of {} players, will retry", failed.size(), batch.size());
+                return;
+            }
+        }
+    }
+
+    private static long sum(Map<String, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -0,0 +1,362 @@
+package com.loga.domain.gacha.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.loga.domain.gacha.dto.GachaOddsResponse;
+import com.loga.domain.player.dto.PlayerResponse;
+import com.loga.domain.player.entity.Player;
+import com.loga.domain.player.repository.PlayerRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 포지션별 인메모리 뽑기 풀
+ *
+ * 선수 카탈로그를 포지션별 배열(ID + 미리 직렬화한 카드)로 유지하여 뽑기 시 DB 조회와 카드 변환/직렬화 비용이 없습니다. 카탈로그가 바뀌면 스냅샷 전체를 새로 만들어 한 번에 교체합니다.
+ *
+ * 포지션별 선택은 카드 희귀도 가중치로 만든 Alias 테이블을 사용하므로 O(1)이며, 테이블 재구성은 요청 스레드가 아닌 시작/스케줄러 스레드에서만 일어납니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlayerDrawPool {
+
+    private static final String PLAYER_COLLECTION = "players";
+
+    // 보유 카드 제외 뽑기: 거부 표본 추출 최대 시도 횟수 / 보유 비율이 이 값을 넘으면 바로 미보유 목록에서 선택
+    private static final int MAX_REJECTION_ATTEMPTS = 16;
+    private static final double COMPLEMENT_THRESHOLD = 0.5;
+
+    private static final ThreadLocal<SplittableRandom> RANDOM = ThreadLocal.withInitial(SplittableRandom::new);
+
+    private final PlayerRepository playerRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile long version = 0;
+    private volatile boolean stale = false;
+
+    /**
+     * 애플리케이션 시작 시 풀 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    /**
+     * 주기적 전체 갱신 (외부에서 직접 수정된 데이터 반영)
+     */
+    @Scheduled(fixedDelayString = "${gacha.pool.refresh-interval-ms:300000}", initialDelayString = "${gacha.pool.refresh-interval-ms:300000}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    /**
+     * 변경 표시된 경우에만 갱신 (대량 저장 시 갱신을 한 번으로 묶음)
+     */
+    @Scheduled(fixedDelayString = "${gacha.pool.stale-check-interval-ms:5000}")
+    public void refreshIfStale() {
+        if (stale) {
+            refresh();
+        }
+    }
+
+    /**
+     * 선수 문서 저장/삭제 시 풀을 변경 상태로 표시
+     */
+    @EventListener
+    public void onCatalogChanged(MongoMappingEvent<?> event) {
+        if ((event instanceof AfterSaveEvent || event instanceof AfterDeleteEvent)
+                && PLAYER_COLLECTION.equals(event.getCollectionName())) {
+            stale = true;
+        }
+    }
+
+    /**
+     * 카탈로그 전체를 다시 읽어 스냅샷 교체
+     */
+    public synchronized void refresh() {
+        stale = false;
+        try {
+            int assigned = playerRepository.assignMissingCollectionIndexes();
+            if (assigned > 0) {
+                log.info("Assigned collection indexes to {} players", assigned);
+            }
+            Snapshot next = Snapshot.of(playerRepository.findCatalog());
+            snapshot = next;
+            version++;
+            log.info("Player draw pool refreshed: {} players", next.size());
+        } catch (RuntimeException e) {
+            stale = true;
+            log.error("Failed to refresh player draw pool, keeping previous snapshot", e);
+        }
+    }
+
+    /**
+     * 포지션에서 희귀도 가중치에 따라 카드 1장 선택
+     */
+    public Optional<PlayerResponse> draw(Player.Position position) {
+        PositionPool pool = snapshot.pools()[position.ordinal()];
+        if (pool.aliasTable().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(pick(pool, RANDOM.get()));
+    }
+
+    /**
+     * 보유하지 않은 카드 중에서 희귀도 가중치에 따라 1장 선택
+     *
+     * 보유 카드 수는 포지션 컬렉션 마스크와 AND한 워드별 bitCount로 세므로 카드 수가 아닌 워드 수(전체 카드 / 64)에 비례합니다. 보유 비율이 낮으면 일반 뽑기 후 보유 카드를
+     * 거부하는 방식(시도당 O(1))으로, 높거나 거부가 계속되면 미보유 카드 목록을 만들어 가중치 비례로 선택합니다(O(n)). 모두 보유한 경우 일반 뽑기와 같습니다.
+     *
+     * @param owned 사용자 컬렉션 비트셋 워드
+     */
+    public Optional<PlayerResponse> drawExcluding(Player.Position position, long[] owned) {
+        // 풀과 마스크를 같은 스냅샷에서 읽음
+        Snapshot current = snapshot;
+        PositionPool pool = current.pools()[position.ordinal()];
+        if (pool.aliasTable().isEmpty()) {
+            return Optional.empty();
+        }
+
+        SplittableRandom random = RANDOM.get();
+        long[] mask = current.collectionMasks()[position.ordinal()];
+        int ownedCount = 0;
+        for (int word = 0; word < Math.min(mask.length, owned.length); word++) {
+            ownedCount += Long.bitCount(mask[word] & owned[word]);
+        }
+
+        if (ownedCount <= pool.size() * COMPLEMENT_THRESHOLD) {
+            for (int attempt = 0; attempt < MAX_REJECTION_ATTEMPTS; attempt++) {
+                int candidate = pool.aliasTable().sample(random);
+                if (!isOwned(owned, pool.collectionIndexes()[candidate])) {
+                    return Optional.of(pool.cards()[candidate]);
+                }
+            }
+        }
+
+        // 미보유 카드 목록에서 가중치 비례 선택
+        int[] candidates = new int[pool.size() - ownedCount];
+        double[] cumulative = new double[candidates.length];
+        int count = 0;
+        double total = 0;
+        for (int i = 0; i < pool.size(); i++) {
+            if (!isOwned(owned, pool.collectionIndexes()[i]) && pool.aliasTable().probabilityOf(i) > 0) {
+                total += pool.aliasTable().probabilityOf(i);
+                candidates[count] = i;
+                cumulative[count] = total;
+                count++;
+            }
+        }
+        if (count == 0) {
+            return Optional.of(pick(pool, random));
+        }
+
+        int found = Arrays.binarySearch(cumulative, 0, count, random.nextDouble() * total);
+        int slot = Math.min(found >= 0 ? found : -found - 1, count - 1);
+        return Optional.of(pool.cards()[candidates[slot]]);
+    }
+
+    /**
+     * 전체 로스터 5장 선택
+     *
+     * 다섯 포지션 모두 같은 스냅샷에서 뽑으므로 도중에 풀이 교체되어도 로스터가 섞이지 않으며, 비어 있는 포지션이 하나라도 있으면 아무것도 뽑지 않고 바로 실패합니다.
+     */
+    public Optional<DrawnRoster> drawRoster() {
+        PositionPool[] pools = snapshot.pools();
+        for (PositionPool pool : pools) {
+            if (pool.aliasTable().isEmpty()) {
+                return Optional.empty();
+            }
+        }
+
+        SplittableRandom random = RANDOM.get();
+        return Optional.of(new DrawnRoster(
+                pick(pools[Player.Position.TOP.ordinal()], random),
+                pick(pools[Player.Position.JUNGLE.ordinal()], random),
+                pick(pools[Player.Position.MID.ordinal()], random),
+                pick(pools[Player.Position.ADC.ordinal()], random),
+                pick(pools[Player.Position.SUPPORT.ordinal()], random)));
+    }
+
+    /**
+     * 포지션별 카드 확률표 (뽑기와 동일한 Alias 테이블로 계산)
+     */
+    public GachaOddsResponse getOdds(Player.Position position) {
+        PositionPool pool = snapshot.pools()[position.ordinal()];
+        List<GachaOddsResponse.CardOdds> cards = new ArrayList<>(pool.size());
+        for (int i = 0; i < pool.size(); i++) {
+            PlayerResponse card = pool.cards()[i];
+            cards.add(GachaOddsResponse.CardOdds.builder()
+                    .playerId(card.getId())
+                    .name(card.getName())
+                    .year(card.getYear())
+                    .teamShort(card.getTeamShort())
+                    .rarity(pool.rarities()[i].name())
+                    .weight(pool.weights()[i])
+                    .probability(pool.aliasTable().isEmpty() ? 0 : pool.aliasTable().probabilityOf(i))
+                    .build());
+        }
+        cards.sort(Comparator.comparingDouble(GachaOddsResponse.CardOdds::getProbability).reversed());
+        return GachaOddsResponse.of(position.name(), cards);
+    }
+
+    /**
+     * 특정 카드가 해당 포지션 뽑기 1회에서 나올 확률 (풀에 없으면 0)
+     */
+    public double probabilityOf(Player.Position position, String playerId) {
+        PositionPool pool = snapshot.pools()[position.ordinal()];
+        Integer index = pool.indexById().get(playerId);
+        if (index == null || pool.aliasTable().isEmpty()) {
+            return 0;
+        }
+        return pool.aliasTable().probabilityOf(index);
+    }
+
+    /**
+     * 스냅샷 버전 (교체될 때마다 증가, 파생 캐시 무효화용)
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 미리 직렬화된 카드 조회 (카탈로그 스냅샷 기준, pickedCount는 적재 시점 값)
+     */
+    public Optional<PlayerResponse> findCard(String playerId) {
+        return Optional.ofNullable(snapshot.cardsById().get(playerId));
+    }
+
+    /**
+     * 선수의 컬렉션 비트셋 인덱스 (없으면 -1)
+     */
+    public int collectionIndexOf(String playerId) {
+        Integer index = snapshot.collectionIndexById().get(playerId);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * 포지션별 카드가 차지하는 컬렉션 비트 마스크 (읽기 전용, 수정 금지)
+     */
+    public long[] collectionMask(Player.Position position) {
+        return snapshot.collectionMasks()[position.ordinal()];
+    }
+
+    /**
+     * 컬렉션 비트셋 워드 수
+     */
+    public int collectionWordCount() {
+        return snapshot.collectionMasks()[0].length;
+    }
+
+    /**
+     * 풀에 적재된 전체 카드 수
+     */
+    public int size() {
+        return snapshot.size();
+    }
+
+    private static boolean isOwned(long[] owned, int collectionIndex) {
+        int word = collectionIndex >> 6;
+        return collectionIndex >= 0 && word < owned.length && (owned[word] & (1L << collectionIndex)) != 0;
+    }
+
+    private static PlayerResponse pick(PositionPool pool, SplittableRandom random) {
+        return pool.cards()[pool.aliasTable().sample(random)];
+    }
+
+    /**
+     * 한 번에 뽑은 전체 로스터
+     */
+    public record DrawnRoster(PlayerResponse top, PlayerResponse jungle, PlayerResponse mid, PlayerResponse adc,
+            PlayerResponse support) {
+    }
+
+    // ===== Snapshot =====
+
+    private record PositionPool(String[] ids, Map<String, Integer> indexById, int[] collectionIndexes,
+            PlayerResponse[] cards,
+            Player.Rarity[] rarities, double[] weights, AliasTable aliasTable) {
+
+        int size() {
+            return ids.length;
+        }
+    }
+
+    private record Snapshot(PositionPool[] pools, Map<String, PlayerResponse> cardsById,
+            Map<String, Integer> collectionIndexById, long[][] collectionMasks, int size) {
+
+        static final Snapshot EMPTY = of(List.of());
+
+        static Snapshot of(List<Player> players) {
+            Player.Position[] positions = Player.Position.values();
+            List<List<Player>> grouped = new ArrayList<>(positions.length);
+            for (int i = 0; i < positions.length; i++) {
+                grouped.add(new ArrayList<>());
+            }
+            int latestSeason = 0;
+            int maxCollectionIndex = -1;
+            for (Player player : players) {
+                if (player.getPosition() != null) {
+                    grouped.get(player.getPosition().ordinal()).add(player);
+                    latestSeason = Math.max(latestSeason, player.getYear());
+                    if (player.getCollectionIndex() != null) {
+                        maxCollectionIndex = Math.max(maxCollectionIndex, player.getCollectionIndex());
+                    }
+                }
+            }
+            int wordCount = (maxCollectionIndex >> 6) + 1;
+            long[][] collectionMasks = new long[positions.length][wordCount];
+            Map<String, Integer> collectionIndexById = HashMap.newHashMap(players.size());
+
+            PositionPool[] pools = new PositionPool[positions.length];
+            Map<String, PlayerResponse> cardsById = HashMap.newHashMap(players.size());
+            int total = 0;
+            for (int i = 0; i < positions.length; i++) {
+                List<Player> group = grouped.get(i);
+                String[] ids = new String[group.size()];
+                PlayerResponse[] cards = new PlayerResponse[group.size()];
+                Player.Rarity[] rarities = new Player.Rarity[group.size()];
+                double[] weights = new double[group.size()];
+                Map<String, Integer> indexById = HashMap.newHashMap(group.size());
+                int[] collectionIndexes = new int[group.size()];
+                for (int j = 0; j < group.size(); j++) {
+                    Player player = group.get(j);
+                    ids[j] = player.getId();
+                    indexById.put(player.getId(), j);
+                    collectionIndexes[j] = player.getCollectionIndex() != null ? player.getCollectionIndex() : -1;
+                    if (player.getCollectionIndex() != null) {
+                        int index = player.getCollectionIndex();
+                        collectionIndexById.put(player.getId(), index);
+                        collectionMasks[i][index >> 6] |= 1L << index;
+                    }
+                    cards[j] = PlayerResponse.preserialized(player);
+                    cardsById.put(player.getId(), cards[j]);
+                    rarities[j] = player.getRarity(latestSeason);
+                    weights[j] = player.resolveDrawWeight(latestSeason);
+                }
+                pools[i] = new PositionPool(ids, indexById, collectionIndexes, cards, rarities, weights,
+                        AliasTable.of(weights));
+                total += ids.length;
+            }
+            return new Snapshot(pools, Map.copyOf(cardsById), Map.copyOf(collectionIndexById), collectionMasks,
+                    total);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.loga.domain.player.dto;
+
+/**
+ * 선수 목록 조회용 프로젝션
+ *
+ * 카드 본문은 카탈로그 스냅샷({@link com.loga.domain.player.service.PlayerCatalog})에서 가져오므로 목록 조회는 ID와 현재 pickedCount만 읽습니다.
+ */
+public record PlayerCardSummary(String id, int pickedCount) {
+}
@@ -1,16 +1,30 @@
 package com.loga.domain.player.dto;
 
+import java.io.StringWriter;
+
 import com.loga.domain.player.entity.Player;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.JacksonSerializable;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.jsontype.TypeSerializer;
 
 /**
  * 선수 응답 DTO Season Card Model
+ *
+ * 카탈로그 적재 시 {@link #preserialized(Player)}로 만든 카드는 pickedCount를 제외한 JSON 조각을 UTF-8로 미리 인코딩해 두고, 응답 시 그대로 복사한 뒤 pickedCount만
+ * 채워 넣습니다.
  */
 @Getter
-@Builder
-public class PlayerResponse {
+@Builder(toBuilder = true)
+public class PlayerResponse implements JacksonSerializable {
     private String id;
     private String name;
     private String realName;
@@ -29,6 +43,12 @@ public class PlayerResponse {
     private int pickedCount;
     private boolean isActive;
 
+    // 미리 직렬화한 JSON 조각 (pickedCount 앞/뒤)
+    @Getter(AccessLevel.NONE)
+    private SerializableString jsonHead;
+    @Getter(AccessLevel.NONE)
+    private SerializableString jsonTail;
+
     public static PlayerResponse from(Player player) {
         return PlayerResponse.builder()
                 .id(player.getId())
@@ -50,4 +70,89 @@ public class PlayerResponse {
                 .isActive(player.isActive())
                 .build();
     }
+
+    /**
+     * JSON 조각을 미리 직렬화한 카드 생성 (카탈로그 적재 시 사용)
+     */
+    public static PlayerResponse preserialized(Player player) {
+        PlayerResponse card = from(player);
+        card.jsonHead = new SerializedString(card.renderFragment(true));
+        card.jsonTail = new SerializedString(card.renderFragment(false));
+        return card;
+    }
+
+    /**
+     * pickedCount만 바꾼 카드 (미리 직렬화한 조각은 공유)
+     */
+    public PlayerResponse withPickedCount(int pickedCount) {
+        return toBuilder().pickedCount(pickedCount).build();
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializationContext context) throws JacksonException {
+        gen.writeStartObject(this);
+        if (jsonHead != null) {
+            // 조각에는 앞/뒤 쉼표가 포함되어 있으므로 pickedCount는 일반 프로퍼티로 기록
+            gen.writeRaw(jsonHead);
+            gen.writeNumberProperty("pickedCount", pickedCount);
+            gen.writeRaw(jsonTail);
+        } else {
+            writeHeadProperties(gen);
+            gen.writeNumberProperty("pickedCount", pickedCount);
+            writeTailProperties(gen);
+        }
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializationContext context, TypeSerializer typeSer)
+            throws JacksonException {
+        serialize(gen, context);
+    }
+
+    private void writeHeadProperties(JsonGenerator gen) {
+        gen.writeStringProperty("id", id);
+        gen.writeStringProperty("name", name);
+        gen.writeStringProperty("realName", realName);
+        gen.writeStringProperty("position", position);
+        gen.writeNumberProperty("year", year);
+        gen.writeStringProperty("teamShort", teamShort);
+        gen.writeStringProperty("teamFull", teamFull);
+        gen.writeStringProperty("teamColor", teamColor);
+        gen.writeStringProperty("region", region);
+        gen.writeStringProperty("nationality", nationality);
+        gen.writeStringProperty("iso", iso);
+        gen.writeBooleanProperty("winner", isWinner);
+        gen.writeStringProperty("championshipLeague", championshipLeague);
+        gen.writeName("championshipYear");
+        if (championshipYear != null) {
+            gen.writeNumber(championshipYear);
+        } else {
+            gen.writeNull();
+        }
+        gen.writeStringProperty("profileImage", profileImage);
+    }
+
+    private void writeTailProperties(JsonGenerator gen) {
+        gen.writeBooleanProperty("active", isActive);
+    }
+
+    /**
+     * pickedCount 앞(head: 끝에 쉼표) 또는 뒤(tail: 앞에 쉼표) 프로퍼티를 중괄호 없이 렌더링
+     */
+    private String renderFragment(boolean head) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator gen = JsonMapper.shared().createGenerator(writer)) {
+            gen.writeStartObject();
+            if (head) {
+                writeHeadProperties(gen);
+            } else {
+                writeTailProperties(gen);
+            }
+            gen.writeEndObject();
+        }
+        String object = writer.toString();
+        String properties = object.substring(1, object.length() - 1);
+        return head ? properties + "," : "," + properties;
+    }
 }
@@ -1,5 +1,7 @@
 package com.loga.domain.player.entity;
 
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.IndexDirection;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -11,12 +13,16 @@ import lombok.*;
  * 선수 도메인 엔티티 (Season Card Model) 각 문서는 특정 시즌의 선수 카드를 나타냄
  */
 @Document(collection = "players")
+@CompoundIndex(name = "position_picked", def = "{ 'position': 1, 'pickedCount': -1 }")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 public class Player extends BaseDocument {
 
+    // 최신 시즌보다 이 값 이상 오래된 시즌 카드는 클래식 카드로 취급
+    private static final int CLASSIC_SEASON_GAP = 5;
+
     @Indexed
     private String name;
 
@@ -41,6 +47,7 @@ public class Player extends BaseDocument {
 
     private String iso;
 
+    @Indexed
     private boolean isWinner;
 
     private String championshipLeague;
@@ -48,17 +55,36 @@ public class Player extends BaseDocument {
     private Integer championshipYear;
 
     @Builder.Default
+    @Indexed(direction = IndexDirection.DESCENDING)
     private int pickedCount = 0;
 
     private String profileImage;
 
+    // 컬렉션 비트셋 인덱스 (counters 문서에서 0부터 발급, 한 번 부여되면 변경되지 않음)
+    @Indexed(unique = true, sparse = true)
+    private Integer collectionIndex;
+
     @Builder.Default
     private boolean isActive = true;
 
+    // 뽑기 가중치 수동 지정 (null이면 희귀도 기본 가중치, 0이면 뽑기 제외)
+    private Double drawWeight;
+
     public enum Position {
         TOP, JUNGLE, MID, ADC, SUPPORT
     }
 
+    /**
+     * 카드 희귀도 (기본 뽑기 가중치)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Rarity {
+        COMMON(100), RARE(40), EPIC(15), LEGENDARY(5);
+
+        private final double weight;
+    }
+
     // ===== Factory Methods =====
 
     public static Player create(String id, String name, String realName, Position position, int year,
@@ -96,4 +122,25 @@ public class Player extends BaseDocument {
     public boolean isChampionshipMember() {
         return isWinner;
     }
+
+    /**
+     * 희귀도 계산 - 우승 멤버, 오래된 시즌일수록 희귀
+     */
+    public Rarity getRarity(int latestSeason) {
+        boolean classic = year > 0 && latestSeason - year >= CLASSIC_SEASON_GAP;
+        if (isWinner) {
+            return classic ? Rarity.LEGENDARY : Rarity.EPIC;
+        }
+        return classic ? Rarity.RARE : Rarity.COMMON;
+    }
+
+    /**
+     * 실제 뽑기 가중치 (수동 지정값 우선)
+     */
+    public double resolveDrawWeight(int latestSeason) {
+        if (drawWeight != null && drawWeight >= 0) {
+            return drawWeight;
+        }
+        return getRarity(latestSeason).getWeight();
+    }
 }
@@ -0,0 +1,79 @@
+package com.loga.domain.player.repository;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+
+import com.loga.domain.player.entity.Player;
+import com.loga.infrastructure.persistence.EntityCodec;
+
+/**
+ * 선수 BSON 코덱 (카탈로그 스냅샷 적재 시 리플렉션 매핑 생략)
+ *
+ * 필드를 추가하면 encodeFields/decodeField 양쪽에 반영해야 하며, PlayerCodecTest가 MappingMongoConverter와 결과를 비교합니다.
+ */
+public class PlayerCodec extends EntityCodec<Player, Player.PlayerBuilder> {
+
+    public PlayerCodec() {
+        super(Player.class);
+    }
+
+    @Override
+    protected Player.PlayerBuilder newBuilder() {
+        return Player.builder();
+    }
+
+    @Override
+    protected boolean decodeField(BsonReader reader, String field, Player.PlayerBuilder builder) {
+        switch (field) {
+            case "name" -> builder.name(reader.readString());
+            case "realName" -> builder.realName(reader.readString());
+            case "position" -> builder.position(readEnum(reader, Player.Position.class));
+            case "year" -> builder.year(readInt(reader));
+            case "teamShort" -> builder.teamShort(reader.readString());
+            case "teamFull" -> builder.teamFull(reader.readString());
+            case "teamColor" -> builder.teamColor(reader.readString());
+            case "region" -> builder.region(reader.readString());
+            case "nationality" -> builder.nationality(reader.readString());
+            case "iso" -> builder.iso(reader.readString());
+            case "isWinner" -> builder.isWinner(reader.readBoolean());
+            case "championshipLeague" -> builder.championshipLeague(reader.readString());
+            case "championshipYear" -> builder.championshipYear(readInt(reader));
+            case "pickedCount" -> builder.pickedCount(readInt(reader));
+            case "profileImage" -> builder.profileImage(reader.readString());
+            case "collectionIndex" -> builder.collectionIndex(readInt(reader));
+            case "isActive" -> builder.isActive(reader.readBoolean());
+            case "drawWeight" -> builder.drawWeight(readDouble(reader));
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected Player build(Player.PlayerBuilder builder) {
+        return builder.build();
+    }
+
+    @Override
+    protected void encodeFields(BsonWriter writer, Player player) {
+        writeString(writer, "name", player.getName());
+        writeString(writer, "realName", player.getRealName());
+        writeEnum(writer, "position", player.getPosition());
+        writer.writeInt32("year", player.getYear());
+        writeString(writer, "teamShort", player.getTeamShort());
+        writeString(writer, "teamFull", player.getTeamFull());
+        writeString(writer, "teamColor", player.getTeamColor());
+        writeString(writer, "region", player.getRegion());
+        writeString(writer, "nationality", player.getNationality());
+        writeString(writer, "iso", player.getIso());
+        writer.writeBoolean("isWinner", player.isWinner());
+        writeString(writer, "championshipLeague", player.getChampionshipLeague());
+        writeInt(writer, "championshipYear", player.getChampionshipYear());
+        writer.writeInt32("pickedCount", player.getPickedCount());
+        writeString(writer, "profileImage", player.getProfileImage());
+        writeInt(writer, "collectionIndex", player.getCollectionIndex());
+        writer.writeBoolean("isActive", player.isActive());
+        writeDouble(writer, "drawWeight", player.getDrawWeight());
+    }
+}
@@ -4,10 +4,12 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.mongodb.repository.Aggregation;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 import com.loga.domain.player.entity.Player;
+import com.loga.infrastructure.persistence.QueryPlanAdvisor;
 
 /**
  * 선수 레포지토리
@@ -17,24 +19,27 @@ public interface PlayerRepository extends MongoRepository<Player, String>, Playe
 
     List<Player> findByPosition(Player.Position position);
 
-    List<Player> findByRegion(String region);
+    // 목록 조회는 프로젝션 타입(PlayerCardSummary 등)을 지정해 필요한 필드만 읽음
+    <T> List<T> findByPosition(Player.Position position, Class<T> type);
+
+    <T> List<T> findByRegion(String region, Class<T> type);
 
     // Changed from currentTeam to teamShort
-    List<Player> findByTeamShort(String teamShort);
+    <T> List<T> findByTeamShort(String teamShort, Class<T> type);
 
-    List<Player> findByIsActiveTrue();
+    // 대부분의 선수가 활성 상태이므로 인덱스 없이 전체 스캔
+    @Meta(comment = QueryPlanAdvisor.FULL_SCAN)
+    <T> List<T> findByIsActiveTrue(Class<T> type);
 
     Optional<Player> findByName(String name);
 
-    List<Player> findByNameContainingIgnoreCase(String name);
+    <T> List<T> findByNameContainingIgnoreCase(String name, Class<T> type);
 
     List<Player> findTop10ByOrderByPickedCountDesc();
 
-    @Aggregation(pipeline = {
-            "{ $match: { position: ?0 } }",
-            "{ $sample: { size: 1 } }"
-    })
-    Optional<Player> findRandomByPosition(String position);
+    <T> List<T> findTop10ByOrderByPickedCountDesc(Class<T> type);
+
+    <T> List<T> findAllBy(Class<T> type);
 
     @Aggregation(pipeline = {
             "{ $sample: { size: ?0 } }"
@@ -1,10 +1,12 @@
 package com.loga.domain.player.repository;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.loga.domain.player.dto.PlayerCardSummary;
 import com.loga.domain.player.dto.PlayerSearchCondition;
 import com.loga.domain.player.entity.Player;
 
@@ -14,12 +16,31 @@ import com.loga.domain.player.entity.Player;
 public interface PlayerRepositoryCustom {
 
     /**
-     * 동적 검색 조건으로 선수 목록 조회
+     * 동적 검색 조건으로 선수 목록 조회 (ID/pickedCount 프로젝션)
      */
-    Page<Player> search(PlayerSearchCondition condition, Pageable pageable);
+    Page<PlayerCardSummary> search(PlayerSearchCondition condition, Pageable pageable);
 
     /**
-     * 포지션별 상위 N명 조회
+     * 포지션별 상위 N명 조회 (ID/pickedCount 프로젝션)
      */
-    List<Player> findTopByPositionOrderByPickedCount(Player.Position position, int limit);
+    List<PlayerCardSummary> findTopByPositionOrderByPickedCount(Player.Position position, int limit);
+
+    /**
+     * 카탈로그 전체 조회 (PlayerCodec으로 직접 디코딩, 뽑기 풀 스냅샷 적재용)
+     */
+    List<Player> findCatalog();
+
+    /**
+     * 선수별 뽑힌 횟수 일괄 증가 (unordered bulkWrite)
+     *
+     * @return 일부 쓰기만 실패한 경우 반영되지 않은 선수 ID → 증가량 (모두 반영되면 빈 맵)
+     */
+    Map<String, Long> bulkIncrementPickedCount(Map<String, Long> increments);
+
+    /**
+     * 컬렉션 인덱스가 없는 선수에게 다음 번호 부여 (counters 문서에서 발급하므로 노드 간 중복 없음)
+     *
+     * @return 새로 부여한 선수 수
+     */
+    int assignMissingCollectionIndexes();
 }
@@ -1,32 +1,47 @@
 package com.loga.domain.player.repository;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.bson.Document;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
+import com.loga.domain.player.dto.PlayerCardSummary;
 import com.loga.domain.player.dto.PlayerSearchCondition;
 import com.loga.domain.player.entity.Player;
+import com.loga.infrastructure.persistence.CountCache;
+import com.loga.infrastructure.persistence.CustomMongoRepositoryImpl;
 import com.loga.infrastructure.persistence.MongoQueryBuilder;
-
-import lombok.RequiredArgsConstructor;
+import com.loga.infrastructure.persistence.QueryPlanAdvisor;
 
 /**
  * 선수 커스텀 레포지토리 구현체 MongoDB Specification 패턴 적용
  */
 @Repository
-@RequiredArgsConstructor
-public class PlayerRepositoryCustomImpl implements PlayerRepositoryCustom {
+public class PlayerRepositoryCustomImpl extends CustomMongoRepositoryImpl<Player> implements PlayerRepositoryCustom {
+
+    // 번호 발급 카운터 문서 (seq = 다음에 발급할 컬렉션 번호)
+    private static final String COUNTER_COLLECTION = "counters";
+    private static final String COLLECTION_INDEX_COUNTER_ID = "player.collectionIndex";
 
-    private final MongoTemplate mongoTemplate;
+    public PlayerRepositoryCustomImpl(MongoTemplate mongoTemplate, CountCache countCache) {
+        super(mongoTemplate, Player.class, countCache);
+    }
 
     @Override
-    public Page<Player> search(PlayerSearchCondition condition, Pageable pageable) {
+    public Page<PlayerCardSummary> search(PlayerSearchCondition condition, Pageable pageable) {
         Query query = MongoQueryBuilder.builder()
                 .contains("name", condition.getName())
                 .eq("position", condition.getPosition())
@@ -37,16 +52,11 @@ public class PlayerRepositoryCustomImpl implements PlayerRepositoryCustom {
                         builder -> builder.eq("isWinner", true)) // Changed to isWinner
                 .build();
 
-        long total = mongoTemplate.count(query, Player.class);
-
-        query.with(pageable);
-        List<Player> content = mongoTemplate.find(query, Player.class);
-
-        return new PageImpl<>(content, pageable, total);
+        return findAll(query, pageable, PlayerCardSummary.class);
     }
 
     @Override
-    public List<Player> findTopByPositionOrderByPickedCount(Player.Position position, int limit) {
+    public List<PlayerCardSummary> findTopByPositionOrderByPickedCount(Player.Position position, int limit) {
         Query query = MongoQueryBuilder.builder()
                 .eq("position", position)
                 .build();
@@ -54,6 +64,85 @@ public class PlayerRepositoryCustomImpl implements PlayerRepositoryCustom {
         query.with(Sort.by(Sort.Direction.DESC, "pickedCount"));
         query.limit(limit);
 
-        return mongoTemplate.find(query, Player.class);
+        return findAll(query, PlayerCardSummary.class);
+    }
+
+    @Override
+    public List<Player> findCatalog() {
+        return findAllDecoded(new Query());
+    }
+
+    @Override
+    public Map<String, Long> bulkIncrementPickedCount(Map<String, Long> increments) {
+        if (increments.isEmpty()) {
+            return Map.of();
+        }
+
+        // 실패한 쓰기의 인덱스로 선수를 찾기 위해 추가 순서 보관
+        List<String> playerIds = new ArrayList<>(increments.keySet());
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Player.class);
+        playerIds.forEach(playerId -> bulkOps.updateOne(
+                Query.query(Criteria.where("_id").is(playerId)),
+                new Update().inc("pickedCount", Math.toIntExact(increments.get(playerId)))));
+        try {
+            bulkOps.execute();
+            return Map.of();
+        } catch (BulkOperationException e) {
+            // unordered 모드에서는 오류가 난 쓰기 외에는 모두 반영됨
+            Map<String, Long> failed = new HashMap<>();
+            e.getErrors().forEach(error -> {
+                String playerId = playerIds.get(error.getIndex());
+                failed.put(playerId, increments.get(playerId));
+            });
+            return failed;
+        }
+    }
+
+    @Override
+    public int assignMissingCollectionIndexes() {
+        Query missing = Query.query(Criteria.where("collectionIndex").exists(false))
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .comment(QueryPlanAdvisor.FULL_SCAN);
+        missing.fields().include("_id");
+        List<Player> players = mongoTemplate.find(missing, Player.class);
+        if (players.isEmpty()) {
+            return 0;
+        }
+
+        // 카운터가 기존 최대 번호보다 뒤에 있도록 맞춤 ($max라 여러 노드가 동시에 실행해도 되돌아가지 않음)
+        Query last = new Query(Criteria.where("collectionIndex").exists(true))
+                .with(Sort.by(Sort.Direction.DESC, "collectionIndex"))
+                .limit(1);
+        last.fields().include("collectionIndex");
+        Player lastIndexed = mongoTemplate.findOne(last, Player.class);
+        mongoTemplate.upsert(collectionIndexCounter(),
+                new Update().max("seq", lastIndexed != null ? lastIndexed.getCollectionIndex() + 1 : 0),
+                COUNTER_COLLECTION);
+
+        int assigned = 0;
+        for (Player player : players) {
+            // 다른 노드가 먼저 부여했으면 발급받은 번호는 쓰지 않음 (비트셋에 빈 비트로만 남음)
+            long modified = mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(player.getId()).and("collectionIndex").exists(false)),
+                    new Update().set("collectionIndex", nextCollectionIndex()),
+                    Player.class).getModifiedCount();
+            if (modified > 0) {
+                assigned++;
+            }
+        }
+        return assigned;
+    }
+
+    /**
+     * 카운터 문서의 $inc로 컬렉션 번호 발급 (노드 간에도 같은 번호가 두 번 발급되지 않음)
+     */
+    private int nextCollectionIndex() {
+        Document counter = mongoTemplate.findAndModify(collectionIndexCounter(), new Update().inc("seq", 1),
+                FindAndModifyOptions.options().upsert(true).returnNew(true), Document.class, COUNTER_COLLECTION);
+        return ((Number) counter.get("seq")).intValue() - 1;
+    }
+
+    private static Query collectionIndexCounter() {
+        return Query.query(Criteria.where("_id").is(COLLECTION_INDEX_COUNTER_ID));
     }
 }
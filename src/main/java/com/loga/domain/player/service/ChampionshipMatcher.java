@@ -0,0 +1,178 @@
+package com.loga.domain.player.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.loga.domain.player.entity.Championship;
+import com.loga.domain.player.repository.ChampionshipRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 우승 로스터 인메모리 매처
+ *
+ * 우승 로스터 5인 조합의 64bit 지문을 키로 하는 불변 해시 테이블(open addressing)을 유지합니다. 지문이 같으면 {@link Championship.RosterPlayers#matches}로 실제
+ * 일치 여부를 확인하므로 충돌이 있어도 결과는 정확합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChampionshipMatcher {
+
+    private static final String CHAMPIONSHIP_COLLECTION = "championships";
+
+    private final ChampionshipRepository championshipRepository;
+
+    private volatile Table table = Table.EMPTY;
+    private volatile long version = 0;
+    private volatile boolean stale = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${gacha.championship.refresh-interval-ms:600000}", initialDelayString = "${gacha.championship.refresh-interval-ms:600000}")
+    public void scheduledReload() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${gacha.championship.stale-check-interval-ms:5000}")
+    public void reloadIfStale() {
+        if (stale) {
+            reload();
+        }
+    }
+
+    /**
+     * 우승 로스터 문서 저장/삭제 시 변경 상태로 표시
+     */
+    @EventListener
+    public void onChampionshipChanged(MongoMappingEvent<?> event) {
+        if ((event instanceof AfterSaveEvent || event instanceof AfterDeleteEvent)
+                && CHAMPIONSHIP_COLLECTION.equals(event.getCollectionName())) {
+            stale = true;
+        }
+    }
+
+    /**
+     * 우승 로스터 전체를 다시 읽어 테이블 교체
+     */
+    public synchronized void reload() {
+        stale = false;
+        try {
+            Table next = Table.of(championshipRepository.findAll());
+            table = next;
+            version++;
+            log.info("Championship matcher reloaded: {} rosters", next.size());
+        } catch (RuntimeException e) {
+            stale = true;
+            log.error("Failed to reload championship matcher, keeping previous table", e);
+        }
+    }
+
+    /**
+     * 5인 로스터와 일치하는 우승 로스터 조회 (O(1), 불일치 시 할당 없음)
+     */
+    public Optional<Championship> match(String top, String jungle, String mid, String adc, String support) {
+        if (top == null || jungle == null || mid == null || adc == null || support == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(table.find(top, jungle, mid, adc, support));
+    }
+
+    /**
+     * 테이블에 적재된 우승 로스터 목록
+     */
+    public List<Championship> getChampionships() {
+        return table.championships();
+    }
+
+    /**
+     * 테이블 버전 (교체될 때마다 증가, 파생 캐시 무효화용)
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 로스터 5인 조합의 64bit 지문
+     */
+    static long fingerprint(String top, String jungle, String mid, String adc, String support) {
+        long h = 0x9E3779B97F4A7C15L;
+        h = mix(h + top.hashCode());
+        h = mix(h + jungle.hashCode());
+        h = mix(h + mid.hashCode());
+        h = mix(h + adc.hashCode());
+        h = mix(h + support.hashCode());
+        return h;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+
+    // ===== Table =====
+
+    private record Table(long[] keys, Championship[] values, List<Championship> championships) {
+
+        static final Table EMPTY = of(List.of());
+
+        static Table of(List<Championship> championships) {
+            int capacity = Integer.highestOneBit(Math.max(2, championships.size() * 2 - 1)) << 1;
+            long[] keys = new long[capacity];
+            Championship[] values = new Championship[capacity];
+            int mask = capacity - 1;
+            List<Championship> loaded = new ArrayList<>();
+
+            for (Championship championship : championships) {
+                Championship.RosterPlayers players = championship.getPlayers();
+                if (players == null || players.getTopPlayerId() == null || players.getJunglePlayerId() == null
+                        || players.getMidPlayerId() == null || players.getAdcPlayerId() == null
+                        || players.getSupportPlayerId() == null) {
+                    continue;
+                }
+
+                long key = fingerprint(players.getTopPlayerId(), players.getJunglePlayerId(),
+                        players.getMidPlayerId(), players.getAdcPlayerId(), players.getSupportPlayerId());
+                int slot = (int) key & mask;
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = championship;
+                loaded.add(championship);
+            }
+            return new Table(keys, values, List.copyOf(loaded));
+        }
+
+        int size() {
+            return championships.size();
+        }
+
+        Championship find(String top, String jungle, String mid, String adc, String support) {
+            long key = fingerprint(top, jungle, mid, adc, support);
+            int mask = keys.length - 1;
+            int slot = (int) key & mask;
+            while (values[slot] != null) {
+                if (keys[slot] == key && values[slot].matchesRoster(top, jungle, mid, adc, support)) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.loga.domain.player.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.loga.domain.gacha.service.PlayerDrawPool;
+import com.loga.domain.player.dto.PlayerResponse;
+import com.loga.domain.player.repository.PlayerRepository;
+import com.loga.global.error.BusinessException;
+import com.loga.global.error.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 선수 카탈로그 일괄 조회
+ *
+ * 인메모리 뽑기 풀 스냅샷에서 먼저 찾고, 스냅샷에 없는 선수(풀 갱신 전 추가된 선수 등)만 findAllById 한 번으로 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlayerCatalog {
+
+    private final PlayerDrawPool playerDrawPool;
+    private final PlayerRepository playerRepository;
+
+    /**
+     * 선수 일괄 조회
+     *
+     * @return 선수 ID → 카드 (요청 순서 유지, 중복 ID는 한 번만 포함)
+     * @throws BusinessException 존재하지 않는 선수가 있으면 PLAYER_NOT_FOUND (없는 ID 전체를 메시지에 포함)
+     */
+    public Map<String, PlayerResponse> getAll(Collection<String> ids) {
+        Set<String> requested = new LinkedHashSet<>(ids);
+        Map<String, PlayerResponse> found = LinkedHashMap.newLinkedHashMap(requested.size());
+        List<String> misses = new ArrayList<>();
+        for (String id : requested) {
+            playerDrawPool.findCard(id).ifPresentOrElse(card -> found.put(id, card), () -> misses.add(id));
+        }
+
+        if (!misses.isEmpty()) {
+            playerRepository.findAllById(misses)
+                    .forEach(player -> found.put(player.getId(), PlayerResponse.from(player)));
+        }
+
+        List<String> missing = requested.stream()
+                .filter(id -> !found.containsKey(id))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new BusinessException(ErrorCode.PLAYER_NOT_FOUND,
+                    "Player not found: " + String.join(", ", missing));
+        }
+
+        // 요청 순서로 정렬
+        Map<String, PlayerResponse> ordered = LinkedHashMap.newLinkedHashMap(requested.size());
+        requested.forEach(id -> ordered.put(id, found.get(id)));
+        return ordered;
+    }
+}
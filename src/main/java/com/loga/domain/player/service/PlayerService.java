@@ -1,12 +1,15 @@
 package com.loga.domain.player.service;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.loga.domain.gacha.service.PlayerDrawPool;
+import com.loga.domain.player.dto.PlayerCardSummary;
 import com.loga.domain.player.dto.PlayerResponse;
 import com.loga.domain.player.dto.PlayerSearchCondition;
 import com.loga.domain.player.entity.Player;
@@ -28,14 +31,14 @@ import lombok.extern.slf4j.Slf4j;
 public class PlayerService {
 
     private final PlayerRepository playerRepository;
+    private final PlayerDrawPool playerDrawPool;
+    private final PlayerCatalog playerCatalog;
 
     /**
      * 전체 선수 목록
      */
     public List<PlayerResponse> getAllPlayers() {
-        return playerRepository.findAll().stream()
-                .map(PlayerResponse::from)
-                .toList();
+        return toResponses(playerRepository.findAllBy(PlayerCardSummary.class));
     }
 
     /**
@@ -44,77 +47,87 @@ public class PlayerService {
     public PlayerResponse getPlayerById(String id) {
         Player player = playerRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PLAYER_NOT_FOUND));
-        return PlayerResponse.from(player);
+        return toResponse(player);
     }
 
     /**
      * 동적 검색 조건으로 선수 검색 (Specification 패턴)
      */
     public PageResponse<PlayerResponse> searchPlayers(PlayerSearchCondition condition, Pageable pageable) {
-        Page<Player> page = playerRepository.search(condition, pageable);
-        return PageResponse.from(page, PlayerResponse::from);
+        Page<PlayerCardSummary> page = playerRepository.search(condition, pageable);
+        Map<String, PlayerResponse> cards = playerCatalog.getAll(page.getContent().stream()
+                .map(PlayerCardSummary::id)
+                .toList());
+        return PageResponse.from(page, summary -> cards.get(summary.id()).withPickedCount(summary.pickedCount()));
     }
 
     /**
      * 포지션별 선수 목록
      */
     public List<PlayerResponse> getPlayersByPosition(Player.Position position) {
-        return playerRepository.findByPosition(position).stream()
-                .map(PlayerResponse::from)
-                .toList();
+        return toResponses(playerRepository.findByPosition(position, PlayerCardSummary.class));
     }
 
     /**
      * 리전별 선수 목록
      */
     public List<PlayerResponse> getPlayersByRegion(String region) {
-        return playerRepository.findByRegion(region).stream()
-                .map(PlayerResponse::from)
-                .toList();
+        return toResponses(playerRepository.findByRegion(region, PlayerCardSummary.class));
     }
 
     /**
      * 팀별 선수 목록
      */
     public List<PlayerResponse> getPlayersByTeam(String team) {
-        return playerRepository.findByTeamShort(team).stream()
-                .map(PlayerResponse::from)
-                .toList();
+        return toResponses(playerRepository.findByTeamShort(team, PlayerCardSummary.class));
     }
 
     /**
      * 선수 이름 검색
      */
     public List<PlayerResponse> searchByName(String query) {
-        return playerRepository.findByNameContainingIgnoreCase(query).stream()
-                .map(PlayerResponse::from)
-                .toList();
+        return toResponses(playerRepository.findByNameContainingIgnoreCase(query, PlayerCardSummary.class));
     }
 
     /**
      * 가장 많이 뽑힌 선수 TOP 10
      */
     public List<PlayerResponse> getTopPickedPlayers() {
-        return playerRepository.findTop10ByOrderByPickedCountDesc().stream()
-                .map(PlayerResponse::from)
-                .toList();
+        return toResponses(playerRepository.findTop10ByOrderByPickedCountDesc(PlayerCardSummary.class));
     }
 
     /**
      * 현역 선수 목록
      */
     public List<PlayerResponse> getActivePlayers() {
-        return playerRepository.findByIsActiveTrue().stream()
-                .map(PlayerResponse::from)
-                .toList();
+        return toResponses(playerRepository.findByIsActiveTrue(PlayerCardSummary.class));
     }
 
     /**
      * 포지션별 상위 선수
      */
     public List<PlayerResponse> getTopPlayersByPosition(Player.Position position, int limit) {
-        return playerRepository.findTopByPositionOrderByPickedCount(position, limit).stream()
-                .map(PlayerResponse::from)
+        return toResponses(playerRepository.findTopByPositionOrderByPickedCount(position, limit));
+    }
+
+    /**
+     * 미리 직렬화된 카탈로그 카드에 현재 pickedCount만 반영 (카탈로그에 없으면 직접 변환)
+     */
+    private PlayerResponse toResponse(Player player) {
+        return playerDrawPool.findCard(player.getId())
+                .map(card -> card.withPickedCount(player.getPickedCount()))
+                .orElseGet(() -> PlayerResponse.from(player));
+    }
+
+    /**
+     * 목록 프로젝션을 카탈로그 카드로 변환 (카드 본문은 스냅샷, pickedCount는 조회 시점 값)
+     */
+    private List<PlayerResponse> toResponses(List<PlayerCardSummary> summaries) {
+        Map<String, PlayerResponse> cards = playerCatalog.getAll(summaries.stream()
+                .map(PlayerCardSummary::id)
+                .toList());
+        return summaries.stream()
+                .map(summary -> cards.get(summary.id()).withPickedCount(summary.pickedCount()))
                 .toList();
     }
 }
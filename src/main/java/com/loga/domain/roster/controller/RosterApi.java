@@ -177,7 +177,8 @@ public interface RosterApi {
                               "commentCount": 0
                             },
                             "gameMode": "NORMAL",
-                            "createdAt": "2026-01-20T10:00:00"
+                            "createdAt": "2026-01-20T10:00:00",
+                            "likedByMe": false
                           }
                         ],
                         "pagination": {
@@ -199,16 +200,17 @@ public interface RosterApi {
             @Parameter(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기", example = "10") @RequestParam(defaultValue = "10") int size);
 
-    @Operation(summary = "특정 유저 로스터 목록 조회", description = "특정 사용자의 공개된 로스터 목록을 페이징하여 조회합니다.")
+    @Operation(summary = "특정 유저 로스터 목록 조회", description = "특정 사용자의 공개된 로스터 목록을 페이징하여 조회합니다. 로그인한 경우 각 로스터의 좋아요 여부(likedByMe)가 포함됩니다.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
     })
     ResponseEntity<ApiResponse<PageResponse<RosterResponse>>> getUserRosters(
             @Parameter(description = "사용자 ID", example = "user123") @PathVariable String userId,
             @Parameter(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기", example = "10") @RequestParam(defaultValue = "10") int size);
+            @Parameter(description = "페이지 크기", example = "10") @RequestParam(defaultValue = "10") int size,
+            @Parameter(hidden = true) User user);
 
-    @Operation(summary = "로스터 검색", description = "다양한 조건(공개여부, 우승매칭, 게임모드, 티어)으로 로스터를 검색합니다.")
+    @Operation(summary = "로스터 검색", description = "다양한 조건(공개여부, 우승매칭, 게임모드, 티어)으로 로스터를 검색합니다. 로그인한 경우 각 로스터의 좋아요 여부(likedByMe)가 포함됩니다.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "검색 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = """
                     {
@@ -235,7 +237,8 @@ public interface RosterApi {
             @Parameter(description = "게임 모드 (NORMAL, RANKED)", example = "NORMAL") @RequestParam(required = false) String gameMode,
             @Parameter(description = "티어 필터 (BRONZE, SILVER, GOLD, PLATINUM, DIAMOND)", example = "GOLD") @RequestParam(required = false) String tier,
             @Parameter(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기", example = "10") @RequestParam(defaultValue = "10") int size);
+            @Parameter(description = "페이지 크기", example = "10") @RequestParam(defaultValue = "10") int size,
+            @Parameter(hidden = true) User user);
 
     @Operation(summary = "좋아요 토글", description = "로스터에 좋아요를 누르거나 취소합니다. 한 번 누르면 좋아요, 다시 누르면 취소됩니다.")
     @ApiResponses(value = {
@@ -249,7 +252,8 @@ public interface RosterApi {
                           "isPublic": true,
                           "likeCount": 43,
                           "commentCount": 5
-                        }
+                        },
+                        "likedByMe": true
                       },
                       "timestamp": "2026-01-25T14:30:00"
                     }
@@ -55,7 +55,7 @@ public class RosterController implements RosterApi {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         return ResponseEntity.ok(ApiResponse.success(
-                rosterService.getUserRosters(user.getId(), PageRequest.of(page, size).toPageable())));
+                rosterService.getUserRosters(user.getId(), PageRequest.of(page, size).toPageable(), user)));
     }
 
     /**
@@ -65,9 +65,10 @@ public class RosterController implements RosterApi {
     public ResponseEntity<ApiResponse<PageResponse<RosterResponse>>> getUserRosters(
             @PathVariable String userId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal User user) {
         return ResponseEntity.ok(ApiResponse.success(
-                rosterService.getUserRosters(userId, PageRequest.of(page, size).toPageable())));
+                rosterService.getUserRosters(userId, PageRequest.of(page, size).toPageable(), user)));
     }
 
     /**
@@ -80,7 +81,8 @@ public class RosterController implements RosterApi {
             @RequestParam(required = false) String gameMode,
             @RequestParam(required = false) String tier,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal User user) {
 
         RosterSearchCondition condition = RosterSearchCondition.builder()
                 .isPublic(isPublic)
@@ -90,7 +92,7 @@ public class RosterController implements RosterApi {
                 .build();
 
         return ResponseEntity.ok(ApiResponse.success(
-                rosterService.searchRosters(condition, PageRequest.of(page, size).toPageable())));
+                rosterService.searchRosters(condition, PageRequest.of(page, size).toPageable(), user)));
     }
 
     /**
@@ -24,6 +24,9 @@ public class RosterResponse {
     private RankDto rank;
     private LocalDateTime createdAt;
 
+    // 조회한 사용자의 좋아요 여부 (비로그인 조회 시 null)
+    private Boolean likedByMe;
+
     @Getter
     @Builder
     public static class PlayersDto {
@@ -67,57 +70,70 @@ public class RosterResponse {
     }
 
     public static RosterResponse from(Roster roster) {
+        return from(roster, null);
+    }
+
+    public static RosterResponse from(Roster roster, Boolean likedByMe) {
+        return from(RosterSummary.of(roster), likedByMe);
+    }
+
+    public static RosterResponse from(RosterSummary roster) {
+        return from(roster, null);
+    }
+
+    public static RosterResponse from(RosterSummary roster, Boolean likedByMe) {
         return RosterResponse.builder()
-                .id(roster.getId())
-                .userId(roster.getUserId())
-                .userName(roster.getUserName())
+                .id(roster.id())
+                .userId(roster.userId())
+                .userName(roster.userName())
                 .players(PlayersDto.builder()
-                        .topPlayerId(roster.getPlayers()
+                        .topPlayerId(roster.players()
                                 .getTopPlayerId())
-                        .junglePlayerId(roster.getPlayers()
+                        .junglePlayerId(roster.players()
                                 .getJunglePlayerId())
-                        .midPlayerId(roster.getPlayers()
+                        .midPlayerId(roster.players()
                                 .getMidPlayerId())
-                        .adcPlayerId(roster.getPlayers()
+                        .adcPlayerId(roster.players()
                                 .getAdcPlayerId())
-                        .supportPlayerId(roster.getPlayers()
+                        .supportPlayerId(roster.players()
                                 .getSupportPlayerId())
-                        .topPlayerName(roster.getPlayers()
+                        .topPlayerName(roster.players()
                                 .getTopPlayerName())
-                        .junglePlayerName(roster.getPlayers()
+                        .junglePlayerName(roster.players()
                                 .getJunglePlayerName())
-                        .midPlayerName(roster.getPlayers()
+                        .midPlayerName(roster.players()
                                 .getMidPlayerName())
-                        .adcPlayerName(roster.getPlayers()
+                        .adcPlayerName(roster.players()
                                 .getAdcPlayerName())
-                        .supportPlayerName(roster.getPlayers()
+                        .supportPlayerName(roster.players()
                                 .getSupportPlayerName())
                         .build())
                 .championshipMatch(ChampionshipMatchDto.builder()
-                        .isChampionshipRoster(roster.getChampionshipMatch()
+                        .isChampionshipRoster(roster.championshipMatch()
                                 .isChampionshipRoster())
-                        .matchedChampionship(roster.getChampionshipMatch()
+                        .matchedChampionship(roster.championshipMatch()
                                 .getMatchedChampionship())
-                        .matchedYear(roster.getChampionshipMatch()
+                        .matchedYear(roster.championshipMatch()
                                 .getMatchedYear())
                         .build())
                 .community(CommunityDto.builder()
-                        .isPublic(roster.getCommunityInfo()
+                        .isPublic(roster.communityInfo()
                                 .isPublic())
-                        .likeCount(roster.getCommunityInfo()
+                        .likeCount(roster.communityInfo()
                                 .getLikeCount())
-                        .commentCount(roster.getCommunityInfo()
+                        .commentCount(roster.communityInfo()
                                 .getCommentCount())
                         .build())
-                .gameMode(roster.getGameMode()
+                .gameMode(roster.gameMode()
                         .name())
-                .rank(roster.getRankInfo() != null ? RankDto.builder()
-                        .score(roster.getRankInfo()
+                .rank(roster.rankInfo() != null ? RankDto.builder()
+                        .score(roster.rankInfo()
                                 .getScore())
-                        .tier(roster.getRankInfo()
+                        .tier(roster.rankInfo()
                                 .getTier())
                         .build() : null)
-                .createdAt(roster.getCreatedAt())
+                .createdAt(roster.createdAt())
+                .likedByMe(likedByMe)
                 .build();
     }
 }
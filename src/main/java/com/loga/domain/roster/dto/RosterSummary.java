@@ -0,0 +1,40 @@
+package com.loga.domain.roster.dto;
+
+import java.time.LocalDateTime;
+
+import com.loga.domain.roster.entity.Roster;
+
+/**
+ * 로스터 목록 조회용 요약 프로젝션
+ *
+ * 목록 응답({@link RosterResponse})에 렌더링하는 필드만 읽습니다. 커뮤니티 정보는 카운터만 포함하므로 이전 버전의 좋아요 배열 등 나머지 하위 필드는 전송/디코딩하지 않습니다.
+ */
+public record RosterSummary(
+        String id,
+        String userId,
+        String userName,
+        Roster.RosterPlayers players,
+        Roster.ChampionshipMatch championshipMatch,
+        Roster.CommunityInfo communityInfo,
+        Roster.GameMode gameMode,
+        Roster.RankInfo rankInfo,
+        LocalDateTime createdAt) {
+
+    // 조회 필드 (커스텀 쿼리 include에서 사용)
+    public static final String PROJECTION = "{ 'userId': 1, 'userName': 1, 'players': 1, 'championshipMatch': 1, "
+            + "'communityInfo.isPublic': 1, 'communityInfo.likeCount': 1, 'communityInfo.commentCount': 1, "
+            + "'gameMode': 1, 'rankInfo': 1, 'createdAt': 1 }";
+
+    public static RosterSummary of(Roster roster) {
+        return new RosterSummary(
+                roster.getId(),
+                roster.getUserId(),
+                roster.getUserName(),
+                roster.getPlayers(),
+                roster.getChampionshipMatch(),
+                roster.getCommunityInfo(),
+                roster.getGameMode(),
+                roster.getRankInfo(),
+                roster.getCreatedAt());
+    }
+}
@@ -1,9 +1,7 @@
 package com.loga.domain.roster.entity;
 
-import java.util.ArrayList;
-import java.util.List;
-
-import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import com.loga.infrastructure.persistence.BaseDocument;
@@ -12,15 +10,30 @@ import lombok.*;
 
 /**
  * 로스터 도메인 엔티티 DDD Aggregate Root
+ *
+ * 인덱스는 실제 조회 형태 기준 (사용자별 로스터/우승 로스터 수, 공개 최신순/인기순 피드, 검색 조건, 티어별 랭킹)
  */
 @Document(collection = "rosters")
+@CompoundIndexes({
+        @CompoundIndex(name = "user_championship",
+                def = "{ 'userId': 1, 'championshipMatch.isChampionshipRoster': 1 }"),
+        @CompoundIndex(name = "public_recent",
+                def = "{ 'communityInfo.isPublic': 1, '_id': -1 }"),
+        @CompoundIndex(name = "public_popular",
+                def = "{ 'communityInfo.isPublic': 1, 'communityInfo.likeCount': -1, '_id': -1 }"),
+        @CompoundIndex(name = "championship_recent",
+                def = "{ 'championshipMatch.isChampionshipRoster': 1, '_id': -1 }"),
+        @CompoundIndex(name = "mode_recent",
+                def = "{ 'gameMode': 1, '_id': -1 }"),
+        @CompoundIndex(name = "tier_score",
+                def = "{ 'rankInfo.tier': 1, 'rankInfo.score': -1 }")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 public class Roster extends BaseDocument {
 
-    @Indexed
     private String userId;
 
     private String userName;
@@ -90,32 +103,11 @@ public class Roster extends BaseDocument {
     @AllArgsConstructor
     public static class CommunityInfo {
         private boolean isPublic = false;
+        // roster_likes 컬렉션 기준 좋아요 수 ($inc로만 갱신)
         private int likeCount = 0;
-        private List<String> likedUserIds = new ArrayList<>();
+        // 댓글 수 ($inc로만 갱신)
         private int commentCount = 0;
 
-        public void toggleLike(String userId) {
-            if (likedUserIds.contains(userId)) {
-                likedUserIds.remove(userId);
-                likeCount = Math.max(0, likeCount - 1);
-            } else {
-                likedUserIds.add(userId);
-                likeCount++;
-            }
-        }
-
-        public boolean isLikedBy(String userId) {
-            return likedUserIds.contains(userId);
-        }
-
-        public void incrementCommentCount() {
-            this.commentCount++;
-        }
-
-        public void decrementCommentCount() {
-            this.commentCount = Math.max(0, this.commentCount - 1);
-        }
-
         public void makePublic() {
             this.isPublic = true;
         }
@@ -184,22 +176,6 @@ public class Roster extends BaseDocument {
 
     // ===== Domain Logic =====
 
-    public void toggleLike(String userId) {
-        this.communityInfo.toggleLike(userId);
-    }
-
-    public boolean isLikedBy(String userId) {
-        return this.communityInfo.isLikedBy(userId);
-    }
-
-    public void addComment() {
-        this.communityInfo.incrementCommentCount();
-    }
-
-    public void removeComment() {
-        this.communityInfo.decrementCommentCount();
-    }
-
     public void makePublic() {
         this.communityInfo.makePublic();
     }
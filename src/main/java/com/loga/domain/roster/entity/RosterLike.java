@@ -0,0 +1,35 @@
+package com.loga.domain.roster.entity;
+
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import com.loga.infrastructure.persistence.BaseDocument;
+
+import lombok.*;
+
+/**
+ * 로스터 좋아요 (로스터-사용자 1건)
+ *
+ * (rosterId, userId) 유니크 인덱스로 중복 좋아요를 막고, 로스터 문서의 likeCount는 $inc로만 갱신합니다.
+ */
+@Document(collection = "roster_likes")
+@CompoundIndex(name = "roster_user_unique", def = "{ 'rosterId': 1, 'userId': 1 }", unique = true)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class RosterLike extends BaseDocument {
+
+    private String rosterId;
+
+    private String userId;
+
+    // ===== Factory Methods =====
+
+    public static RosterLike of(String rosterId, String userId) {
+        return RosterLike.builder()
+                .rosterId(rosterId)
+                .userId(userId)
+                .build();
+    }
+}
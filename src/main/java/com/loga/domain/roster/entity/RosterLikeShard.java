@@ -0,0 +1,34 @@
+package com.loga.domain.roster.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.*;
+
+/**
+ * 인기 로스터 좋아요 수 샤드 (아직 로스터 문서에 반영되지 않은 증감분)
+ *
+ * 쓰기가 몰리는 로스터는 로스터 문서 대신 N개 샤드 중 하나에 $inc 하고, 주기 작업이 샤드를 꺼내(삭제) 합계를 로스터의 likeCount에 반영합니다.
+ */
+@Document(collection = "roster_like_shards")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class RosterLikeShard {
+
+    // {rosterId}:{shard}
+    @Id
+    private String id;
+
+    @Indexed
+    private String rosterId;
+
+    // 반영 대기 중인 증감분 (취소가 많으면 음수)
+    private int count;
+
+    public static String idOf(String rosterId, int shard) {
+        return rosterId + ":" + shard;
+    }
+}
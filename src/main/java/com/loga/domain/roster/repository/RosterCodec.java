@@ -0,0 +1,178 @@
+package com.loga.domain.roster.repository;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+
+import com.loga.domain.roster.entity.Roster;
+import com.loga.infrastructure.persistence.EntityCodec;
+
+/**
+ * 로스터 BSON 코덱 (커뮤니티 피드/목록 조회 시 리플렉션 매핑 생략)
+ *
+ * 필드를 추가하면 encodeFields/decodeField 양쪽에 반영해야 하며, RosterCodecTest가 MappingMongoConverter와 결과를 비교합니다.
+ */
+public class RosterCodec extends EntityCodec<Roster, Roster.RosterBuilder> {
+
+    public RosterCodec() {
+        super(Roster.class);
+    }
+
+    @Override
+    protected Roster.RosterBuilder newBuilder() {
+        return Roster.builder();
+    }
+
+    @Override
+    protected boolean decodeField(BsonReader reader, String field, Roster.RosterBuilder builder) {
+        switch (field) {
+            case "userId" -> builder.userId(reader.readString());
+            case "userName" -> builder.userName(reader.readString());
+            case "players" -> builder.players(readPlayers(reader));
+            case "championshipMatch" -> builder.championshipMatch(readChampionshipMatch(reader));
+            case "communityInfo" -> builder.communityInfo(readCommunityInfo(reader));
+            case "gameMode" -> builder.gameMode(readEnum(reader, Roster.GameMode.class));
+            case "rankInfo" -> builder.rankInfo(readRankInfo(reader));
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected Roster build(Roster.RosterBuilder builder) {
+        return builder.build();
+    }
+
+    @Override
+    protected void encodeFields(BsonWriter writer, Roster roster) {
+        writeString(writer, "userId", roster.getUserId());
+        writeString(writer, "userName", roster.getUserName());
+
+        Roster.RosterPlayers players = roster.getPlayers();
+        if (players != null) {
+            writer.writeStartDocument("players");
+            writeString(writer, "topPlayerId", players.getTopPlayerId());
+            writeString(writer, "junglePlayerId", players.getJunglePlayerId());
+            writeString(writer, "midPlayerId", players.getMidPlayerId());
+            writeString(writer, "adcPlayerId", players.getAdcPlayerId());
+            writeString(writer, "supportPlayerId", players.getSupportPlayerId());
+            writeString(writer, "topPlayerName", players.getTopPlayerName());
+            writeString(writer, "junglePlayerName", players.getJunglePlayerName());
+            writeString(writer, "midPlayerName", players.getMidPlayerName());
+            writeString(writer, "adcPlayerName", players.getAdcPlayerName());
+            writeString(writer, "supportPlayerName", players.getSupportPlayerName());
+            writer.writeEndDocument();
+        }
+
+        Roster.ChampionshipMatch championshipMatch = roster.getChampionshipMatch();
+        if (championshipMatch != null) {
+            writer.writeStartDocument("championshipMatch");
+            writer.writeBoolean("isChampionshipRoster", championshipMatch.isChampionshipRoster());
+            writeString(writer, "matchedChampionship", championshipMatch.getMatchedChampionship());
+            writer.writeInt32("matchedYear", championshipMatch.getMatchedYear());
+            writer.writeEndDocument();
+        }
+
+        Roster.CommunityInfo communityInfo = roster.getCommunityInfo();
+        if (communityInfo != null) {
+            writer.writeStartDocument("communityInfo");
+            writer.writeBoolean("isPublic", communityInfo.isPublic());
+            writer.writeInt32("likeCount", communityInfo.getLikeCount());
+            writer.writeInt32("commentCount", communityInfo.getCommentCount());
+            writer.writeEndDocument();
+        }
+
+        writeEnum(writer, "gameMode", roster.getGameMode());
+
+        Roster.RankInfo rankInfo = roster.getRankInfo();
+        if (rankInfo != null) {
+            writer.writeStartDocument("rankInfo");
+            writeInt(writer, "score", rankInfo.getScore());
+            writeString(writer, "tier", rankInfo.getTier());
+            writer.writeEndDocument();
+        }
+    }
+
+    // ===== Value Objects =====
+
+    private static Roster.RosterPlayers readPlayers(BsonReader reader) {
+        Roster.RosterPlayers.RosterPlayersBuilder players = Roster.RosterPlayers.builder();
+        readDocument(reader, field -> {
+            switch (field) {
+                case "topPlayerId" -> players.topPlayerId(reader.readString());
+                case "junglePlayerId" -> players.junglePlayerId(reader.readString());
+                case "midPlayerId" -> players.midPlayerId(reader.readString());
+                case "adcPlayerId" -> players.adcPlayerId(reader.readString());
+                case "supportPlayerId" -> players.supportPlayerId(reader.readString());
+                case "topPlayerName" -> players.topPlayerName(reader.readString());
+                case "junglePlayerName" -> players.junglePlayerName(reader.readString());
+                case "midPlayerName" -> players.midPlayerName(reader.readString());
+                case "adcPlayerName" -> players.adcPlayerName(reader.readString());
+                case "supportPlayerName" -> players.supportPlayerName(reader.readString());
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        });
+        return players.build();
+    }
+
+    private static Roster.ChampionshipMatch readChampionshipMatch(BsonReader reader) {
+        Roster.ChampionshipMatch.ChampionshipMatchBuilder match = Roster.ChampionshipMatch.builder();
+        readDocument(reader, field -> {
+            switch (field) {
+                case "isChampionshipRoster" -> match.isChampionshipRoster(reader.readBoolean());
+                case "matchedChampionship" -> match.matchedChampionship(reader.readString());
+                case "matchedYear" -> match.matchedYear(readInt(reader));
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        });
+        return match.build();
+    }
+
+    // CommunityInfo는 빌더가 없으므로 직접 읽음 (likedUserIds 등 이전 버전 필드는 건너뜀)
+    private static Roster.CommunityInfo readCommunityInfo(BsonReader reader) {
+        boolean isPublic = false;
+        int likeCount = 0;
+        int commentCount = 0;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String field = reader.readName();
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                continue;
+            }
+            switch (field) {
+                case "isPublic" -> isPublic = reader.readBoolean();
+                case "likeCount" -> likeCount = readInt(reader);
+                case "commentCount" -> commentCount = readInt(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+
+        return new Roster.CommunityInfo(isPublic, likeCount, commentCount);
+    }
+
+    private static Roster.RankInfo readRankInfo(BsonReader reader) {
+        Roster.RankInfo.RankInfoBuilder rankInfo = Roster.RankInfo.builder();
+        readDocument(reader, field -> {
+            switch (field) {
+                case "score" -> rankInfo.score(readInt(reader));
+                case "tier" -> rankInfo.tier(reader.readString());
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        });
+        return rankInfo.build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.loga.domain.roster.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.loga.domain.roster.entity.RosterLike;
+
+/**
+ * 로스터 좋아요 레포지토리
+ */
+@Repository
+public interface RosterLikeRepository extends MongoRepository<RosterLike, String>, RosterLikeRepositoryCustom {
+
+    boolean existsByRosterIdAndUserId(String rosterId, String userId);
+
+    long deleteByRosterId(String rosterId);
+}
@@ -0,0 +1,49 @@
+package com.loga.domain.roster.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 로스터 좋아요 커스텀 레포지토리 인터페이스
+ */
+public interface RosterLikeRepositoryCustom {
+
+    /**
+     * (rosterId, userId) 유니크 인덱스 및 사용자별 조회용 (userId, rosterId) 인덱스 생성
+     */
+    void createIndexes();
+
+    /**
+     * 좋아요 추가 (이미 있으면 false)
+     */
+    boolean addLike(String rosterId, String userId);
+
+    /**
+     * 좋아요 취소 (없었으면 false)
+     */
+    boolean removeLike(String rosterId, String userId);
+
+    /**
+     * 로스터별 좋아요 일괄 추가 (upsert, 단일 bulkWrite, 이미 있는 좋아요는 무시)
+     *
+     * @param userIdsByRoster 로스터 ID → 좋아요한 사용자 ID 목록
+     */
+    void bulkAddLikes(Map<String, List<String>> userIdsByRoster);
+
+    /**
+     * 로스터별 좋아요 수 집계 (좋아요가 없는 로스터는 결과에 포함되지 않음)
+     */
+    Map<String, Integer> countByRosterIds(Collection<String> rosterIds);
+
+    /**
+     * 주어진 로스터 중 사용자가 좋아요한 로스터 ID 조회 (단일 $in 쿼리)
+     */
+    Set<String> findLikedRosterIds(String userId, Collection<String> rosterIds);
+
+    /**
+     * 사용자가 좋아요한 로스터 ID 목록 (최대 limit개)
+     */
+    List<String> findRosterIdsByUserId(String userId, int limit);
+}
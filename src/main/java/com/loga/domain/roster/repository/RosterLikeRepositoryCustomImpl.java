@@ -0,0 +1,127 @@
+package com.loga.domain.roster.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import com.loga.domain.roster.entity.RosterLike;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로스터 좋아요 커스텀 레포지토리 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class RosterLikeRepositoryCustomImpl implements RosterLikeRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void createIndexes() {
+        mongoTemplate.indexOps(RosterLike.class)
+                .createIndex(new Index()
+                        .on("rosterId", Sort.Direction.ASC)
+                        .on("userId", Sort.Direction.ASC)
+                        .unique()
+                        .named("roster_user_unique"));
+        mongoTemplate.indexOps(RosterLike.class)
+                .createIndex(new Index()
+                        .on("userId", Sort.Direction.ASC)
+                        .on("rosterId", Sort.Direction.ASC)
+                        .named("user_roster"));
+    }
+
+    @Override
+    public boolean addLike(String rosterId, String userId) {
+        try {
+            mongoTemplate.insert(RosterLike.of(rosterId, userId));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean removeLike(String rosterId, String userId) {
+        return mongoTemplate.remove(
+                Query.query(Criteria.where("rosterId").is(rosterId).and("userId").is(userId)),
+                RosterLike.class).getDeletedCount() > 0;
+    }
+
+    @Override
+    public void bulkAddLikes(Map<String, List<String>> userIdsByRoster) {
+        if (userIdsByRoster.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, RosterLike.class);
+        userIdsByRoster.forEach((rosterId, userIds) -> userIds.forEach(userId -> bulkOps.upsert(
+                Query.query(Criteria.where("rosterId").is(rosterId).and("userId").is(userId)),
+                new Update()
+                        .setOnInsert("createdAt", now)
+                        .setOnInsert("updatedAt", now))));
+        bulkOps.execute();
+    }
+
+    @Override
+    public Map<String, Integer> countByRosterIds(Collection<String> rosterIds) {
+        if (rosterIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("rosterId").in(rosterIds)),
+                Aggregation.group("rosterId").count().as("count"));
+
+        return mongoTemplate.aggregate(aggregation, RosterLike.class, Document.class)
+                .getMappedResults()
+                .stream()
+                .collect(Collectors.toMap(
+                        doc -> doc.getString("_id"),
+                        doc -> doc.get("count", Number.class).intValue()));
+    }
+
+    @Override
+    public Set<String> findLikedRosterIds(String userId, Collection<String> rosterIds) {
+        if (rosterIds.isEmpty()) {
+            return Set.of();
+        }
+
+        Query query = Query.query(Criteria.where("userId").is(userId).and("rosterId").in(rosterIds));
+        query.fields().include("rosterId").exclude("_id");
+
+        return mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(RosterLike.class))
+                .stream()
+                .map(doc -> doc.getString("rosterId"))
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public List<String> findRosterIdsByUserId(String userId, int limit) {
+        // (userId, rosterId) 인덱스만으로 처리되는 커버드 쿼리
+        Query query = Query.query(Criteria.where("userId").is(userId)).limit(limit);
+        query.fields().include("rosterId").exclude("_id");
+
+        return mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(RosterLike.class))
+                .stream()
+                .map(doc -> doc.getString("rosterId"))
+                .toList();
+    }
+}
@@ -0,0 +1,16 @@
+package com.loga.domain.roster.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.loga.domain.roster.entity.RosterLikeShard;
+
+/**
+ * 로스터 좋아요 수 샤드 레포지토리
+ */
+@Repository
+public interface RosterLikeShardRepository
+        extends MongoRepository<RosterLikeShard, String>, RosterLikeShardRepositoryCustom {
+
+    long deleteByRosterId(String rosterId);
+}
@@ -0,0 +1,21 @@
+package com.loga.domain.roster.repository;
+
+import java.util.Map;
+
+/**
+ * 로스터 좋아요 수 샤드 커스텀 레포지토리 인터페이스
+ */
+public interface RosterLikeShardRepositoryCustom {
+
+    /**
+     * 샤드 증감 ($inc, upsert)
+     */
+    void increment(String rosterId, int shard, int delta);
+
+    /**
+     * 반영 대기 중인 샤드를 꺼내 로스터별로 합산 (샤드 단위 findAndRemove이므로 여러 노드가 동시에 실행해도 중복 반영되지 않음)
+     *
+     * @return 로스터 ID → 증감 합계 (최대 limit개 샤드)
+     */
+    Map<String, Integer> drain(int limit);
+}
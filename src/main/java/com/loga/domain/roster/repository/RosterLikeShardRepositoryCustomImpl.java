@@ -0,0 +1,51 @@
+package com.loga.domain.roster.repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import com.loga.domain.roster.entity.RosterLikeShard;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로스터 좋아요 수 샤드 커스텀 레포지토리 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class RosterLikeShardRepositoryCustomImpl implements RosterLikeShardRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void increment(String rosterId, int shard, int delta) {
+        mongoTemplate.upsert(
+                Query.query(Criteria.where("_id").is(RosterLikeShard.idOf(rosterId, shard))),
+                new Update()
+                        .setOnInsert("rosterId", rosterId)
+                        .inc("count", delta),
+                RosterLikeShard.class);
+    }
+
+    @Override
+    public Map<String, Integer> drain(int limit) {
+        Query pending = new Query().limit(limit);
+        pending.fields().include("_id");
+
+        Map<String, Integer> sums = new HashMap<>();
+        for (RosterLikeShard candidate : mongoTemplate.find(pending, RosterLikeShard.class)) {
+            // 꺼낸 뒤 들어오는 $inc는 새 샤드 문서로 upsert 되므로 유실되지 않음
+            RosterLikeShard shard = mongoTemplate.findAndRemove(
+                    Query.query(Criteria.where("_id").is(candidate.getId())), RosterLikeShard.class);
+            if (shard != null && shard.getCount() != 0) {
+                sums.merge(shard.getRosterId(), shard.getCount(), Integer::sum);
+            }
+        }
+        return sums;
+    }
+}
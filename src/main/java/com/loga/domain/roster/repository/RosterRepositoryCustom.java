@@ -1,10 +1,17 @@
 package com.loga.domain.roster.repository;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import com.loga.domain.roster.dto.RosterSearchCondition;
+import com.loga.domain.roster.dto.RosterSummary;
 import com.loga.domain.roster.entity.Roster;
+import com.loga.infrastructure.persistence.KeysetCursor;
 
 /**
  * 로스터 커스텀 레포지토리 인터페이스
@@ -12,17 +19,90 @@ import com.loga.domain.roster.entity.Roster;
 public interface RosterRepositoryCustom {
 
     /**
-     * 동적 검색 조건으로 로스터 목록 조회
+     * 사용자 로스터 목록 조회 (요약 프로젝션)
      */
-    Page<Roster> search(RosterSearchCondition condition, Pageable pageable);
+    Page<RosterSummary> findSummariesByUserId(String userId, Pageable pageable);
 
     /**
-     * 인기순 정렬 조회
+     * 공개 로스터 조회 (요약 프로젝션)
      */
-    Page<Roster> findByPopularity(Pageable pageable);
+    Page<RosterSummary> findPublicRosters(Pageable pageable);
+
+    /**
+     * 우승 로스터 매칭된 공개 로스터 조회 (요약 프로젝션)
+     */
+    Page<RosterSummary> findPublicChampionshipRosters(Pageable pageable);
+
+    /**
+     * 동적 검색 조건으로 로스터 목록 조회 (요약 프로젝션)
+     */
+    Page<RosterSummary> search(RosterSearchCondition condition, Pageable pageable);
+
+    /**
+     * 인기순 정렬 조회 (샤드 카운터를 쓰는 로스터의 좋아요 수는 최대 fold 주기만큼 늦게 반영됨)
+     */
+    Page<RosterSummary> findByPopularity(Pageable pageable);
+
+    /**
+     * 공개 로스터 키셋 조회 (최신순, _id 내림차순)
+     *
+     * @param championshipOnly 우승 로스터 매칭만 조회할지 여부
+     * @param after 이전 페이지 마지막 항목 커서 (null이면 첫 페이지)
+     */
+    Slice<RosterSummary> findPublicSlice(boolean championshipOnly, KeysetCursor after, Pageable pageable);
+
+    /**
+     * 인기순 키셋 조회 (likeCount, _id 내림차순)
+     *
+     * 페이지 사이에 좋아요 수가 바뀐 로스터는 누락되거나 중복될 수 있습니다.
+     *
+     * @param after 이전 페이지 마지막 항목 커서 (null이면 첫 페이지)
+     */
+    Slice<RosterSummary> findPopularSlice(KeysetCursor after, Pageable pageable);
 
     /**
      * 티어별 랭크 로스터 조회
      */
     Page<Roster> findRankedByTier(String tier, Pageable pageable);
+
+    /**
+     * 좋아요 수 원자적 증감 ($inc, 감소 시 0 미만으로 내려가지 않음)
+     *
+     * @return 갱신된 로스터 (로스터가 없거나 감소할 좋아요가 없으면 empty)
+     */
+    Optional<Roster> incrementLikeCount(String rosterId, int delta);
+
+    /**
+     * 댓글 수 원자적 증감 ($inc, 감소 시 0 미만으로 내려가지 않음)
+     *
+     * @return 갱신 여부 (로스터가 없거나 감소할 댓글이 없으면 false)
+     */
+    boolean incrementCommentCount(String rosterId, int delta);
+
+    /**
+     * 로스터별 좋아요 수 일괄 증감 ($inc, 단일 bulkWrite)
+     *
+     * @param deltas 로스터 ID → 증감분
+     */
+    void bulkIncrementLikeCount(Map<String, Integer> deltas);
+
+    /**
+     * 아직 이전되지 않은 내장 좋아요 배열 조회 (마이그레이션용, _id 순 페이징)
+     *
+     * @param afterId 이전 배치의 마지막 로스터 ID (처음이면 null)
+     * @return 로스터 ID → 좋아요한 사용자 ID 목록 (_id 순, 최대 limit개 로스터)
+     */
+    Map<String, List<String>> findEmbeddedLikes(String afterId, int limit);
+
+    /**
+     * 내장 좋아요 배열이 아직 남아 있는지 확인
+     */
+    boolean hasEmbeddedLikes(String rosterId);
+
+    /**
+     * 내장 좋아요 배열 제거 및 좋아요 수 재설정 (단일 bulkWrite, 배열이 남은 로스터만)
+     *
+     * @param likeCounts 로스터 ID → roster_likes 기준 좋아요 수
+     */
+    void completeEmbeddedLikeMigration(Map<String, Integer> likeCounts);
 }
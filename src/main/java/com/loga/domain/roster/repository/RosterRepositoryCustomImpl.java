@@ -1,62 +1,148 @@
 package com.loga.domain.roster.repository;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 import com.loga.domain.roster.dto.RosterSearchCondition;
+import com.loga.domain.roster.dto.RosterSummary;
 import com.loga.domain.roster.entity.Roster;
+import com.loga.infrastructure.persistence.CountCache;
+import com.loga.infrastructure.persistence.CountedPage;
+import com.loga.infrastructure.persistence.CustomMongoRepositoryImpl;
+import com.loga.infrastructure.persistence.KeysetCursor;
 import com.loga.infrastructure.persistence.MongoQueryBuilder;
-
-import lombok.RequiredArgsConstructor;
+import com.loga.infrastructure.persistence.QueryPlanAdvisor;
 
 /**
  * 로스터 커스텀 레포지토리 구현체
  */
 @Repository
-@RequiredArgsConstructor
-public class RosterRepositoryCustomImpl implements RosterRepositoryCustom {
+public class RosterRepositoryCustomImpl extends CustomMongoRepositoryImpl<Roster> implements RosterRepositoryCustom {
+
+    // 이전 버전에서 로스터 문서에 내장하던 좋아요 사용자 배열
+    private static final String EMBEDDED_LIKES_FIELD = "communityInfo.likedUserIds";
+
+    private static final String LIKE_COUNT_FIELD = "communityInfo.likeCount";
+
+    private static final String COMMENT_COUNT_FIELD = "communityInfo.commentCount";
 
-    private final MongoTemplate mongoTemplate;
+    // 목록 조회 시 읽는 필드
+    private static final String[] SUMMARY_FIELDS = Document.parse(RosterSummary.PROJECTION)
+            .keySet()
+            .toArray(String[]::new);
+
+    public RosterRepositoryCustomImpl(MongoTemplate mongoTemplate, CountCache countCache) {
+        super(mongoTemplate, Roster.class, countCache);
+    }
 
     @Override
-    public Page<Roster> search(RosterSearchCondition condition, Pageable pageable) {
-        Query query = MongoQueryBuilder.builder()
+    public Page<RosterSummary> findSummariesByUserId(String userId, Pageable pageable) {
+        MongoQueryBuilder builder = MongoQueryBuilder.builder()
+                .eq("userId", userId)
+                .include(SUMMARY_FIELDS);
+
+        return findAll(builder, pageable, RosterSummary.class);
+    }
+
+    @Override
+    public Page<RosterSummary> findPublicRosters(Pageable pageable) {
+        MongoQueryBuilder builder = MongoQueryBuilder.builder()
+                .eq("communityInfo.isPublic", true)
+                .include(SUMMARY_FIELDS);
+
+        return findAll(builder, pageable, RosterSummary.class);
+    }
+
+    @Override
+    public Page<RosterSummary> findPublicChampionshipRosters(Pageable pageable) {
+        MongoQueryBuilder builder = MongoQueryBuilder.builder()
+                .eq("communityInfo.isPublic", true)
+                .eq("championshipMatch.isChampionshipRoster", true)
+                .include(SUMMARY_FIELDS);
+
+        return findAll(builder, pageable, RosterSummary.class);
+    }
+
+    @Override
+    public Page<RosterSummary> search(RosterSearchCondition condition, Pageable pageable) {
+        MongoQueryBuilder builder = MongoQueryBuilder.builder()
                 .eq("userId", condition.getUserId())
                 .eq("communityInfo.isPublic", condition.getIsPublic())
                 .eq("championshipMatch.isChampionshipRoster", condition.getIsChampionship())
                 .eq("gameMode", condition.getGameMode())
                 .eq("rankInfo.tier", condition.getTier())
-                .build();
-
-        long total = mongoTemplate.count(query, Roster.class);
+                .include(SUMMARY_FIELDS);
 
-        query.with(pageable);
-        List<Roster> content = mongoTemplate.find(query, Roster.class);
-
-        return new PageImpl<>(content, pageable, total);
+        return findAll(builder, pageable, RosterSummary.class);
     }
 
     @Override
-    public Page<Roster> findByPopularity(Pageable pageable) {
+    public Page<RosterSummary> findByPopularity(Pageable pageable) {
         Query query = MongoQueryBuilder.builder()
                 .eq("communityInfo.isPublic", true)
+                .include(SUMMARY_FIELDS)
                 .build();
 
-        query.with(Sort.by(Sort.Direction.DESC, "communityInfo.likeCount"));
+        query.with(Sort.by(Sort.Direction.DESC, LIKE_COUNT_FIELD));
 
-        long total = mongoTemplate.count(Query.of(query).limit(-1).skip(-1), Roster.class);
+        return findAll(query, pageable, RosterSummary.class);
+    }
 
-        query.with(pageable);
-        List<Roster> content = mongoTemplate.find(query, Roster.class);
+    @Override
+    public Slice<RosterSummary> findPublicSlice(boolean championshipOnly, KeysetCursor after, Pageable pageable) {
+        MongoQueryBuilder builder = MongoQueryBuilder.builder()
+                .eq("communityInfo.isPublic", true)
+                .eq("championshipMatch.isChampionshipRoster", championshipOnly ? Boolean.TRUE : null)
+                .after("_id", null, after != null ? after.id() : null)
+                .include(SUMMARY_FIELDS);
+
+        return findSlice(builder, PageRequest.of(0, pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "_id")),
+                RosterSummary.class);
+    }
+
+    @Override
+    public Slice<RosterSummary> findPopularSlice(KeysetCursor after, Pageable pageable) {
+        MongoQueryBuilder builder = MongoQueryBuilder.builder()
+                .eq("communityInfo.isPublic", true)
+                .include(SUMMARY_FIELDS);
+        if (after != null) {
+            builder.after(LIKE_COUNT_FIELD, after.intValue(), after.id());
+        }
+
+        return findSlice(builder,
+                PageRequest.of(0, pageable.getPageSize(), Sort.by(Sort.Direction.DESC, LIKE_COUNT_FIELD)),
+                RosterSummary.class);
+    }
 
-        return new PageImpl<>(content, pageable, total);
+    /**
+     * 요약 프로젝션은 RosterCodec으로 디코딩 (목록/피드 조회 경로)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <P> List<P> findAll(Query query, Class<P> projection) {
+        if (projection == RosterSummary.class) {
+            return (List<P>) findAllDecoded(query).stream()
+                    .map(RosterSummary::of)
+                    .toList();
+        }
+        return super.findAll(query, projection);
     }
 
     @Override
@@ -68,11 +154,93 @@ public class RosterRepositoryCustomImpl implements RosterRepositoryCustom {
 
         query.with(Sort.by(Sort.Direction.DESC, "rankInfo.score"));
 
-        long total = mongoTemplate.count(Query.of(query).limit(-1).skip(-1), Roster.class);
+        CountCache.Total total = countCache.count(query, Roster.class);
 
         query.with(pageable);
         List<Roster> content = mongoTemplate.find(query, Roster.class);
 
-        return new PageImpl<>(content, pageable, total);
+        return new CountedPage<>(content, pageable, total);
+    }
+
+    @Override
+    public Optional<Roster> incrementLikeCount(String rosterId, int delta) {
+        Criteria criteria = Criteria.where("_id").is(rosterId);
+        if (delta < 0) {
+            criteria = criteria.and("communityInfo.likeCount").gte(-delta);
+        }
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                Query.query(criteria),
+                new Update().inc("communityInfo.likeCount", delta),
+                FindAndModifyOptions.options().returnNew(true),
+                Roster.class));
+    }
+
+    @Override
+    public boolean incrementCommentCount(String rosterId, int delta) {
+        Criteria criteria = Criteria.where("_id").is(rosterId);
+        if (delta < 0) {
+            criteria = criteria.and(COMMENT_COUNT_FIELD).gte(-delta);
+        }
+
+        return mongoTemplate.updateFirst(Query.query(criteria), new Update().inc(COMMENT_COUNT_FIELD, delta),
+                Roster.class).getModifiedCount() > 0;
+    }
+
+    @Override
+    public void bulkIncrementLikeCount(Map<String, Integer> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Roster.class);
+        deltas.forEach((rosterId, delta) -> bulkOps.updateOne(
+                Query.query(Criteria.where("_id").is(rosterId)),
+                new Update().inc("communityInfo.likeCount", delta)));
+        bulkOps.execute();
+    }
+
+    @Override
+    public Map<String, List<String>> findEmbeddedLikes(String afterId, int limit) {
+        Criteria criteria = Criteria.where(EMBEDDED_LIKES_FIELD).exists(true);
+        if (afterId != null) {
+            // Document 조회는 엔티티 매핑을 거치지 않으므로 _id 타입을 직접 맞춤
+            criteria = criteria.and("_id").gt(ObjectId.isValid(afterId) ? new ObjectId(afterId) : afterId);
+        }
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(limit)
+                .comment(QueryPlanAdvisor.FULL_SCAN);
+        query.fields().include(EMBEDDED_LIKES_FIELD);
+
+        Map<String, List<String>> likes = new LinkedHashMap<>();
+        for (Document doc : mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(Roster.class))) {
+            Document communityInfo = doc.get("communityInfo", Document.class);
+            List<String> userIds = communityInfo.getList("likedUserIds", String.class);
+            likes.put(doc.get("_id").toString(), userIds != null ? userIds : List.of());
+        }
+        return likes;
+    }
+
+    @Override
+    public boolean hasEmbeddedLikes(String rosterId) {
+        return mongoTemplate.exists(
+                Query.query(Criteria.where("_id").is(rosterId).and(EMBEDDED_LIKES_FIELD).exists(true)), Roster.class);
+    }
+
+    @Override
+    public void completeEmbeddedLikeMigration(Map<String, Integer> likeCounts) {
+        if (likeCounts.isEmpty()) {
+            return;
+        }
+
+        // 배열이 남은 문서만 갱신: 다른 인스턴스가 먼저 이전한 뒤 $inc된 좋아요 수를 덮어쓰지 않음
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Roster.class);
+        likeCounts.forEach((rosterId, likeCount) -> bulkOps.updateOne(
+                Query.query(Criteria.where("_id").is(rosterId).and(EMBEDDED_LIKES_FIELD).exists(true)),
+                new Update()
+                        .unset(EMBEDDED_LIKES_FIELD)
+                        .set(LIKE_COUNT_FIELD, likeCount)));
+        bulkOps.execute();
     }
 }
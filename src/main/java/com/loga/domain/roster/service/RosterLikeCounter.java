@@ -0,0 +1,124 @@
+package com.loga.domain.roster.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.loga.domain.roster.entity.Roster;
+import com.loga.domain.roster.repository.RosterLikeShardRepository;
+import com.loga.domain.roster.repository.RosterRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로스터 좋아요 수 카운터 (인기 로스터 자동 샤딩)
+ *
+ * 평소에는 로스터 문서의 likeCount에 바로 $inc 합니다. 노드에서 초당 쓰기 수가 임계치를 넘은 로스터는 일정 시간(cooldown) 동안 N개 샤드 중 임의의 하나에 $inc 하여 단일 문서
+ * 쓰기 잠금 경합을 피하고, 주기 작업(fold)이 샤드 합계를 likeCount에 반영합니다. 따라서 인기순 정렬과 응답의 likeCount는 최대 fold 주기만큼 늦을 수 있습니다.
+ */
+@Slf4j
+@Component
+public class RosterLikeCounter {
+
+    private final RosterRepository rosterRepository;
+    private final RosterLikeShardRepository rosterLikeShardRepository;
+    private final int shardCount;
+    private final int hotThresholdPerSecond;
+    private final long hotCooldownNanos;
+    private final int foldBatchSize;
+
+    // 로스터 ID → 초 단위 쓰기 수 (상위 32bit: 초, 하위 32bit: 횟수)
+    private final ConcurrentHashMap<String, AtomicLong> writeRates = new ConcurrentHashMap<>();
+    // 로스터 ID → 샤딩 유지 기한 (nanoTime)
+    private final ConcurrentHashMap<String, Long> hotUntil = new ConcurrentHashMap<>();
+
+    public RosterLikeCounter(RosterRepository rosterRepository, RosterLikeShardRepository rosterLikeShardRepository,
+            @Value("${roster.like-counter.shard-count:8}") int shardCount,
+            @Value("${roster.like-counter.hot-threshold-per-second:20}") int hotThresholdPerSecond,
+            @Value("${roster.like-counter.hot-cooldown-seconds:60}") long hotCooldownSeconds,
+            @Value("${roster.like-counter.fold-batch-size:1000}") int foldBatchSize) {
+        this.rosterRepository = rosterRepository;
+        this.rosterLikeShardRepository = rosterLikeShardRepository;
+        this.shardCount = shardCount;
+        this.hotThresholdPerSecond = hotThresholdPerSecond;
+        this.hotCooldownNanos = Duration.ofSeconds(hotCooldownSeconds).toNanos();
+        this.foldBatchSize = foldBatchSize;
+    }
+
+    /**
+     * 좋아요 수 증감
+     *
+     * @return 갱신된 로스터 (샤딩 중이면 아직 반영되지 않은 현재 문서, 로스터가 없거나 감소할 좋아요가 없으면 empty)
+     */
+    public Optional<Roster> increment(String rosterId, int delta) {
+        long now = System.nanoTime();
+        if (!recordWrite(rosterId, now)) {
+            return rosterRepository.incrementLikeCount(rosterId, delta);
+        }
+
+        int shard = ThreadLocalRandom.current().nextInt(shardCount);
+        rosterLikeShardRepository.increment(rosterId, shard, delta);
+        return rosterRepository.findById(rosterId);
+    }
+
+    /**
+     * 샤드 합계를 로스터 likeCount에 반영 (주기당 최대 foldBatchSize개 샤드)
+     */
+    @Scheduled(fixedDelayString = "${roster.like-counter.fold-interval-ms:1000}")
+    public void fold() {
+        try {
+            apply(rosterLikeShardRepository.drain(foldBatchSize));
+        } catch (RuntimeException e) {
+            log.error("Failed to fold roster like shards", e);
+        }
+        sweep(System.nanoTime());
+    }
+
+    private void apply(Map<String, Integer> deltas) {
+        try {
+            rosterRepository.bulkIncrementLikeCount(deltas);
+        } catch (RuntimeException e) {
+            // 꺼낸 샤드는 이미 삭제되었으므로 다음 fold에서 다시 반영되도록 되돌림
+            deltas.forEach((rosterId, delta) -> rosterLikeShardRepository.increment(rosterId, 0, delta));
+            throw e;
+        }
+    }
+
+    /**
+     * 쓰기 기록 후 샤딩 대상 여부 반환
+     */
+    private boolean recordWrite(String rosterId, long now) {
+        int second = (int) (now / 1_000_000_000L);
+        long state = writeRates.computeIfAbsent(rosterId, id -> new AtomicLong())
+                .updateAndGet(current -> (int) (current >>> 32) == second
+                        ? current + 1
+                        : ((long) second << 32) | 1);
+        int writesThisSecond = (int) state;
+
+        if (writesThisSecond > hotThresholdPerSecond) {
+            if (hotUntil.put(rosterId, now + hotCooldownNanos) == null) {
+                log.info("Roster {} is hot ({} likes/s), switching to {} counter shards", rosterId,
+                        writesThisSecond, shardCount);
+            }
+            return true;
+        }
+        Long until = hotUntil.get(rosterId);
+        return until != null && until - now > 0;
+    }
+
+    /**
+     * 지난 쓰기 기록과 만료된 샤딩 상태 정리
+     */
+    private void sweep(long now) {
+        int second = (int) (now / 1_000_000_000L);
+        writeRates.values().removeIf(rate -> (int) (rate.get() >>> 32) != second);
+        hotUntil.values().removeIf(until -> until - now <= 0);
+    }
+}
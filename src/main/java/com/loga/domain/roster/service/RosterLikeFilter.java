@@ -0,0 +1,160 @@
+package com.loga.domain.roster.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.loga.domain.roster.repository.RosterLikeRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 좋아요 Bloom 필터 캐시
+ *
+ * 사용자가 좋아요한 로스터 ID로 Bloom 필터를 만들어 두고, 목록 조회 시 "확실히 좋아요하지 않은" 로스터를 쿼리 없이 걸러냅니다. 필터는 노드별 메모리에만 있으므로 적재 당시
+ * 사용자의 좋아요 버전(User.likeVersion, 좋아요 추가 시 $inc)을 함께 보관하고, 요청 principal의 버전이 더 크면 다른 노드에서 좋아요가 추가된 것이므로 다시 적재합니다.
+ * TTL(기본 5분)은 메모리 정리를 위한 상한입니다. 좋아요가 너무 많은 사용자는 필터 없이 항상 쿼리합니다.
+ *
+ * 적재 쿼리가 진행되는 동안 이 노드에서 추가된 좋아요는 쿼리 결과에 없을 수 있으므로 따로 모아 두었다가 새 필터에 더한 뒤 캐시합니다.
+ */
+@Slf4j
+@Component
+public class RosterLikeFilter {
+
+    private final RosterLikeRepository rosterLikeRepository;
+    private final Duration ttl;
+    private final int maxLikesPerUser;
+    private final double falsePositiveRate;
+
+    // 접근 순서 LRU (동기화는 맵 자체로)
+    private final Map<String, UserFilter> filters;
+
+    // 적재 중인 사용자별로 그 사이에 추가된 좋아요 (filters로 동기화)
+    private final Map<String, PendingLikes> pendingLikes = new HashMap<>();
+
+    public RosterLikeFilter(RosterLikeRepository rosterLikeRepository,
+            @Value("${roster.liked-filter.max-users:10000}") int maxUsers,
+            @Value("${roster.liked-filter.ttl-seconds:300}") long ttlSeconds,
+            @Value("${roster.liked-filter.max-likes-per-user:50000}") int maxLikesPerUser,
+            @Value("${roster.liked-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.rosterLikeRepository = rosterLikeRepository;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.maxLikesPerUser = maxLikesPerUser;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filters = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, UserFilter> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    /**
+     * 좋아요했을 수 있는 로스터만 남김 (필터가 없거나 likeVersion보다 오래되었으면 적재 후 판별)
+     *
+     * @param likeVersion 요청 시점에 읽은 사용자의 좋아요 버전
+     */
+    public List<String> candidates(String userId, long likeVersion, Collection<String> rosterIds) {
+        BloomFilter filter = getOrLoad(userId, likeVersion);
+        if (filter == null) {
+            return List.copyOf(rosterIds);
+        }
+        return rosterIds.stream()
+                .filter(filter::mightContain)
+                .toList();
+    }
+
+    /**
+     * 이 노드에서 추가된 좋아요를 필터에 반영 (취소는 false positive로만 남으므로 반영하지 않음)
+     */
+    public void recordLike(String userId, String rosterId) {
+        UserFilter cached;
+        synchronized (filters) {
+            PendingLikes pending = pendingLikes.get(userId);
+            if (pending != null) {
+                pending.rosterIds.add(rosterId);
+            }
+            cached = filters.get(userId);
+        }
+        if (cached != null && cached.filter() != null) {
+            cached.filter().add(rosterId);
+        }
+    }
+
+    private BloomFilter getOrLoad(String userId, long likeVersion) {
+        long now = System.nanoTime();
+        synchronized (filters) {
+            UserFilter cached = filters.get(userId);
+            if (cached != null && cached.likeVersion() >= likeVersion && now - cached.loadedAt() < ttl.toNanos()) {
+                return cached.filter();
+            }
+            pendingLikes.computeIfAbsent(userId, id -> new PendingLikes()).loaders++;
+        }
+
+        BloomFilter filter;
+        try {
+            filter = load(userId);
+        } catch (RuntimeException e) {
+            synchronized (filters) {
+                release(userId);
+            }
+            throw e;
+        }
+
+        synchronized (filters) {
+            Set<String> likedWhileLoading = release(userId);
+            if (filter != null) {
+                likedWhileLoading.forEach(filter::add);
+            }
+            // 버전을 읽은 뒤 적재했으므로 likeVersion까지의 좋아요가 모두 포함됨 (더 새 버전으로 적재된 필터는 유지)
+            UserFilter current = filters.get(userId);
+            if (current == null || current.likeVersion() <= likeVersion) {
+                filters.put(userId, new UserFilter(filter, now, likeVersion));
+            }
+        }
+        return filter;
+    }
+
+    /**
+     * 적재 종료 표시 후 적재 중 추가된 좋아요 반환 (마지막 적재가 끝나면 목록 제거, filters 잠금 안에서 호출)
+     */
+    private Set<String> release(String userId) {
+        PendingLikes pending = pendingLikes.get(userId);
+        if (--pending.loaders == 0) {
+            pendingLikes.remove(userId);
+        }
+        return pending.rosterIds;
+    }
+
+    /**
+     * 좋아요한 로스터 ID로 필터 생성 (상한 초과 시 null = 항상 쿼리)
+     */
+    private BloomFilter load(String userId) {
+        List<String> rosterIds = rosterLikeRepository.findRosterIdsByUserId(userId, maxLikesPerUser + 1);
+        if (rosterIds.size() > maxLikesPerUser) {
+            log.debug("User {} has more than {} likes, skipping bloom filter", userId, maxLikesPerUser);
+            return null;
+        }
+
+        // 적재 후 추가될 좋아요를 위해 여유를 두고 생성
+        BloomFilter filter = BloomFilter.create(rosterIds.size() + rosterIds.size() / 4 + 64, falsePositiveRate);
+        rosterIds.forEach(filter::add);
+        return filter;
+    }
+
+    private record UserFilter(BloomFilter filter, long loadedAt, long likeVersion) {
+    }
+
+    private static final class PendingLikes {
+        private final Set<String> rosterIds = new HashSet<>();
+        private int loaders;
+    }
+}
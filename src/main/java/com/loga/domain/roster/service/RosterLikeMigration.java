@@ -0,0 +1,132 @@
+package com.loga.domain.roster.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.loga.domain.roster.repository.RosterLikeRepository;
+import com.loga.domain.roster.repository.RosterRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로스터 내장 좋아요 배열 → roster_likes 컬렉션 이전
+ *
+ * 시작 시 유니크 인덱스를 만든 뒤, 내장 배열이 남은 로스터를 _id 순으로 배치 단위로 꺼내 좋아요를 upsert 하고 배열 제거와 함께 좋아요 수를 roster_likes 기준으로 다시
+ * 맞춥니다. 배치마다 마지막 _id 뒤부터 이어서 읽으므로 컬렉션을 처음부터 다시 훑지 않습니다. 처리한 로스터는 배열이 사라지므로 중단되어도 재시도 주기(기본 1분)에 이어서 진행되며,
+ * 여러 인스턴스가 동시에 실행해도 결과는 같습니다.
+ *
+ * 배열이 남은 로스터의 좋아요 토글은 {@link #isPending}으로 막습니다. 그래서 좋아요 수를 센 뒤 배열 제거와 함께 $set 할 때까지 roster_likes와 likeCount가 바뀌지 않고,
+ * 이전 전 좋아요를 새 좋아요로 잘못 추가하지도 않습니다.
+ */
+@Slf4j
+@Component
+public class RosterLikeMigration {
+
+    private final RosterRepository rosterRepository;
+    private final RosterLikeRepository rosterLikeRepository;
+    private final int batchSize;
+
+    // 이 노드의 이전이 끝나 더 이상 배열이 남은 로스터가 없음
+    private volatile boolean completed = false;
+    private volatile boolean indexesCreated = false;
+    private final AtomicBoolean migrating = new AtomicBoolean(false);
+
+    public RosterLikeMigration(RosterRepository rosterRepository, RosterLikeRepository rosterLikeRepository,
+            @Value("${roster.like-migration.batch-size:500}") int batchSize) {
+        this.rosterRepository = rosterRepository;
+        this.rosterLikeRepository = rosterLikeRepository;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (createIndexes()) {
+            Thread.ofVirtual().name("roster-like-migration").start(this::migrateIfPending);
+        }
+    }
+
+    /**
+     * 인덱스 생성이나 이전이 실패해 끝나지 않았으면 다시 시도
+     */
+    @Scheduled(fixedDelayString = "${roster.like-migration.retry-interval-ms:60000}", initialDelayString = "${roster.like-migration.retry-interval-ms:60000}")
+    public void retryIfIncomplete() {
+        if (!completed && createIndexes()) {
+            migrateIfPending();
+        }
+    }
+
+    /**
+     * 내장 좋아요 배열이 아직 남아 있어 좋아요 토글을 받을 수 없는지 확인 (이전이 끝난 뒤에는 쿼리하지 않음)
+     */
+    public boolean isPending(String rosterId) {
+        return !completed && rosterRepository.hasEmbeddedLikes(rosterId);
+    }
+
+    /**
+     * 내장 배열이 남지 않을 때까지 배치 단위로 이전
+     *
+     * @return 이전한 로스터 수
+     */
+    public int migrate() {
+        int migrated = 0;
+        String lastId = null;
+        try {
+            Map<String, List<String>> batch;
+            while (!(batch = rosterRepository.findEmbeddedLikes(lastId, batchSize)).isEmpty()) {
+                rosterLikeRepository.bulkAddLikes(batch);
+
+                Map<String, Integer> counts = rosterLikeRepository.countByRosterIds(batch.keySet());
+                Map<String, Integer> likeCounts = new HashMap<>();
+                batch.keySet().forEach(rosterId -> likeCounts.put(rosterId, counts.getOrDefault(rosterId, 0)));
+                rosterRepository.completeEmbeddedLikeMigration(likeCounts);
+
+                migrated += batch.size();
+                lastId = List.copyOf(batch.keySet()).getLast();
+            }
+        } catch (RuntimeException e) {
+            log.error("Embedded like migration stopped after {} rosters, will retry", migrated, e);
+            return migrated;
+        }
+
+        completed = true;
+        if (migrated > 0) {
+            log.info("Migrated embedded likes of {} rosters to roster_likes", migrated);
+        }
+        return migrated;
+    }
+
+    private void migrateIfPending() {
+        // 시작 시 실행과 재시도 주기가 겹치면 한쪽만 실행
+        if (completed || !migrating.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            migrate();
+        } finally {
+            migrating.set(false);
+        }
+    }
+
+    private boolean createIndexes() {
+        if (indexesCreated) {
+            return true;
+        }
+        try {
+            rosterLikeRepository.createIndexes();
+            indexesCreated = true;
+            return true;
+        } catch (RuntimeException e) {
+            // 유니크 인덱스 없이 이전하면 중복 좋아요가 생길 수 있으므로 다음 주기까지 보류
+            log.error("Failed to create roster like indexes, postponing embedded like migration", e);
+            return false;
+        }
+    }
+}
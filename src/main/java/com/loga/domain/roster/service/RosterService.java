@@ -1,20 +1,27 @@
 package com.loga.domain.roster.service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.loga.domain.player.dto.PlayerResponse;
 import com.loga.domain.player.entity.Championship;
-import com.loga.domain.player.entity.Player;
-import com.loga.domain.player.repository.ChampionshipRepository;
-import com.loga.domain.player.repository.PlayerRepository;
+import com.loga.domain.player.service.ChampionshipMatcher;
+import com.loga.domain.player.service.PlayerCatalog;
 import com.loga.domain.roster.dto.CreateRosterRequest;
 import com.loga.domain.roster.dto.RosterResponse;
 import com.loga.domain.roster.dto.RosterSearchCondition;
+import com.loga.domain.roster.dto.RosterSummary;
 import com.loga.domain.roster.entity.Roster;
+import com.loga.domain.roster.repository.RosterLikeRepository;
+import com.loga.domain.roster.repository.RosterLikeShardRepository;
 import com.loga.domain.roster.repository.RosterRepository;
 import com.loga.domain.user.entity.User;
 import com.loga.domain.user.repository.UserRepository;
@@ -34,8 +41,13 @@ import lombok.extern.slf4j.Slf4j;
 public class RosterService {
 
     private final RosterRepository rosterRepository;
-    private final PlayerRepository playerRepository;
-    private final ChampionshipRepository championshipRepository;
+    private final RosterLikeRepository rosterLikeRepository;
+    private final RosterLikeShardRepository rosterLikeShardRepository;
+    private final RosterLikeFilter rosterLikeFilter;
+    private final RosterLikeCounter rosterLikeCounter;
+    private final RosterLikeMigration rosterLikeMigration;
+    private final PlayerCatalog playerCatalog;
+    private final ChampionshipMatcher championshipMatcher;
     private final UserRepository userRepository;
 
     /**
@@ -43,15 +55,18 @@ public class RosterService {
      */
     @Transactional
     public RosterResponse createRoster(CreateRosterRequest request, User user) {
-        // 선수 정보 조회
-        Player top = getPlayer(request.getTopPlayerId());
-        Player jungle = getPlayer(request.getJunglePlayerId());
-        Player mid = getPlayer(request.getMidPlayerId());
-        Player adc = getPlayer(request.getAdcPlayerId());
-        Player support = getPlayer(request.getSupportPlayerId());
+        // 선수 정보 일괄 조회 (없는 선수는 한 번에 모두 보고)
+        Map<String, PlayerResponse> cards = playerCatalog.getAll(List.of(
+                request.getTopPlayerId(), request.getJunglePlayerId(), request.getMidPlayerId(),
+                request.getAdcPlayerId(), request.getSupportPlayerId()));
+        PlayerResponse top = cards.get(request.getTopPlayerId());
+        PlayerResponse jungle = cards.get(request.getJunglePlayerId());
+        PlayerResponse mid = cards.get(request.getMidPlayerId());
+        PlayerResponse adc = cards.get(request.getAdcPlayerId());
+        PlayerResponse support = cards.get(request.getSupportPlayerId());
 
         // 우승 로스터 체크
-        Optional<Championship> matched = championshipRepository.findByRosterPlayers(
+        Optional<Championship> matched = championshipMatcher.match(
                 top.getId(), jungle.getId(), mid.getId(), adc.getId(), support.getId());
 
         Roster.ChampionshipMatch championshipMatch = matched
@@ -81,9 +96,8 @@ public class RosterService {
 
         roster = rosterRepository.save(roster);
 
-        // 유저 통계 업데이트
-        user.addRoster(roster.getId(), matched.isPresent());
-        userRepository.save(user);
+        // 유저 통계 업데이트 (사용자 문서 전체 저장 대신 $inc)
+        userRepository.incrementRosterCount(user.getId(), matched.isPresent());
 
         return RosterResponse.from(roster);
     }
@@ -99,35 +113,80 @@ public class RosterService {
     }
 
     /**
-     * 유저 로스터 목록
+     * 유저 로스터 목록 (viewer가 있으면 좋아요 여부 포함)
      */
     @Transactional(readOnly = true)
-    public PageResponse<RosterResponse> getUserRosters(String userId, Pageable pageable) {
-        Page<Roster> page = rosterRepository.findByUserId(userId, pageable);
-        return PageResponse.from(page, RosterResponse::from);
+    public PageResponse<RosterResponse> getUserRosters(String userId, Pageable pageable, User viewer) {
+        Page<RosterSummary> page = rosterRepository.findSummariesByUserId(userId, pageable);
+        return toPageResponse(page, viewer);
     }
 
     /**
-     * 동적 검색
+     * 동적 검색 (viewer가 있으면 좋아요 여부 포함)
      */
     @Transactional(readOnly = true)
-    public PageResponse<RosterResponse> searchRosters(RosterSearchCondition condition, Pageable pageable) {
-        Page<Roster> page = rosterRepository.search(condition, pageable);
-        return PageResponse.from(page, RosterResponse::from);
+    public PageResponse<RosterResponse> searchRosters(RosterSearchCondition condition, Pageable pageable,
+            User viewer) {
+        Page<RosterSummary> page = rosterRepository.search(condition, pageable);
+        return toPageResponse(page, viewer);
+    }
+
+    /**
+     * 주어진 로스터 중 사용자가 좋아요한 로스터 ID 조회
+     *
+     * 사용자별 Bloom 필터로 좋아요하지 않은 로스터를 먼저 걸러내고, 남은 로스터만 단일 $in 쿼리로 확인합니다. 남은 로스터가 없으면 쿼리하지 않습니다. 필터는 요청
+     * principal의 좋아요 버전보다 오래되었으면 다시 적재되므로 다른 노드에서 누른 좋아요도 빠지지 않습니다.
+     */
+    public Set<String> findLikedRosterIds(Collection<String> rosterIds, User viewer) {
+        if (viewer == null || viewer.getId() == null || rosterIds.isEmpty()) {
+            return Set.of();
+        }
+
+        String userId = viewer.getId();
+        List<String> candidates = rosterLikeFilter.candidates(userId, viewer.getLikeVersion(), rosterIds);
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        return rosterLikeRepository.findLikedRosterIds(userId, candidates);
     }
 
     /**
      * 좋아요 토글
+     *
+     * roster_likes에 추가를 시도하고, 유니크 인덱스에 막히면(이미 좋아요) 삭제합니다. 로스터 문서는 likeCount $inc 한 번만 갱신하며, 쓰기가 몰리는 로스터는 샤드
+     * 카운터에 기록됩니다.
      */
     @Transactional
     public RosterResponse toggleLike(String rosterId, User user) {
-        Roster roster = rosterRepository.findById(rosterId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ROSTER_NOT_FOUND));
+        if (!rosterRepository.existsById(rosterId)) {
+            throw new BusinessException(ErrorCode.ROSTER_NOT_FOUND);
+        }
+        if (rosterLikeMigration.isPending(rosterId)) {
+            // 이전 중인 로스터는 roster_likes와 likeCount가 아직 확정되지 않음
+            throw new BusinessException(ErrorCode.ROSTER_LIKE_MIGRATING);
+        }
 
-        roster.toggleLike(user.getId());
-        rosterRepository.save(roster);
+        String userId = user.getId();
+        if (rosterLikeRepository.addLike(rosterId, userId)) {
+            // 다른 노드의 필터는 버전 증가로, 이 노드의 필터는 직접 추가로 반영
+            userRepository.incrementLikeVersion(userId);
+            rosterLikeFilter.recordLike(userId, rosterId);
+            Roster roster = rosterLikeCounter.increment(rosterId, 1)
+                    .orElseThrow(() -> {
+                        // 확인 직후 로스터가 삭제된 경우 추가한 좋아요를 되돌림
+                        rosterLikeRepository.removeLike(rosterId, userId);
+                        return new BusinessException(ErrorCode.ROSTER_NOT_FOUND);
+                    });
+            return RosterResponse.from(roster, true);
+        }
 
-        return RosterResponse.from(roster);
+        // 동시에 취소된 경우 이미 차감되었으므로 다시 차감하지 않음
+        Optional<Roster> updated = rosterLikeRepository.removeLike(rosterId, userId)
+                ? rosterLikeCounter.increment(rosterId, -1)
+                : Optional.empty();
+        Roster roster = updated.or(() -> rosterRepository.findById(rosterId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.ROSTER_NOT_FOUND));
+        return RosterResponse.from(roster, false);
     }
 
     /**
@@ -143,14 +202,20 @@ public class RosterService {
         }
 
         rosterRepository.delete(roster);
+        rosterLikeRepository.deleteByRosterId(rosterId);
+        rosterLikeShardRepository.deleteByRosterId(rosterId);
 
-        // 유저 통계 업데이트
-        user.removeRoster(rosterId);
-        userRepository.save(user);
+        // 로스터 소유자 통계 업데이트 (관리자가 삭제한 경우에도 소유자 기준)
+        userRepository.decrementRosterCount(roster.getUserId());
     }
 
-    private Player getPlayer(String playerId) {
-        return playerRepository.findById(playerId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PLAYER_NOT_FOUND));
+    private PageResponse<RosterResponse> toPageResponse(Page<RosterSummary> page, User viewer) {
+        if (viewer == null) {
+            return PageResponse.from(page, RosterResponse::from);
+        }
+
+        List<String> rosterIds = page.getContent().stream().map(RosterSummary::id).toList();
+        Set<String> liked = findLikedRosterIds(rosterIds, viewer);
+        return PageResponse.from(page, roster -> RosterResponse.from(roster, liked.contains(roster.id())));
     }
 }
@@ -1,8 +1,6 @@
 package com.loga.domain.user.entity;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -35,9 +33,6 @@ public class User extends BaseDocument {
     @Builder.Default
     private Role role = Role.USER;
 
-    @Builder.Default
-    private List<String> rosterIds = new ArrayList<>();
-
     // Statistics
     @Builder.Default
     private UserStatistics statistics = new UserStatistics();
@@ -46,6 +41,9 @@ public class User extends BaseDocument {
     @Builder.Default
     private MembershipInfo membership = new MembershipInfo();
 
+    // 좋아요를 추가할 때마다 증가하는 버전 (노드별 좋아요 Bloom 필터 무효화용, $inc로만 갱신)
+    private long likeVersion;
+
     public enum Role {
         USER, ADMIN
     }
@@ -90,25 +88,6 @@ public class User extends BaseDocument {
         this.statistics.addGachaCount(count);
     }
 
-    /**
-     * 로스터 추가
-     */
-    public void addRoster(String rosterId, boolean isChampionship) {
-        this.rosterIds.add(rosterId);
-        this.statistics.addRosterCount();
-        if (isChampionship) {
-            this.statistics.addChampionshipCount();
-        }
-    }
-
-    /**
-     * 로스터 제거
-     */
-    public void removeRoster(String rosterId) {
-        this.rosterIds.remove(rosterId);
-        this.statistics.decrementRosterCount();
-    }
-
     /**
      * 리롤 사용
      */
@@ -188,9 +167,11 @@ public class User extends BaseDocument {
     @NoArgsConstructor
     @AllArgsConstructor
     public static class MembershipInfo {
+        public static final int DEFAULT_REROLL_COUNT = 3;
+
         private boolean isPremium = false;
         private LocalDateTime premiumExpireAt;
-        private int rerollCount = 3;
+        private int rerollCount = DEFAULT_REROLL_COUNT;
 
         public boolean useReroll() {
             if (rerollCount > 0) {
@@ -11,7 +11,7 @@ import com.loga.domain.user.entity.User;
  * 사용자 레포지토리
  */
 @Repository
-public interface UserRepository extends MongoRepository<User, String> {
+public interface UserRepository extends MongoRepository<User, String>, UserRepositoryCustom {
 
     Optional<User> findByEmail(String email);
 
@@ -0,0 +1,65 @@
+package com.loga.domain.user.repository;
+
+import java.util.Map;
+import java.util.Optional;
+
+import com.loga.domain.user.entity.User;
+
+/**
+ * 사용자 커스텀 레포지토리 인터페이스
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * 가챠 횟수 원자적 증가
+     */
+    void incrementGachaCount(String userId, int count);
+
+    /**
+     * 사용자별 가챠 횟수 일괄 증가 (단일 unordered bulkWrite)
+     *
+     * @return 일부 쓰기만 실패한 경우 반영되지 않은 사용자 ID → 증가량 (모두 반영되면 빈 맵)
+     */
+    Map<String, Long> bulkIncrementGachaCount(Map<String, Long> increments);
+
+    /**
+     * 리롤 1회 원자적 사용 + 가챠 횟수 증가
+     *
+     * 일반 회원은 rerollCount > 0 조건으로 차감하고, 프리미엄 회원은 차감 없이 가챠 횟수만 증가합니다. 멤버십 필드가 없는 문서는 기본 횟수에서 차감한 값을 저장합니다.
+     *
+     * @return 리롤 사용 성공 여부 (리롤 횟수 부족 또는 사용자 없음이면 false)
+     */
+    boolean consumeReroll(String userId, int gachaCount);
+
+    /**
+     * 인증 주체용 사용자 조회 (응답에 필요한 필드만 읽는 projection)
+     */
+    Optional<User> findPrincipalById(String userId);
+
+    /**
+     * 멤버십 정보만 조회 (membership 필드 projection)
+     */
+    Optional<User.MembershipInfo> findMembershipById(String userId);
+
+    /**
+     * 좋아요 버전 원자적 증가 (다른 노드의 좋아요 Bloom 필터가 다음 요청에서 다시 적재되도록)
+     */
+    void incrementLikeVersion(String userId);
+
+    /**
+     * 로스터 생성 통계 원자적 증가 (totalRosterCount, 우승 로스터면 championshipCount)
+     */
+    void incrementRosterCount(String userId, boolean championship);
+
+    /**
+     * 로스터 삭제 통계 원자적 감소 (0 미만으로 내려가지 않음)
+     */
+    void decrementRosterCount(String userId);
+
+    /**
+     * 이전 버전의 내장 rosterIds 배열 제거
+     *
+     * @return 수정된 사용자 수
+     */
+    long unsetLegacyRosterIds();
+}
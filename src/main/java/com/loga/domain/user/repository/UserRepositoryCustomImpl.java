@@ -0,0 +1,180 @@
+package com.loga.domain.user.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import com.loga.domain.user.entity.User;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 커스텀 레포지토리 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    // 이전 버전에서 사용자 문서에 내장하던 로스터 ID 배열
+    private static final String LEGACY_ROSTER_IDS_FIELD = "rosterIds";
+
+    // 인증 주체에 필요한 필드 (새 필드를 추가하면 여기에도 추가)
+    private static final String[] PRINCIPAL_FIELDS = { "email", "nickname", "profileImage", "provider",
+            "providerId", "role", "statistics", "membership", "likeVersion", "createdAt", "updatedAt" };
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void incrementGachaCount(String userId, int count) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(userId)),
+                new Update().inc("statistics.totalGachaCount", count),
+                User.class);
+    }
+
+    @Override
+    public Map<String, Long> bulkIncrementGachaCount(Map<String, Long> increments) {
+        if (increments.isEmpty()) {
+            return Map.of();
+        }
+
+        // 실패한 쓰기의 인덱스로 사용자를 찾기 위해 추가 순서 보관
+        List<String> userIds = new ArrayList<>(increments.keySet());
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, User.class);
+        userIds.forEach(userId -> bulkOps.updateOne(
+                Query.query(Criteria.where("_id").is(userId)),
+                new Update().inc("statistics.totalGachaCount", Math.toIntExact(increments.get(userId)))));
+        try {
+            bulkOps.execute();
+            return Map.of();
+        } catch (BulkOperationException e) {
+            // unordered 모드에서는 오류가 난 쓰기 외에는 모두 반영됨
+            Map<String, Long> failed = new HashMap<>();
+            e.getErrors().forEach(error -> {
+                String userId = userIds.get(error.getIndex());
+                failed.put(userId, increments.get(userId));
+            });
+            return failed;
+        }
+    }
+
+    @Override
+    public boolean consumeReroll(String userId, int gachaCount) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 일반 회원 (프리미엄 아님 또는 만료): 남은 리롤이 있을 때만 차감
+        Query regularMember = Query.query(new Criteria().andOperator(
+                Criteria.where("_id").is(userId),
+                Criteria.where("membership.rerollCount").gt(0),
+                notPremium(now)));
+        Update useReroll = new Update()
+                .inc("membership.rerollCount", -1)
+                .inc("statistics.totalGachaCount", gachaCount);
+        if (mongoTemplate.findAndModify(regularMember, useReroll, User.class) != null) {
+            return true;
+        }
+
+        // 멤버십 필드가 없는 이전 문서: findMembershipById와 같이 기본 멤버십으로 보고 기본 횟수에서 차감한 값을 저장
+        int remaining = User.MembershipInfo.DEFAULT_REROLL_COUNT - 1;
+        Query missingRerollCount = Query.query(new Criteria().andOperator(
+                Criteria.where("_id").is(userId),
+                Criteria.where("membership").ne(null),
+                Criteria.where("membership.rerollCount").exists(false),
+                notPremium(now)));
+        Update setRerollCount = new Update()
+                .set("membership.rerollCount", remaining)
+                .inc("statistics.totalGachaCount", gachaCount);
+        if (mongoTemplate.updateFirst(missingRerollCount, setRerollCount, User.class).getModifiedCount() > 0) {
+            return true;
+        }
+
+        // membership 자체가 없거나 null이면 하위 필드를 $set 할 수 없으므로 기본 멤버십 전체를 저장
+        Query missingMembership = Query.query(new Criteria().andOperator(
+                Criteria.where("_id").is(userId),
+                Criteria.where("membership").is(null)));
+        Update setMembership = new Update()
+                .set("membership", new User.MembershipInfo(false, null, remaining))
+                .inc("statistics.totalGachaCount", gachaCount);
+        if (mongoTemplate.updateFirst(missingMembership, setMembership, User.class).getModifiedCount() > 0) {
+            return true;
+        }
+
+        // 프리미엄 회원 (만료일 없음 또는 미만료): 무제한 리롤
+        Query premiumMember = Query.query(new Criteria().andOperator(
+                Criteria.where("_id").is(userId),
+                Criteria.where("membership.isPremium").is(true),
+                new Criteria().orOperator(
+                        Criteria.where("membership.premiumExpireAt").is(null),
+                        Criteria.where("membership.premiumExpireAt").gt(now))));
+        return mongoTemplate.updateFirst(premiumMember,
+                new Update().inc("statistics.totalGachaCount", gachaCount),
+                User.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public Optional<User> findPrincipalById(String userId) {
+        Query query = Query.query(Criteria.where("_id").is(userId));
+        query.fields().include(PRINCIPAL_FIELDS);
+        return Optional.ofNullable(mongoTemplate.findOne(query, User.class));
+    }
+
+    @Override
+    public Optional<User.MembershipInfo> findMembershipById(String userId) {
+        Query query = Query.query(Criteria.where("_id").is(userId));
+        query.fields().include("membership");
+        // membership 필드가 없는 이전 문서는 기본 멤버십으로 취급
+        return Optional.ofNullable(mongoTemplate.findOne(query, User.class))
+                .map(user -> user.getMembership() != null ? user.getMembership() : new User.MembershipInfo());
+    }
+
+    @Override
+    public void incrementLikeVersion(String userId) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(userId)), new Update().inc("likeVersion", 1),
+                User.class);
+    }
+
+    @Override
+    public void incrementRosterCount(String userId, boolean championship) {
+        Update update = new Update().inc("statistics.totalRosterCount", 1);
+        if (championship) {
+            update.inc("statistics.championshipCount", 1);
+        }
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(userId)), update, User.class);
+    }
+
+    @Override
+    public void decrementRosterCount(String userId) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(userId).and("statistics.totalRosterCount").gt(0)),
+                new Update().inc("statistics.totalRosterCount", -1),
+                User.class);
+    }
+
+    @Override
+    public long unsetLegacyRosterIds() {
+        return mongoTemplate.updateMulti(
+                Query.query(Criteria.where(LEGACY_ROSTER_IDS_FIELD).exists(true)),
+                new Update().unset(LEGACY_ROSTER_IDS_FIELD),
+                User.class).getModifiedCount();
+    }
+
+    /**
+     * 프리미엄이 아니거나(isPremium 필드 없음 포함) 만료된 회원
+     */
+    private Criteria notPremium(LocalDateTime now) {
+        return new Criteria().orOperator(
+                Criteria.where("membership.isPremium").ne(true),
+                Criteria.where("membership.premiumExpireAt").lte(now));
+    }
+}
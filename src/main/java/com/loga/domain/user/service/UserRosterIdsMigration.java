@@ -0,0 +1,37 @@
+package com.loga.domain.user.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.loga.domain.user.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 문서의 내장 rosterIds 배열 제거
+ *
+ * 사용자의 로스터는 rosters 컬렉션의 userId 인덱스로 조회하므로 배열은 더 이상 읽지 않습니다. 시작 시 남아 있는 배열을 한 번에 $unset 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserRosterIdsMigration {
+
+    private final UserRepository userRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Thread.ofVirtual().name("user-roster-ids-migration").start(() -> {
+            try {
+                long modified = userRepository.unsetLegacyRosterIds();
+                if (modified > 0) {
+                    log.info("Removed embedded rosterIds from {} users", modified);
+                }
+            } catch (RuntimeException e) {
+                log.error("Failed to remove embedded rosterIds from users", e);
+            }
+        });
+    }
+}
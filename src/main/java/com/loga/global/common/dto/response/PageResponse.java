@@ -4,6 +4,10 @@ import java.util.List;
 import java.util.function.Function;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.loga.infrastructure.persistence.CountedPage;
 
 import lombok.Builder;
 import lombok.Getter;
@@ -28,6 +32,14 @@ public class PageResponse<T> {
         private int totalPages;
         private boolean hasNextPage;
         private boolean hasPrevPage;
+
+        // 전체 개수가 캐시/추정치인 경우에만 true로 포함 (정확한 개수면 생략)
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Boolean totalApproximate;
+
+        // 커서 모드에서만 사용 (다음 페이지 요청 시 그대로 전달하는 불투명 문자열)
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private String nextCursor;
     }
 
     /**
@@ -43,6 +55,7 @@ public class PageResponse<T> {
                         .totalPages(page.getTotalPages())
                         .hasNextPage(page.hasNext())
                         .hasPrevPage(page.hasPrevious())
+                        .totalApproximate(isApproximate(page))
                         .build())
                 .build();
     }
@@ -65,7 +78,38 @@ public class PageResponse<T> {
                         .totalPages(page.getTotalPages())
                         .hasNextPage(page.hasNext())
                         .hasPrevPage(page.hasPrevious())
+                        .totalApproximate(isApproximate(page))
                         .build())
                 .build();
     }
+
+    /**
+     * 키셋 Slice를 커서 모드 PageResponse로 변환 (전체 개수/페이지 수는 계산하지 않음)
+     *
+     * @param cursorOf 항목 → 해당 항목 다음부터 조회하는 커서
+     * @param hasPrevPage 커서를 지정한 요청인지 여부
+     */
+    public static <T, R> PageResponse<R> fromSlice(Slice<T> slice, Function<T, R> converter,
+            Function<T, String> cursorOf, boolean hasPrevPage) {
+        List<T> content = slice.getContent();
+        List<R> items = content.stream()
+                .map(converter)
+                .toList();
+
+        return PageResponse.<R>builder()
+                .items(items)
+                .pagination(Pagination.builder()
+                        .pageSize(slice.getSize())
+                        .hasNextPage(slice.hasNext())
+                        .hasPrevPage(hasPrevPage)
+                        .nextCursor(slice.hasNext() && !content.isEmpty()
+                                ? cursorOf.apply(content.get(content.size() - 1))
+                                : null)
+                        .build())
+                .build();
+    }
+
+    private static Boolean isApproximate(Page<?> page) {
+        return page instanceof CountedPage<?> counted && counted.isApproximate() ? Boolean.TRUE : null;
+    }
 }
@@ -1,5 +1,7 @@
 package com.loga.global.config;
 
+import org.bson.codecs.configuration.CodecRegistries;
+import org.springframework.boot.mongodb.autoconfigure.MongoClientSettingsBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
@@ -9,6 +11,10 @@ import org.springframework.data.mongodb.core.convert.DefaultMongoTypeMapper;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 
+import com.loga.domain.player.repository.PlayerCodec;
+import com.loga.domain.roster.repository.RosterCodec;
+import com.mongodb.MongoClientSettings;
+
 /**
  * MongoDB 설정
  */
@@ -31,4 +37,14 @@ public class MongoConfig {
 
         return converter;
     }
+
+    /**
+     * 자주 읽는 엔티티 코덱 등록 (레포지토리의 findAllDecoded 경로에서 컨버터 대신 사용)
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer entityCodecCustomizer() {
+        return builder -> builder.codecRegistry(CodecRegistries.fromRegistries(
+                CodecRegistries.fromCodecs(new PlayerCodec(), new RosterCodec()),
+                MongoClientSettings.getDefaultCodecRegistry()));
+    }
 }
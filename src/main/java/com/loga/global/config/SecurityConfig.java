@@ -20,6 +20,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.loga.infrastructure.ratelimit.RateLimitFilter;
 import com.loga.infrastructure.security.CustomOAuth2UserService;
 import com.loga.infrastructure.security.JwtAuthenticationFilter;
 import com.loga.infrastructure.security.OAuth2AuthenticationSuccessHandler;
@@ -36,6 +37,7 @@ import lombok.RequiredArgsConstructor;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     // OAuth2 관련 빈들은 선택적으로 주입 (Google 자격 증명이 없을 수 있음)
     @Autowired(required = false)
@@ -75,6 +77,8 @@ public class SecurityConfig {
                         .permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/gacha/**")
                         .permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/gacha/**")
+                        .permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/championships/**")
                         .permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/rosters/**")
@@ -97,7 +101,8 @@ public class SecurityConfig {
                         // Authenticated endpoints
                         .anyRequest()
                         .authenticated())
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         // OAuth2 설정은 Google 자격 증명이 있을 때만 활성화
         // REST API 백엔드: 자동 리다이렉트 완전 비활성화
@@ -142,8 +147,9 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(allowedOrigins);
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(
-                Arrays.asList("Authorization", "Content-Type", "X-Requested-With", "X-API-Version", "Accept-Version"));
-        configuration.setExposedHeaders(Arrays.asList("Authorization", "X-API-Version"));
+                Arrays.asList("Authorization", "Content-Type", "X-Requested-With", "X-API-Version", "Accept-Version",
+                        "Idempotency-Key"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "X-API-Version", "Idempotent-Replayed", "Retry-After"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
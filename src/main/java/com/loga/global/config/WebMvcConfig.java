@@ -4,18 +4,21 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.loga.global.idempotency.IdempotencyInterceptor;
+
 import lombok.RequiredArgsConstructor;
 
 /**
  * Web MVC 설정
  *
- * API 버전 인터셉터 등록
+ * API 버전 / 멱등 키 인터셉터 등록
  */
 @Configuration
 @RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final ApiVersionInterceptor apiVersionInterceptor;
+    private final IdempotencyInterceptor idempotencyInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
@@ -26,5 +29,9 @@ public class WebMvcConfig implements WebMvcConfigurer {
                         "/actuator/**",
                         "/swagger-ui/**",
                         "/v3/api-docs/**");
+
+        // 재시도 시 중복 처리되면 안 되는 가챠 POST 엔드포인트
+        registry.addInterceptor(idempotencyInterceptor)
+                .addPathPatterns("/api/gacha/draw/**", "/api/gacha/reroll/**");
     }
 }
@@ -15,7 +15,8 @@ public enum ErrorCode {
     // Common (C)
     INVALID_INPUT("C001", HttpStatus.BAD_REQUEST, "Invalid input"), INTERNAL_ERROR("C002",
             HttpStatus.INTERNAL_SERVER_ERROR,
-            "Internal server error"), RESOURCE_NOT_FOUND("C003", HttpStatus.NOT_FOUND, "Resource not found"),
+            "Internal server error"), RESOURCE_NOT_FOUND("C003", HttpStatus.NOT_FOUND, "Resource not found"), RATE_LIMIT_EXCEEDED(
+                    "C004", HttpStatus.TOO_MANY_REQUESTS, "Too many requests. Please retry later."),
 
     // Auth (A)
     UNAUTHORIZED("A001", HttpStatus.UNAUTHORIZED, "Unauthorized"), FORBIDDEN("A002", HttpStatus.FORBIDDEN,
@@ -33,7 +34,8 @@ public enum ErrorCode {
     // Roster (R)
     ROSTER_NOT_FOUND("R001", HttpStatus.NOT_FOUND, "Roster not found"), INVALID_ROSTER("R002", HttpStatus.BAD_REQUEST,
             "Invalid roster configuration"), ROSTER_ALREADY_EXISTS("R003", HttpStatus.CONFLICT,
-                    "Roster already exists"),
+                    "Roster already exists"), ROSTER_LIKE_MIGRATING("R004", HttpStatus.CONFLICT,
+                            "Roster likes are being migrated. Please retry later."),
 
     // Community (CM)
     COMMENT_NOT_FOUND("CM001", HttpStatus.NOT_FOUND, "Comment not found"),
@@ -44,7 +46,10 @@ public enum ErrorCode {
     // Gacha (G)
     NO_REROLL_LEFT("G001", HttpStatus.BAD_REQUEST,
             "No reroll attempts left. Upgrade to premium for unlimited rerolls."), GACHA_LIMIT_EXCEEDED("G002",
-                    HttpStatus.TOO_MANY_REQUESTS, "Daily gacha limit exceeded");
+                    HttpStatus.TOO_MANY_REQUESTS, "Daily gacha limit exceeded"), IDEMPOTENCY_KEY_IN_PROGRESS("G003",
+                            HttpStatus.CONFLICT,
+                            "A request with the same Idempotency-Key is still in progress"), PREMIUM_REQUIRED("G004",
+                                    HttpStatus.FORBIDDEN, "This feature requires an active premium membership");
 
     private final String code;
     private final HttpStatus status;
@@ -0,0 +1,180 @@
+package com.loga.global.idempotency;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.loga.domain.user.entity.User;
+import com.loga.global.error.BusinessException;
+import com.loga.global.error.ErrorCode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency-Key Interceptor
+ *
+ * 동작: 1. 헤더가 없거나 비로그인 요청이면 그대로 처리 2. 완료된 응답이 있으면 컨트롤러를 호출하지 않고 저장된 응답을 반환 3. 같은 키의 요청이 처리 중이면 첫 요청의 결과를 기다려
+ * 반환 4. 처음 보는 키면 처리 후 2xx 응답만 저장 (실패한 요청은 재시도 가능)
+ *
+ * 키는 사용자 + 메서드 + 경로 + 요청 파라미터 범위로 저장하므로 같은 키를 다른 파라미터로 보내면 새 요청으로 처리됩니다. 비로그인 요청은 클라이언트를 구분할 수 없어 다른 사용자의 뽑기
+ * 응답이 재전송될 수 있으므로 저장하지 않습니다.
+ */
+@Slf4j
+@Component
+public class IdempotencyInterceptor implements HandlerInterceptor {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    static final String KEY_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".key";
+    static final String FUTURE_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".future";
+    static final String BODY_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".body";
+
+    private static final int MAX_KEY_LENGTH = 128;
+    private static final int MAX_CLAIM_ATTEMPTS = 3;
+
+    private final IdempotencyStore idempotencyStore;
+    private final long waitTimeoutMs;
+
+    public IdempotencyInterceptor(IdempotencyStore idempotencyStore,
+            @Value("${idempotency.wait-timeout-ms:10000}") long waitTimeoutMs) {
+        this.idempotencyStore = idempotencyStore;
+        this.waitTimeoutMs = waitTimeoutMs;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return true;
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                    "Idempotency-Key must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User user)) {
+            return true;
+        }
+
+        String key = scopedKey(user.getId(), request, idempotencyKey.trim());
+        for (int attempt = 0; attempt < MAX_CLAIM_ATTEMPTS; attempt++) {
+            Optional<IdempotentResponse> completed = idempotencyStore.findCompleted(key);
+            if (completed.isPresent()) {
+                replay(response, completed.get());
+                return false;
+            }
+
+            CompletableFuture<IdempotentResponse> future = new CompletableFuture<>();
+            Optional<CompletableFuture<IdempotentResponse>> running = idempotencyStore.begin(key, future);
+            if (running.isEmpty()) {
+                // 첫 요청: 컨트롤러 처리 후 afterCompletion에서 저장
+                request.setAttribute(KEY_ATTRIBUTE, key);
+                request.setAttribute(FUTURE_ATTRIBUTE, future);
+                return true;
+            }
+
+            // 중복 요청: 첫 요청의 결과를 기다림 (실패했으면 다시 선점 시도)
+            IdempotentResponse result = await(running.get());
+            if (result != null) {
+                replay(response, result);
+                return false;
+            }
+        }
+        throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        String key = (String) request.getAttribute(KEY_ATTRIBUTE);
+        if (key == null) {
+            return;
+        }
+        CompletableFuture<IdempotentResponse> future = (CompletableFuture<IdempotentResponse>) request
+                .getAttribute(FUTURE_ATTRIBUTE);
+        String body = (String) request.getAttribute(BODY_ATTRIBUTE);
+
+        boolean successful = ex == null && response.getStatus() >= 200 && response.getStatus() < 300;
+        idempotencyStore.complete(key, future, successful ? response.getStatus() : null, successful ? body : null);
+    }
+
+    /**
+     * 사용자 + 메서드 + 경로 + 요청 파라미터별로 키 범위 지정 (다른 사용자/엔드포인트/파라미터의 키와 충돌 방지)
+     */
+    static String scopedKey(String owner, HttpServletRequest request, String idempotencyKey) {
+        return owner + ":" + request.getMethod() + ":" + request.getRequestURI() + ":" + parameterHash(request)
+                + ":" + idempotencyKey;
+    }
+
+    /**
+     * 요청 파라미터 해시 (이름 순 정렬, SHA-256 앞 16바이트)
+     */
+    private static String parameterHash(HttpServletRequest request) {
+        Map<String, String[]> parameters = request.getParameterMap();
+        if (parameters.isEmpty()) {
+            return "-";
+        }
+
+        StringBuilder canonical = new StringBuilder();
+        new TreeMap<>(parameters).forEach((name, values) -> {
+            canonical.append(name).append('\0');
+            for (String value : values) {
+                canonical.append(value).append('\0');
+            }
+            canonical.append('\n');
+        });
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private IdempotentResponse await(CompletableFuture<IdempotentResponse> future) {
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotentResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.getWriter().write(stored.body());
+    }
+}
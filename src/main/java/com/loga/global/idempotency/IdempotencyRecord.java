@@ -0,0 +1,44 @@
+package com.loga.global.idempotency;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.*;
+
+/**
+ * 완료된 멱등 요청의 응답 (노드 간 공유용, expiresAt 기준 TTL 삭제)
+ */
+@Document(collection = "idempotency_keys")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class IdempotencyRecord {
+
+    // 사용자 + 요청 경로 + Idempotency-Key
+    @Id
+    private String id;
+
+    private int status;
+
+    private String body;
+
+    private Instant expiresAt;
+
+    // ===== Factory Methods =====
+
+    public static IdempotencyRecord create(String id, IdempotentResponse response) {
+        return IdempotencyRecord.builder()
+                .id(id)
+                .status(response.status())
+                .body(response.body())
+                .expiresAt(response.expiresAt())
+                .build();
+    }
+
+    public IdempotentResponse toResponse() {
+        return new IdempotentResponse(status, body, expiresAt);
+    }
+}
@@ -0,0 +1,47 @@
+package com.loga.global.idempotency;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 멱등 요청의 응답 본문을 JSON으로 보관 (저장은 {@link IdempotencyInterceptor#afterCompletion}에서 상태 코드 확인 후 수행)
+ */
+@Slf4j
+@ControllerAdvice
+@RequiredArgsConstructor
+public class IdempotencyResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final JsonMapper jsonMapper;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (body != null && request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(IdempotencyInterceptor.KEY_ATTRIBUTE) != null) {
+            try {
+                servletRequest.getServletRequest().setAttribute(IdempotencyInterceptor.BODY_ATTRIBUTE,
+                        jsonMapper.writeValueAsString(body));
+            } catch (JacksonException e) {
+                log.warn("Failed to capture idempotent response body", e);
+            }
+        }
+        return body;
+    }
+}
@@ -0,0 +1,126 @@
+package com.loga.global.idempotency;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 멱등 요청 응답 저장소
+ *
+ * 완료된 응답은 크기 제한 LRU + TTL 로컬 캐시에 먼저 저장하고, 다른 노드(blue/green)도 볼 수 있도록 MongoDB(idempotency_keys, TTL 인덱스)에 비동기로 기록합니다. 처리 중인
+ * 요청은 Future로 관리하여 같은 노드의 중복 요청이 첫 요청의 결과를 기다리게 합니다.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration ttl;
+    private final Map<String, IdempotentResponse> completed;
+    private final ConcurrentHashMap<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyStore(MongoTemplate mongoTemplate,
+            @Value("${idempotency.ttl-seconds:86400}") long ttlSeconds,
+            @Value("${idempotency.local-cache-size:10000}") int localCacheSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.completed = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotentResponse> eldest) {
+                return size() > localCacheSize;
+            }
+        };
+    }
+
+    /**
+     * 만료 시각 기준 TTL 인덱스 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            mongoTemplate.indexOps(IdempotencyRecord.class)
+                    .createIndex(new Index().on("expiresAt", Sort.Direction.ASC).expire(Duration.ZERO));
+        } catch (RuntimeException e) {
+            log.error("Failed to create idempotency TTL index", e);
+        }
+    }
+
+    /**
+     * 완료된 응답 조회 (로컬 캐시 → MongoDB)
+     */
+    public Optional<IdempotentResponse> findCompleted(String key) {
+        Instant now = Instant.now();
+        synchronized (completed) {
+            IdempotentResponse local = completed.get(key);
+            if (local != null) {
+                if (!local.isExpired(now)) {
+                    return Optional.of(local);
+                }
+                completed.remove(key);
+            }
+        }
+
+        try {
+            IdempotencyRecord record = mongoTemplate.findById(key, IdempotencyRecord.class);
+            if (record == null || record.getExpiresAt().isBefore(now)) {
+                return Optional.empty();
+            }
+            IdempotentResponse response = record.toResponse();
+            putLocal(key, response);
+            return Optional.of(response);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read idempotency record, treating as new request", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 처리 시작 등록 (이미 처리 중이면 기존 Future 반환)
+     */
+    public Optional<CompletableFuture<IdempotentResponse>> begin(String key, CompletableFuture<IdempotentResponse> future) {
+        return Optional.ofNullable(inFlight.putIfAbsent(key, future));
+    }
+
+    /**
+     * 처리 완료 (response가 null이면 저장하지 않고 대기 중인 요청이 다시 처리하도록 함)
+     */
+    public void complete(String key, CompletableFuture<IdempotentResponse> future, Integer status, String body) {
+        IdempotentResponse response = null;
+        if (status != null && body != null) {
+            response = new IdempotentResponse(status, body, Instant.now().plus(ttl));
+            putLocal(key, response);
+            IdempotencyRecord record = IdempotencyRecord.create(key, response);
+            Thread.startVirtualThread(() -> saveRecord(record));
+        }
+        inFlight.remove(key, future);
+        future.complete(response);
+    }
+
+    private void putLocal(String key, IdempotentResponse response) {
+        synchronized (completed) {
+            completed.put(key, response);
+        }
+    }
+
+    private void saveRecord(IdempotencyRecord record) {
+        try {
+            mongoTemplate.save(record);
+        } catch (RuntimeException e) {
+            log.warn("Failed to persist idempotency record {}", record.getId(), e);
+        }
+    }
+}
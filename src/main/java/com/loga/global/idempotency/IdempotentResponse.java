@@ -0,0 +1,17 @@
+package com.loga.global.idempotency;
+
+import java.time.Instant;
+
+/**
+ * 재전송 시 그대로 돌려줄 응답
+ *
+ * @param status HTTP 상태 코드
+ * @param body 응답 본문 (JSON)
+ * @param expiresAt 만료 시각
+ */
+public record IdempotentResponse(int status, String body, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
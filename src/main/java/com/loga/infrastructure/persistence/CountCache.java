@@ -0,0 +1,120 @@
+package com.loga.infrastructure.persistence;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+/**
+ * 페이징 전체 개수 캐시
+ *
+ * 정렬/skip/limit을 제외한 필터 조건을 키로 count 결과를 짧은 TTL 동안 보관하고, 해당 컬렉션에 save/delete 이벤트가 발생하면 무효화합니다. 필터가 없는 조회는 컬렉션 메타데이터
+ * 기반 estimatedDocumentCount를 사용합니다. 템플릿 update($inc 등)는 이벤트를 발생시키지 않으므로 TTL 동안 반영되지 않을 수 있습니다.
+ */
+@Component
+public class CountCache {
+
+    private final MongoTemplate mongoTemplate;
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    // 컬렉션 → 쓰기 세대 (쓰기마다 증가, 이전 세대 항목은 무효)
+    private final ConcurrentHashMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public CountCache(MongoTemplate mongoTemplate,
+            @Value("${count-cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${count-cache.max-entries:10000}") int maxEntries) {
+        this.mongoTemplate = mongoTemplate;
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 전체 개수 조회
+     *
+     * @return 개수 (캐시 또는 추정치를 사용했으면 approximate)
+     */
+    public Total count(Query query, Class<?> entityClass) {
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        Document filter = query.getQueryObject();
+        if (filter.isEmpty()) {
+            return new Total(mongoTemplate.estimatedCount(collection), true);
+        }
+
+        Query countQuery = Query.of(query).limit(-1).skip(-1);
+        if (ttlNanos <= 0) {
+            return new Total(mongoTemplate.count(countQuery, entityClass), false);
+        }
+
+        // 필터 값에 enum 등이 있어 toJson 대신 toString으로 정규화
+        String key = collection + '|' + filter;
+        long generation = generation(collection).get();
+        long now = System.nanoTime();
+        Entry cached = entries.get(key);
+        if (cached != null && cached.generation() == generation && cached.expiresAt() - now > 0) {
+            return new Total(cached.count(), true);
+        }
+
+        long count = mongoTemplate.count(countQuery, entityClass);
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+        // count 전에 읽은 세대로 저장하여 count 도중 발생한 쓰기도 다음 조회에서 무효화
+        entries.put(key, new Entry(count, now + ttlNanos, generation));
+        return new Total(count, false);
+    }
+
+    /**
+     * 컬렉션의 캐시된 개수 무효화
+     */
+    public void invalidate(String collection) {
+        generation(collection).incrementAndGet();
+    }
+
+    /**
+     * 문서 저장 시 해당 컬렉션 무효화
+     */
+    @EventListener
+    public void onAfterSave(AfterSaveEvent<?> event) {
+        invalidateIfPresent(event.getCollectionName());
+    }
+
+    /**
+     * 문서 삭제 시 해당 컬렉션 무효화
+     */
+    @EventListener
+    public void onAfterDelete(AfterDeleteEvent<?> event) {
+        invalidateIfPresent(event.getCollectionName());
+    }
+
+    private void invalidateIfPresent(String collection) {
+        if (collection != null) {
+            invalidate(collection);
+        }
+    }
+
+    private AtomicLong generation(String collection) {
+        return generations.computeIfAbsent(collection, name -> new AtomicLong());
+    }
+
+    /**
+     * 전체 개수 (approximate: 캐시 또는 estimatedDocumentCount 결과)
+     */
+    public record Total(long value, boolean approximate) {
+    }
+
+    private record Entry(long count, long expiresAt, long generation) {
+    }
+}
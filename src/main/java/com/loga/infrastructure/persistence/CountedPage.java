@@ -0,0 +1,22 @@
+package com.loga.infrastructure.persistence;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import lombok.Getter;
+
+/**
+ * 전체 개수가 근사치일 수 있는 Page ({@link CountCache} 결과)
+ */
+@Getter
+public class CountedPage<T> extends PageImpl<T> {
+
+    private final boolean approximate;
+
+    public CountedPage(List<T> content, Pageable pageable, CountCache.Total total) {
+        super(content, pageable, total.value());
+        this.approximate = total.approximate();
+    }
+}
@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.core.query.Query;
 
 /**
@@ -27,6 +28,28 @@ public interface CustomMongoRepository<T> {
      */
     Page<T> findAll(Query query, Pageable pageable);
 
+    /**
+     * 동적 쿼리로 키셋 페이징 조회 (offset/count 없이 pageSize + 1건을 읽어 다음 페이지 여부 판단)
+     *
+     * pageable의 정렬 뒤에 _id 정렬을 덧붙여 순서를 고정하며, 페이지 번호는 무시합니다. 시작 위치는 {@link MongoQueryBuilder#after}로 지정합니다.
+     */
+    Slice<T> findSlice(Query query, Pageable pageable);
+
+    /**
+     * 동적 쿼리로 프로젝션 목록 조회 (쿼리에 include/exclude가 없으면 프로젝션 타입의 프로퍼티만 읽음)
+     */
+    <P> List<P> findAll(Query query, Class<P> projection);
+
+    /**
+     * 동적 쿼리로 프로젝션 페이징 조회
+     */
+    <P> Page<P> findAll(Query query, Pageable pageable, Class<P> projection);
+
+    /**
+     * 동적 쿼리로 프로젝션 키셋 페이징 조회
+     */
+    <P> Slice<P> findSlice(Query query, Pageable pageable, Class<P> projection);
+
     /**
      * 동적 쿼리로 카운트
      */
@@ -50,4 +73,25 @@ public interface CustomMongoRepository<T> {
     default Page<T> findAll(MongoQueryBuilder builder, Pageable pageable) {
         return findAll(builder.build(), pageable);
     }
+
+    /**
+     * MongoQueryBuilder로 키셋 페이징 조회
+     */
+    default Slice<T> findSlice(MongoQueryBuilder builder, Pageable pageable) {
+        return findSlice(builder.build(), pageable);
+    }
+
+    /**
+     * MongoQueryBuilder로 프로젝션 페이징 조회
+     */
+    default <P> Page<P> findAll(MongoQueryBuilder builder, Pageable pageable, Class<P> projection) {
+        return findAll(builder.build(), pageable, projection);
+    }
+
+    /**
+     * MongoQueryBuilder로 프로젝션 키셋 페이징 조회
+     */
+    default <P> Slice<P> findSlice(MongoQueryBuilder builder, Pageable pageable, Class<P> projection) {
+        return findSlice(builder.build(), pageable, projection);
+    }
 }
@@ -1,14 +1,22 @@
 package com.loga.infrastructure.persistence;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.query.Query;
 
+import com.mongodb.client.FindIterable;
+
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -19,6 +27,7 @@ public abstract class CustomMongoRepositoryImpl<T> implements CustomMongoReposit
 
     protected final MongoTemplate mongoTemplate;
     private final Class<T> domainClass;
+    protected final CountCache countCache;
 
     @Override
     public Optional<T> findOne(Query query) {
@@ -32,12 +41,48 @@ public abstract class CustomMongoRepositoryImpl<T> implements CustomMongoReposit
 
     @Override
     public Page<T> findAll(Query query, Pageable pageable) {
-        long total = mongoTemplate.count(Query.of(query)
-                .limit(-1)
-                .skip(-1), domainClass);
+        return findAll(query, pageable, domainClass);
+    }
+
+    @Override
+    public Slice<T> findSlice(Query query, Pageable pageable) {
+        return findSlice(query, pageable, domainClass);
+    }
+
+    @Override
+    public <P> List<P> findAll(Query query, Class<P> projection) {
+        return mongoTemplate.query(domainClass)
+                .as(projection)
+                .matching(query)
+                .all();
+    }
+
+    @Override
+    public <P> Page<P> findAll(Query query, Pageable pageable, Class<P> projection) {
+        CountCache.Total total = countCache.count(query, domainClass);
         query.with(pageable);
-        List<T> content = mongoTemplate.find(query, domainClass);
-        return new PageImpl<>(content, pageable, total);
+        List<P> content = findAll(query, projection);
+        return new CountedPage<>(content, pageable, total);
+    }
+
+    @Override
+    public <P> Slice<P> findSlice(Query query, Pageable pageable, Class<P> projection) {
+        Sort sort = pageable.getSort();
+        if (sort.getOrderFor("_id") == null) {
+            Sort.Direction direction = sort.stream()
+                    .reduce((first, second) -> second)
+                    .map(Sort.Order::getDirection)
+                    .orElse(Sort.Direction.DESC);
+            sort = sort.and(Sort.by(direction, "_id"));
+        }
+
+        int size = pageable.getPageSize();
+        query.with(sort).limit(size + 1);
+        List<P> rows = findAll(query, projection);
+
+        boolean hasNext = rows.size() > size;
+        List<P> content = hasNext ? rows.subList(0, size) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, size, sort), hasNext);
     }
 
     @Override
@@ -49,4 +94,30 @@ public abstract class CustomMongoRepositoryImpl<T> implements CustomMongoReposit
     public boolean exists(Query query) {
         return mongoTemplate.exists(query, domainClass);
     }
+
+    /**
+     * 등록된 엔티티 코덱({@link EntityCodec})으로 바로 디코딩하는 조회
+     *
+     * MappingMongoConverter의 Document → 엔티티 리플렉션 매핑을 생략합니다. 필터/정렬/필드는 QueryMapper로 변환하므로 Query는 findAll(Query)과 같은 방식으로
+     * 작성합니다. 클라이언트 코덱 레지스트리에 domainClass 코덱이 없으면 CodecConfigurationException이 발생합니다.
+     */
+    protected List<T> findAllDecoded(Query query) {
+        MongoPersistentEntity<?> entity = mongoTemplate.getConverter()
+                .getMappingContext()
+                .getRequiredPersistentEntity(domainClass);
+        QueryMapper queryMapper = new QueryMapper(mongoTemplate.getConverter());
+
+        FindIterable<T> iterable = mongoTemplate.getCollection(mongoTemplate.getCollectionName(domainClass))
+                .withDocumentClass(domainClass)
+                .find(queryMapper.getMappedObject(query.getQueryObject(), entity))
+                .projection(queryMapper.getMappedFields(query.getFieldsObject(), entity))
+                .sort(queryMapper.getMappedSort(query.getSortObject(), entity))
+                .skip((int) query.getSkip())
+                .limit(query.getLimit());
+        String comment = query.getMeta().getComment();
+        if (comment != null) {
+            iterable.comment(comment);
+        }
+        return iterable.into(new ArrayList<>());
+    }
 }
@@ -0,0 +1,194 @@
+package com.loga.infrastructure.persistence;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+
+/**
+ * 자주 읽는 엔티티용 BSON 코덱 기본 클래스
+ *
+ * MappingMongoConverter를 거치지 않고 BsonReader에서 엔티티 빌더로 바로 디코딩합니다. 저장 형식은 컨버터와 같아야 하므로 규칙을 그대로 따릅니다: ObjectId 형식의 문자열
+ * ID는 ObjectId로 저장, null 필드는 생략, enum은 이름, LocalDateTime은 시스템 시간대 기준 BSON date. 모르는 필드(이전 버전 필드 등)와 null 값은 건너뛰어 빌더 기본값을
+ * 유지합니다.
+ *
+ * @param <B> 엔티티 빌더 타입
+ */
+public abstract class EntityCodec<T extends BaseDocument, B> implements Codec<T> {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final Class<T> entityClass;
+
+    protected EntityCodec(Class<T> entityClass) {
+        this.entityClass = entityClass;
+    }
+
+    @Override
+    public Class<T> getEncoderClass() {
+        return entityClass;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, T value, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writeId(writer, value.getId());
+        encodeFields(writer, value);
+        writeDate(writer, "createdAt", value.getCreatedAt());
+        writeDate(writer, "updatedAt", value.getUpdatedAt());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public T decode(BsonReader reader, DecoderContext decoderContext) {
+        B builder = newBuilder();
+        BaseDocument audit = new AuditFields();
+        readDocument(reader, field -> switch (field) {
+            case "_id" -> {
+                audit.setId(readId(reader));
+                yield true;
+            }
+            case "createdAt" -> {
+                audit.setCreatedAt(readDate(reader));
+                yield true;
+            }
+            case "updatedAt" -> {
+                audit.setUpdatedAt(readDate(reader));
+                yield true;
+            }
+            default -> decodeField(reader, field, builder);
+        });
+
+        T entity = build(builder);
+        entity.setId(audit.getId());
+        entity.setCreatedAt(audit.getCreatedAt());
+        entity.setUpdatedAt(audit.getUpdatedAt());
+        return entity;
+    }
+
+    protected abstract B newBuilder();
+
+    /**
+     * 필드 하나를 읽어 빌더에 설정
+     *
+     * @return 처리한 필드면 true (false면 값을 건너뜀)
+     */
+    protected abstract boolean decodeField(BsonReader reader, String field, B builder);
+
+    protected abstract T build(B builder);
+
+    /**
+     * _id와 감사 필드를 제외한 엔티티 필드 기록
+     */
+    protected abstract void encodeFields(BsonWriter writer, T value);
+
+    // ===== Reading =====
+
+    @FunctionalInterface
+    protected interface FieldReader {
+        boolean read(String field);
+    }
+
+    /**
+     * 하위 문서를 필드 단위로 읽음 (null 값과 처리하지 않은 필드는 건너뜀)
+     */
+    protected static void readDocument(BsonReader reader, FieldReader fieldReader) {
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String field = reader.readName();
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+            } else if (!fieldReader.read(field)) {
+                reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+    }
+
+    protected static String readId(BsonReader reader) {
+        return reader.getCurrentBsonType() == BsonType.OBJECT_ID
+                ? reader.readObjectId().toHexString()
+                : reader.readString();
+    }
+
+    /**
+     * 정수 필드 ($inc나 외부 도구로 int64/double이 된 값도 허용)
+     */
+    protected static int readInt(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case INT64 -> Math.toIntExact(reader.readInt64());
+            case DOUBLE -> (int) reader.readDouble();
+            default -> reader.readInt32();
+        };
+    }
+
+    protected static double readDouble(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case INT32 -> reader.readInt32();
+            case INT64 -> reader.readInt64();
+            default -> reader.readDouble();
+        };
+    }
+
+    protected static LocalDateTime readDate(BsonReader reader) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(reader.readDateTime()), ZONE);
+    }
+
+    protected static <E extends Enum<E>> E readEnum(BsonReader reader, Class<E> enumType) {
+        return Enum.valueOf(enumType, reader.readString());
+    }
+
+    // ===== Writing =====
+
+    protected static void writeId(BsonWriter writer, String id) {
+        if (id == null) {
+            return;
+        }
+        if (ObjectId.isValid(id)) {
+            writer.writeObjectId("_id", new ObjectId(id));
+        } else {
+            writer.writeString("_id", id);
+        }
+    }
+
+    protected static void writeString(BsonWriter writer, String field, String value) {
+        if (value != null) {
+            writer.writeString(field, value);
+        }
+    }
+
+    protected static void writeInt(BsonWriter writer, String field, Integer value) {
+        if (value != null) {
+            writer.writeInt32(field, value);
+        }
+    }
+
+    protected static void writeDouble(BsonWriter writer, String field, Double value) {
+        if (value != null) {
+            writer.writeDouble(field, value);
+        }
+    }
+
+    protected static void writeEnum(BsonWriter writer, String field, Enum<?> value) {
+        if (value != null) {
+            writer.writeString(field, value.name());
+        }
+    }
+
+    protected static void writeDate(BsonWriter writer, String field, LocalDateTime value) {
+        if (value != null) {
+            writer.writeDateTime(field, value.atZone(ZONE).toInstant().toEpochMilli());
+        }
+    }
+
+    // 디코딩 중 _id/감사 필드를 담아두는 용도 (빌더에는 BaseDocument 필드가 없음)
+    private static class AuditFields extends BaseDocument {
+    }
+}
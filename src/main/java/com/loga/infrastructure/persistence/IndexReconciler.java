@@ -0,0 +1,152 @@
+package com.loga.infrastructure.persistence;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.stereotype.Component;
+
+import com.loga.domain.community.entity.Comment;
+import com.loga.domain.player.entity.Player;
+import com.loga.domain.roster.entity.Roster;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 엔티티에 선언된 인덱스(@Indexed/@CompoundIndex)와 실제 컬렉션 인덱스 동기화
+ *
+ * 자동 인덱스 생성은 꺼져 있으므로 시작 시 관리 대상 컬렉션의 인덱스를 이름 기준으로 비교하여, 없는 인덱스는 생성하고 키/옵션이 바뀐 인덱스는 다시 만듭니다. 배포 중 조회가 인덱스 없이
+ * 실행되는 구간을 줄이도록 없는 인덱스를 모두 만든 뒤에 변경된 인덱스를 하나씩 교체하고, 선언되지 않은 인덱스는 마지막에 drop-undeclared가 켜져 있을 때만 삭제합니다. 관리 대상이 아닌
+ * 컬렉션(roster_likes, idempotency 등)은 각 레포지토리가 직접 인덱스를 만듭니다.
+ */
+@Slf4j
+@Component
+public class IndexReconciler {
+
+    private static final List<Class<?>> MANAGED_ENTITIES = List.of(Roster.class, Player.class, Comment.class);
+    private static final String ID_INDEX = "_id_";
+
+    private final MongoTemplate mongoTemplate;
+    private final IndexResolver indexResolver;
+    private final boolean enabled;
+    private final boolean dropUndeclared;
+
+    public IndexReconciler(MongoTemplate mongoTemplate,
+            @Value("${index-reconciler.enabled:true}") boolean enabled,
+            @Value("${index-reconciler.drop-undeclared:false}") boolean dropUndeclared) {
+        this.mongoTemplate = mongoTemplate;
+        this.indexResolver = IndexResolver.create(mongoTemplate.getConverter().getMappingContext());
+        this.enabled = enabled;
+        this.dropUndeclared = dropUndeclared;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+        Thread.ofVirtual().name("index-reconciler").start(() -> MANAGED_ENTITIES.forEach(this::reconcile));
+    }
+
+    /**
+     * 컬렉션 하나의 인덱스 동기화
+     */
+    void reconcile(Class<?> entityClass) {
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        try {
+            Map<String, IndexDefinition> declared = new LinkedHashMap<>();
+            indexResolver.resolveIndexFor(entityClass)
+                    .forEach(definition -> declared.put(nameOf(definition), definition));
+
+            Map<String, Document> existing = new LinkedHashMap<>();
+            for (Document index : mongoTemplate.getCollection(collection).listIndexes()) {
+                String name = index.getString("name");
+                if (!ID_INDEX.equals(name)) {
+                    existing.put(name, index);
+                }
+            }
+
+            IndexOperations indexOps = mongoTemplate.indexOps(entityClass);
+
+            // 1. 없는 인덱스 생성 (아무것도 삭제하기 전에)
+            declared.forEach((name, definition) -> {
+                if (!existing.containsKey(name)) {
+                    indexOps.createIndex(definition);
+                    log.info("Created index {}.{} {}", collection, name, definition.getIndexKeys().toJson());
+                }
+            });
+
+            // 2. 키나 옵션이 바뀐 인덱스는 같은 이름으로 하나씩 다시 생성 (해당 인덱스만 재빌드 동안 비어 있음)
+            declared.forEach((name, definition) -> {
+                Document index = existing.get(name);
+                if (index != null && !matches(index, definition)) {
+                    indexOps.dropIndex(name);
+                    indexOps.createIndex(definition);
+                    log.info("Recreated outdated index {}.{} {}", collection, name,
+                            definition.getIndexKeys().toJson());
+                }
+            });
+
+            // 3. 선언되지 않은 인덱스 정리
+            for (String name : existing.keySet()) {
+                if (declared.containsKey(name)) {
+                    continue;
+                }
+                if (dropUndeclared) {
+                    indexOps.dropIndex(name);
+                    log.info("Dropped undeclared index {}.{}", collection, name);
+                } else {
+                    log.warn("Undeclared index {}.{} kept (drop-undeclared=false)", collection, name);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to reconcile indexes for {}", collection, e);
+        }
+    }
+
+    /**
+     * 인덱스 이름 (이름이 없으면 MongoDB 기본 규칙: field_1_other_-1)
+     */
+    static String nameOf(IndexDefinition definition) {
+        String name = definition.getIndexOptions().getString("name");
+        if (name != null) {
+            return name;
+        }
+        List<String> parts = new ArrayList<>();
+        definition.getIndexKeys().forEach((field, direction) -> parts.add(field + "_" + direction));
+        return String.join("_", parts);
+    }
+
+    /**
+     * 서버 인덱스와 선언이 같은지 비교 (키 순서/방향, unique, sparse, TTL)
+     */
+    static boolean matches(Document index, IndexDefinition definition) {
+        Document options = definition.getIndexOptions();
+        return normalizeKeys(index.get("key", Document.class)).equals(normalizeKeys(definition.getIndexKeys()))
+                && index.getBoolean("unique", false) == options.getBoolean("unique", false)
+                && index.getBoolean("sparse", false) == options.getBoolean("sparse", false)
+                && Objects.equals(toLong(index.get("expireAfterSeconds")), toLong(options.get("expireAfterSeconds")));
+    }
+
+    // 서버는 방향을 1, 1.0, 1L 등으로 돌려줄 수 있으므로 정수로 맞추고 순서까지 비교
+    private static List<Map.Entry<String, Object>> normalizeKeys(Document keys) {
+        List<Map.Entry<String, Object>> normalized = new ArrayList<>();
+        keys.forEach((field, direction) -> normalized.add(Map.entry(field,
+                direction instanceof Number number ? (Object) number.intValue() : direction)));
+        return normalized;
+    }
+
+    private static Long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : null;
+    }
+}
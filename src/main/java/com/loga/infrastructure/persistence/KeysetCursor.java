@@ -0,0 +1,60 @@
+package com.loga.infrastructure.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.loga.global.error.BusinessException;
+import com.loga.global.error.ErrorCode;
+
+/**
+ * 키셋 페이지네이션 커서 (마지막 항목의 정렬 키 값 + ID)
+ *
+ * 클라이언트에는 base64url 문자열로만 노출되며, 정렬 키 값의 타입은 커서를 해석하는 레포지토리가 결정합니다.
+ */
+public record KeysetCursor(String value, String id) {
+
+    private static final char SEPARATOR = '\n';
+
+    public static KeysetCursor of(Object value, String id) {
+        return new KeysetCursor(value != null ? value.toString() : null, id);
+    }
+
+    /**
+     * 불투명 커서 문자열로 인코딩
+     */
+    public String encode() {
+        String raw = (value != null ? value : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (null/빈 문자열이면 첫 페이지로 보고 null 반환)
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0 || separator == raw.length() - 1) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT, "Invalid cursor");
+            }
+            String value = raw.substring(0, separator);
+            return new KeysetCursor(value.isEmpty() ? null : value, raw.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "Invalid cursor");
+        }
+    }
+
+    /**
+     * 정렬 키 값을 정수로 해석
+     */
+    public int intValue() {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "Invalid cursor");
+        }
+    }
+}
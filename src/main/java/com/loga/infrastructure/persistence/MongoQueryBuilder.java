@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.function.Consumer;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 
@@ -172,6 +173,37 @@ public class MongoQueryBuilder {
         return this;
     }
 
+    /**
+     * 키셋 페이지네이션 조건 (내림차순): 정렬 키가 마지막 값보다 작거나, 같으면 ID가 더 작은 문서
+     */
+    public MongoQueryBuilder after(String sortKey, Object lastValue, Object lastId) {
+        return after(sortKey, Sort.Direction.DESC, lastValue, lastId);
+    }
+
+    /**
+     * 키셋 페이지네이션 조건 (정렬 키 + _id 동점 처리, lastId가 null이면 첫 페이지로 보고 조건 없음)
+     *
+     * 정렬은 (sortKey, _id) 모두 같은 방향이어야 하며, sortKey가 _id면 ID 비교 하나로 처리합니다.
+     */
+    public MongoQueryBuilder after(String sortKey, Sort.Direction direction, Object lastValue, Object lastId) {
+        if (lastId == null) {
+            return this;
+        }
+
+        boolean desc = direction.isDescending();
+        Criteria idAfter = desc ? Criteria.where("_id").lt(lastId) : Criteria.where("_id").gt(lastId);
+        if ("_id".equals(sortKey)) {
+            criteriaList.add(idAfter);
+            return this;
+        }
+
+        Criteria valueAfter = desc ? Criteria.where(sortKey).lt(lastValue) : Criteria.where(sortKey).gt(lastValue);
+        criteriaList.add(new Criteria().orOperator(
+                valueAfter,
+                new Criteria().andOperator(Criteria.where(sortKey).is(lastValue), idAfter)));
+        return this;
+    }
+
     /**
      * 페이지네이션 설정
      */
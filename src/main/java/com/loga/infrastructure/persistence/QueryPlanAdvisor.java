@@ -0,0 +1,222 @@
+package com.loga.infrastructure.persistence;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.mongodb.autoconfigure.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 쿼리 플랜 검사 (prod 제외 개발/테스트 환경 전용)
+ *
+ * 드라이버로 나가는 find/count 명령과 countDocuments가 보내는 count 형태 aggregate($match → $group)를 필터 형태(값 제외) + 정렬 기준으로 묶어, 처음 보는 형태마다
+ * 같은 필터의 find explain을 실행하고 승리 플랜에 COLLSCAN 또는 인메모리 SORT가 있으면 위반으로 기록합니다. 운영 슬로우 로그보다 먼저 누락된 인덱스를 찾기 위한 용도이며,
+ * 통합 테스트에서는 QueryPlanCheckExtension이 {@link #assertNoViolations()}로 실패시킵니다. 의도된 전체 스캔(마이그레이션 등)은 쿼리 comment에 {@link #FULL_SCAN}을
+ * 지정하면 검사하지 않습니다.
+ */
+@Slf4j
+@Component
+@Profile("!prod")
+public class QueryPlanAdvisor implements CommandListener, MongoClientSettingsBuilderCustomizer {
+
+    public static final String FULL_SCAN = "full-scan";
+
+    private static final Set<String> REJECTED_STAGES = Set.of("COLLSCAN", "SORT");
+    // 진행 중인 explain을 기다리는 최대 시간
+    private static final Duration EXPLAIN_WAIT = Duration.ofSeconds(10);
+
+    // MongoClient 생성 전에 등록되므로 MongoTemplate은 explain 시점에 조회
+    private final ObjectProvider<MongoTemplate> mongoTemplate;
+    private final Set<String> explainedShapes = ConcurrentHashMap.newKeySet();
+    private final ConcurrentLinkedQueue<String> violations = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingExplains = new AtomicInteger();
+
+    public QueryPlanAdvisor(ObjectProvider<MongoTemplate> mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void customize(MongoClientSettings.Builder builder) {
+        builder.addCommandListener(this);
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String commandName = event.getCommandName();
+        BsonDocument command = event.getCommand();
+        BsonDocument filter = switch (commandName) {
+            case "find" -> command.getDocument("filter", new BsonDocument());
+            case "count" -> command.getDocument("query", new BsonDocument());
+            case "aggregate" -> countFilterOf(command);
+            default -> null;
+        };
+        if (filter == null || !command.isString(commandName)) {
+            return;
+        }
+
+        BsonValue comment = command.get("comment");
+        if (comment != null && comment.isString() && FULL_SCAN.equals(comment.asString().getValue())) {
+            return;
+        }
+
+        BsonDocument sort = "find".equals(commandName) ? command.getDocument("sort", new BsonDocument())
+                : new BsonDocument();
+        if (filter.isEmpty() && sort.isEmpty()) {
+            // 전체 조회는 의도된 스캔
+            return;
+        }
+
+        String collection = command.getString(commandName).getValue();
+        String shape = collection + " " + shapeOf(filter).toJson() + (sort.isEmpty() ? "" : " sort " + sort.toJson());
+        if (!explainedShapes.add(shape)) {
+            return;
+        }
+
+        // 이벤트의 명령 문서는 전송 후 해제될 수 있으므로 복사해서 넘김 (count도 같은 필터의 find 플랜으로 검사)
+        BsonDocument explained = new BsonDocument("find", new BsonString(collection))
+                .append("filter", filter.clone());
+        if (!sort.isEmpty()) {
+            explained.append("sort", sort.clone());
+        }
+        String database = event.getDatabaseName();
+        pendingExplains.incrementAndGet();
+        Thread.ofVirtual().name("query-plan-advisor").start(() -> {
+            try {
+                explain(database, shape, explained);
+            } finally {
+                pendingExplains.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * 지금까지 기록된 위반 (필터 형태 → 거부된 스테이지)
+     */
+    public List<String> violations() {
+        return List.copyOf(violations);
+    }
+
+    /**
+     * 진행 중인 explain이 끝나길 기다린 뒤 위반이 있으면 IllegalStateException
+     */
+    public void assertNoViolations() {
+        long deadline = System.nanoTime() + EXPLAIN_WAIT.toNanos();
+        while (pendingExplains.get() > 0 && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("Queries without a supporting index:\n" + String.join("\n", violations));
+        }
+    }
+
+    private void explain(String database, String shape, BsonDocument command) {
+        try {
+            Document result = mongoTemplate.getObject()
+                    .getMongoDatabaseFactory()
+                    .getMongoDatabase(database)
+                    .runCommand(new BsonDocument("explain", command)
+                            .append("verbosity", new BsonString("queryPlanner")));
+
+            Set<String> rejected = rejectedStages(result);
+            if (!rejected.isEmpty()) {
+                violations.add(shape + " -> " + rejected);
+                log.error("Query plan uses {} for {}", rejected, shape);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to explain query {}", shape, e);
+        }
+    }
+
+    /**
+     * explain 결과의 승리 플랜에서 COLLSCAN/SORT 스테이지 추출 (클래식/SBE 플랜 형식 모두 재귀 탐색)
+     */
+    static Set<String> rejectedStages(Document explainResult) {
+        Set<String> stages = new TreeSet<>();
+        Document queryPlanner = explainResult.get("queryPlanner", Document.class);
+        if (queryPlanner != null) {
+            collectStages(queryPlanner.get("winningPlan"), stages);
+        }
+        stages.retainAll(REJECTED_STAGES);
+        return stages;
+    }
+
+    /**
+     * countDocuments가 보내는 aggregate([$match, ($skip/$limit), $group {_id: 1}])의 $match 필터
+     *
+     * @return count 형태가 아니면 null
+     */
+    static BsonDocument countFilterOf(BsonDocument command) {
+        BsonValue pipeline = command.get("pipeline");
+        if (pipeline == null || !pipeline.isArray() || pipeline.asArray().size() < 2) {
+            return null;
+        }
+        List<BsonValue> stages = pipeline.asArray().getValues();
+        BsonDocument first = stages.getFirst().asDocument();
+        BsonDocument last = stages.getLast().asDocument();
+        if (!first.isDocument("$match") || !last.isDocument("$group")) {
+            return null;
+        }
+        BsonValue groupId = last.getDocument("$group").get("_id");
+        if (groupId == null || !groupId.isNumber() || groupId.asNumber().intValue() != 1) {
+            return null;
+        }
+        return first.getDocument("$match");
+    }
+
+    /**
+     * 필터 값을 ?로 바꾼 형태 (필드/연산자 구조만 유지)
+     */
+    static BsonValue shapeOf(BsonValue value) {
+        if (value.isDocument()) {
+            BsonDocument shape = new BsonDocument();
+            value.asDocument().forEach((key, nested) -> shape.append(key, shapeOf(nested)));
+            return shape;
+        }
+        // $and/$or 조건 목록은 구조 유지, $in 등의 값 목록은 ?로 치환
+        if (value.isArray() && value.asArray().stream().allMatch(BsonValue::isDocument)) {
+            BsonArray shape = new BsonArray();
+            value.asArray().forEach(nested -> shape.add(shapeOf(nested)));
+            return shape;
+        }
+        return new BsonString("?");
+    }
+
+    private static void collectStages(Object node, Set<String> stages) {
+        if (node instanceof Map<?, ?> map) {
+            map.forEach((key, nested) -> {
+                if ("stage".equals(key) && nested instanceof String stage) {
+                    stages.add(stage);
+                } else {
+                    collectStages(nested, stages);
+                }
+            });
+        } else if (node instanceof List<?> list) {
+            list.forEach(nested -> collectStages(nested, stages));
+        }
+    }
+}
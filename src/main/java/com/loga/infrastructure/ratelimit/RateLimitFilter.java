@@ -0,0 +1,94 @@
+package com.loga.infrastructure.ratelimit;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.loga.domain.user.entity.User;
+import com.loga.global.common.dto.response.ApiResponse;
+import com.loga.global.error.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 요청 속도 제한 필터
+ *
+ * JWT 인증 이후에 실행되어 로그인 사용자는 사용자 ID, 비로그인 사용자는 클라이언트 IP 기준으로 경로별 토큰 버킷을 적용합니다. 제한을 넘으면 429와 Retry-After 헤더를 반환합니다.
+ * 클라이언트 IP는 server.forward-headers-strategy(RemoteIpValve)가 신뢰 프록시(nginx)의 X-Forwarded-For로 바꾼 remoteAddr를 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+    private final JsonMapper jsonMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        RateLimitProperties.Rule rule = properties.isEnabled() ? findRule(request) : null;
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean authenticated = authentication != null && authentication.getPrincipal() instanceof User;
+        String clientKey = authenticated
+                ? "user:" + ((User) authentication.getPrincipal()).getId()
+                : "ip:" + request.getRemoteAddr();
+        RateLimitProperties.Limit limit = authenticated ? rule.getAuthenticated() : rule.getAnonymous();
+
+        long waitNanos = rateLimiter.tryAcquire(rule.getName() + ":" + clientKey, limit);
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        log.debug("Rate limit exceeded: rule={}, client={}", rule.getName(), clientKey);
+        reject(response, waitNanos);
+    }
+
+    private RateLimitProperties.Rule findRule(HttpServletRequest request) {
+        List<RateLimitProperties.Rule> rules = properties.getRules();
+        String path = request.getRequestURI();
+        for (RateLimitProperties.Rule rule : rules) {
+            if ((rule.getMethod() == null || rule.getMethod().equalsIgnoreCase(request.getMethod()))
+                    && PATH_MATCHER.match(rule.getPattern(), path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setStatus(ErrorCode.RATE_LIMIT_EXCEEDED.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(jsonMapper.writeValueAsString(
+                ApiResponse.error(ErrorCode.RATE_LIMIT_EXCEEDED.getCode(), ErrorCode.RATE_LIMIT_EXCEEDED.getMessage())));
+    }
+}
@@ -0,0 +1,62 @@
+package com.loga.infrastructure.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 요청 속도 제한 설정 (rate-limit.*)
+ *
+ * capacity/refill-per-second가 0 이하이면 시작 시 바인딩 실패로 중단합니다.
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 메모리에 유지할 최대 버킷 수 (도달 시 가득 찬 버킷을 제거하고, 그래도 자리가 없으면 새 키는 공유 버킷으로 제한)
+    @Positive
+    private int maxBuckets = 100_000;
+
+    // 경로별 규칙 (먼저 일치하는 규칙 하나만 적용)
+    @Valid
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String name;
+        // HTTP 메서드 (비어 있으면 전체)
+        private String method;
+        // Ant 스타일 경로 패턴
+        private String pattern;
+        @Valid
+        private Limit authenticated = new Limit();
+        @Valid
+        private Limit anonymous = new Limit();
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+        // 순간 최대 허용 요청 수
+        @Positive
+        private int capacity = 10;
+        // 초당 충전 토큰 수
+        @Positive
+        private double refillPerSecond = 1;
+    }
+}
@@ -0,0 +1,176 @@
+package com.loga.infrastructure.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Lock-free 토큰 버킷 저장소
+ *
+ * 버킷은 GCRA(Generic Cell Rate Algorithm) 방식으로 "다음 토큰이 허용되는 이론적 시각" 하나를 AtomicLong에 저장하고 CAS로 갱신합니다. 충전은 요청 시점에 계산되므로 별도 타이머가
+ * 없고, 토큰이 가득 찬(이론적 시각이 현재 이전인) 버킷은 새로 만든 버킷과 같으므로 언제든 제거해도 제한 결과가 바뀌지 않습니다. 버킷은 해시로 나눈 여러 맵(stripe)에 분산해 경합을
+ * 줄입니다.
+ *
+ * stripe마다 버킷 수를 미리 예약한 뒤 추가하므로 max-buckets를 넘지 않습니다. 가득 찬 stripe에 새 키가 오면 stripe 정리는 최대 1초에 한 번만 하고(새 키마다 전체를 훑지
+ * 않음), 정리 후에도 자리가 없으면 그 stripe의 공유 버킷으로 제한합니다. 그래서 키가 폭증해도 메모리와 비용은 고정되고, 이미 버킷이 있는 키는 영향을 받지 않습니다.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final int STRIPES = 16;
+    // 제거된 버킷 표시 (이 값을 본 요청은 새 버킷을 다시 조회)
+    private static final long EVICTED = Long.MIN_VALUE;
+    // 가득 찬 stripe를 다시 정리하기까지의 최소 간격
+    private static final long EVICTION_BACKOFF_NANOS = 1_000_000_000L;
+    private static final long NEVER = Long.MIN_VALUE;
+
+    private final Stripe[] stripes;
+
+    public RateLimiter(RateLimitProperties properties) {
+        int maxBucketsPerStripe = Math.max(1, properties.getMaxBuckets() / STRIPES);
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(maxBucketsPerStripe);
+        }
+    }
+
+    /**
+     * 토큰 1개 사용 시도
+     *
+     * @return 허용 시 0, 거부 시 다음 요청까지 기다려야 하는 시간(ns)
+     */
+    public long tryAcquire(String key, RateLimitProperties.Limit limit) {
+        return tryAcquire(key, limit, System.nanoTime());
+    }
+
+    long tryAcquire(String key, RateLimitProperties.Limit limit, long now) {
+        long intervalNanos = (long) (1_000_000_000L / limit.getRefillPerSecond());
+        long toleranceNanos = intervalNanos * (limit.getCapacity() - 1);
+
+        AtomicLong bucket = bucket(key, now);
+        while (true) {
+            long tat = bucket.get();
+            if (tat == EVICTED) {
+                bucket = bucket(key, now);
+                continue;
+            }
+            long start = Math.max(tat, now);
+            long waitNanos = start - now - toleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (bucket.compareAndSet(tat, start + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 가득 찬 버킷 정리
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval-ms:30000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        int removed = 0;
+        for (Stripe stripe : stripes) {
+            removed += evictFull(stripe, now);
+        }
+        if (removed > 0) {
+            log.debug("Rate limiter evicted {} idle buckets", removed);
+        }
+    }
+
+    /**
+     * 현재 유지 중인 버킷 수
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.buckets.size();
+        }
+        return size;
+    }
+
+    static int stripeIndex(String key) {
+        return (key.hashCode() & 0x7FFFFFFF) % STRIPES;
+    }
+
+    private AtomicLong bucket(String key, long now) {
+        Stripe stripe = stripes[stripeIndex(key)];
+        AtomicLong bucket = stripe.buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (!stripe.reserve()) {
+            // 정리는 한 요청만, 간격을 두고 실행 (그 사이 새 키는 공유 버킷 사용)
+            if (stripe.tryStartEviction(now)) {
+                evictFull(stripe, now);
+            }
+            if (!stripe.reserve()) {
+                return stripe.overflow;
+            }
+        }
+
+        AtomicLong created = new AtomicLong(now);
+        AtomicLong existing = stripe.buckets.putIfAbsent(key, created);
+        if (existing != null) {
+            // 동시에 같은 키가 추가됨
+            stripe.count.decrementAndGet();
+            return existing;
+        }
+        return created;
+    }
+
+    private int evictFull(Stripe stripe, long now) {
+        int removed = 0;
+        for (var entry : stripe.buckets.entrySet()) {
+            AtomicLong bucket = entry.getValue();
+            long tat = bucket.get();
+            // CAS로 먼저 제거 표시를 하므로 그 사이 사용된 버킷은 남음
+            if (tat != EVICTED && tat - now <= 0 && bucket.compareAndSet(tat, EVICTED)
+                    && stripe.buckets.remove(entry.getKey(), bucket)) {
+                stripe.count.decrementAndGet();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private static final class Stripe {
+
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        // 추가 예정분을 포함한 버킷 수 (맵 크기보다 먼저 늘려 상한을 지킴)
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicLong lastEvictionAt = new AtomicLong(NEVER);
+        // 상한에 도달한 뒤 새 키가 함께 쓰는 버킷 (맵에 없으므로 제거되지 않음, 처음에는 가득 찬 상태)
+        private final AtomicLong overflow = new AtomicLong(EVICTED + 1);
+        private final int maxBuckets;
+
+        private Stripe(int maxBuckets) {
+            this.maxBuckets = maxBuckets;
+        }
+
+        private boolean reserve() {
+            while (true) {
+                int current = count.get();
+                if (current >= maxBuckets) {
+                    return false;
+                }
+                if (count.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        private boolean tryStartEviction(long now) {
+            long last = lastEvictionAt.get();
+            return (last == NEVER || now - last >= EVICTION_BACKOFF_NANOS) && lastEvictionAt.compareAndSet(last, now);
+        }
+    }
+}
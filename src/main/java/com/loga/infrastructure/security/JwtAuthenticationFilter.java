@@ -45,7 +45,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             String userId = jwtTokenProvider.getUserIdFromToken(token);
 
-            userRepository.findById(userId)
+            userRepository.findPrincipalById(userId)
                     .ifPresent(user -> {
                         var authorities = List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole()
                                 .name()));
@@ -0,0 +1,95 @@
+package com.loga.domain.community.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loga.domain.community.dto.CommentResponse;
+import com.loga.domain.community.dto.CreateCommentRequest;
+import com.loga.domain.community.entity.Comment;
+import com.loga.domain.community.repository.CommentRepository;
+import com.loga.domain.roster.repository.RosterRepository;
+import com.loga.domain.user.entity.User;
+import com.loga.global.error.BusinessException;
+import com.loga.global.error.ErrorCode;
+
+@ExtendWith(MockitoExtension.class)
+class CommunityServiceTest {
+
+    @InjectMocks
+    private CommunityService communityService;
+
+    @Mock
+    private RosterRepository rosterRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Test
+    @DisplayName("댓글 작성 시 로스터 문서를 저장하지 않고 댓글 수만 $inc")
+    void createComment_IncrementsCommentCount() {
+        // given
+        given(rosterRepository.existsById("roster1")).willReturn(true);
+        given(commentRepository.save(any(Comment.class))).willAnswer(invocation -> invocation.getArgument(0));
+        CreateCommentRequest request = new CreateCommentRequest();
+        request.setContent("좋은 조합");
+
+        // when
+        CommentResponse response = communityService.createComment("roster1", request, createUser("user1"));
+
+        // then
+        assertThat(response.getContent()).isEqualTo("좋은 조합");
+        verify(rosterRepository).incrementCommentCount("roster1", 1);
+        verify(rosterRepository, times(0)).save(any());
+    }
+
+    @Test
+    @DisplayName("댓글 작성 실패 - 로스터 없음")
+    void createComment_Fail_RosterNotFound() {
+        // given
+        given(rosterRepository.existsById("missing")).willReturn(false);
+        CreateCommentRequest request = new CreateCommentRequest();
+        request.setContent("좋은 조합");
+
+        // when & then
+        assertThatThrownBy(() -> communityService.createComment("missing", request, createUser("user1")))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.ROSTER_NOT_FOUND);
+        verify(commentRepository, times(0)).save(any());
+    }
+
+    @Test
+    @DisplayName("댓글 삭제 시 로스터 문서를 저장하지 않고 댓글 수만 $inc로 감소")
+    void deleteComment_DecrementsCommentCount() {
+        // given
+        Comment comment = Comment.create("roster1", "user1", "User", null, "좋은 조합");
+        given(commentRepository.findById("comment1")).willReturn(Optional.of(comment));
+
+        // when
+        communityService.deleteComment("roster1", "comment1", createUser("user1"));
+
+        // then
+        verify(commentRepository).delete(comment);
+        verify(rosterRepository).incrementCommentCount("roster1", -1);
+        verify(rosterRepository, times(0)).save(any());
+    }
+
+    private User createUser(String id) {
+        User user = User.builder().email(id + "@example.com").build();
+        user.setId(id);
+        return user;
+    }
+}
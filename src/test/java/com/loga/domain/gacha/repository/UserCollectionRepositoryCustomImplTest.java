@@ -0,0 +1,78 @@
+package com.loga.domain.gacha.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.loga.domain.gacha.entity.UserCollection;
+
+@ExtendWith(MockitoExtension.class)
+class UserCollectionRepositoryCustomImplTest {
+
+    @InjectMocks
+    private UserCollectionRepositoryCustomImpl userCollectionRepository;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOps;
+
+    @Test
+    @DisplayName("사용자별로 워드마다 $bit or 하는 upsert 한 번씩을 하나의 bulkWrite로 실행")
+    void bulkAddCards_BitOrUpsertPerUser() {
+        // given
+        given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, UserCollection.class)).willReturn(bulkOps);
+        Map<String, Map<Integer, Long>> masks = new LinkedHashMap<>();
+        masks.put("user1", Map.of(0, 1L << 3, 1, 1L << 2));
+        masks.put("user2", Map.of(0, Long.MIN_VALUE));
+
+        // when
+        userCollectionRepository.bulkAddCards(masks);
+
+        // then
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOps, times(2)).upsert(queries.capture(), updates.capture());
+        verify(bulkOps).execute();
+
+        List<Query> capturedQueries = queries.getAllValues();
+        List<Update> capturedUpdates = updates.getAllValues();
+        assertThat(capturedQueries.get(0).getQueryObject()).isEqualTo(new Document("_id", "user1"));
+        assertThat(capturedUpdates.get(0).getUpdateObject()).isEqualTo(new Document("$bit", new Document()
+                .append("words.0", new Document("or", 1L << 3))
+                .append("words.1", new Document("or", 1L << 2))));
+        assertThat(capturedQueries.get(1).getQueryObject()).isEqualTo(new Document("_id", "user2"));
+        assertThat(capturedUpdates.get(1).getUpdateObject()).isEqualTo(new Document("$bit",
+                new Document("words.0", new Document("or", Long.MIN_VALUE))));
+    }
+
+    @Test
+    @DisplayName("반영할 비트가 없으면 쓰기를 실행하지 않음")
+    void bulkAddCards_Empty_NoWrite() {
+        // when
+        userCollectionRepository.bulkAddCards(Map.of());
+
+        // then
+        verifyNoInteractions(mongoTemplate);
+    }
+}
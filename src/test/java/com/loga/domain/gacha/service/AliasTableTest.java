@@ -0,0 +1,49 @@
+package com.loga.domain.gacha.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AliasTableTest {
+
+    @Test
+    @DisplayName("가중치 비율대로 확률 계산")
+    void probabilities_MatchWeights() {
+        // given
+        double[] weights = { 100, 40, 15, 5, 0 };
+
+        // when
+        AliasTable table = AliasTable.of(weights);
+
+        // then
+        assertThat(table.probabilityOf(0)).isCloseTo(100.0 / 160, within(1e-9));
+        assertThat(table.probabilityOf(1)).isCloseTo(40.0 / 160, within(1e-9));
+        assertThat(table.probabilityOf(2)).isCloseTo(15.0 / 160, within(1e-9));
+        assertThat(table.probabilityOf(3)).isCloseTo(5.0 / 160, within(1e-9));
+        assertThat(table.probabilityOf(4)).isZero();
+    }
+
+    @Test
+    @DisplayName("가중치 0인 카드는 뽑히지 않음")
+    void sample_NeverReturnsZeroWeight() {
+        // given
+        AliasTable table = AliasTable.of(new double[] { 0, 1, 0, 3 });
+        SplittableRandom random = new SplittableRandom(42);
+
+        // when & then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(table.sample(random)).isIn(1, 3);
+        }
+    }
+
+    @Test
+    @DisplayName("가중치 합이 0이면 빈 테이블")
+    void of_AllZero_Empty() {
+        assertThat(AliasTable.of(new double[] { 0, 0 }).isEmpty()).isTrue();
+        assertThat(AliasTable.of(new double[0]).isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,61 @@
+package com.loga.domain.gacha.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loga.domain.gacha.dto.ChampionshipOddsResponse;
+import com.loga.domain.player.entity.Championship;
+import com.loga.domain.player.entity.Player;
+import com.loga.domain.player.service.ChampionshipMatcher;
+
+@ExtendWith(MockitoExtension.class)
+class ChampionshipOddsCalculatorTest {
+
+    @InjectMocks
+    private ChampionshipOddsCalculator calculator;
+
+    @Mock
+    private PlayerDrawPool playerDrawPool;
+
+    @Mock
+    private ChampionshipMatcher championshipMatcher;
+
+    @Test
+    @DisplayName("우승 로스터 확률 = 포지션별 선택 확률의 곱, 버전이 같으면 캐시 사용")
+    void getOdds_ProductOfPositionProbabilities_Cached() {
+        // given
+        Championship championship = Championship.create("Worlds", 2023, "T1", "LCK",
+                Championship.RosterPlayers.builder()
+                        .topPlayerId("zeus").junglePlayerId("oner").midPlayerId("faker")
+                        .adcPlayerId("gumayusi").supportPlayerId("keria")
+                        .build());
+        given(championshipMatcher.getChampionships()).willReturn(List.of(championship));
+        given(playerDrawPool.probabilityOf(any(), any())).willReturn(0.1);
+        given(playerDrawPool.probabilityOf(eq(Player.Position.MID), eq("faker"))).willReturn(0.5);
+
+        // when
+        ChampionshipOddsResponse first = calculator.getOdds();
+        ChampionshipOddsResponse second = calculator.getOdds();
+
+        // then
+        assertThat(first.getChampionships()).hasSize(1);
+        assertThat(first.getChampionships().get(0).getProbability()).isCloseTo(0.5 * 1e-4, within(1e-12));
+        assertThat(first.getChampionships().get(0).getExpectedDraws()).isCloseTo(20_000.0, within(1e-6));
+        assertThat(second).isSameAs(first);
+        verify(championshipMatcher, times(1)).getChampionships();
+    }
+}
@@ -0,0 +1,145 @@
+package com.loga.domain.gacha.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loga.domain.gacha.dto.CollectionResponse;
+import com.loga.domain.gacha.entity.UserCollection;
+import com.loga.domain.gacha.repository.UserCollectionRepository;
+import com.loga.domain.player.entity.Player;
+import com.loga.domain.player.repository.PlayerRepository;
+import com.loga.global.error.BusinessException;
+import com.loga.global.error.ErrorCode;
+
+@ExtendWith(MockitoExtension.class)
+class CollectionServiceTest {
+
+    @Mock
+    private UserCollectionRepository userCollectionRepository;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    private CollectionService collectionService;
+
+    @BeforeEach
+    void setUp() {
+        // MID 3장 (컬렉션 인덱스 0~2, 첫 번째 워드), TOP 2장 (인덱스 64~65, 두 번째 워드)
+        given(playerRepository.findCatalog()).willReturn(List.of(
+                createPlayer("mid_a", Player.Position.MID, 0),
+                createPlayer("mid_b", Player.Position.MID, 1),
+                createPlayer("mid_c", Player.Position.MID, 2),
+                createPlayer("top_a", Player.Position.TOP, 64),
+                createPlayer("top_b", Player.Position.TOP, 65)));
+        PlayerDrawPool playerDrawPool = new PlayerDrawPool(playerRepository);
+        playerDrawPool.refresh();
+        collectionService = new CollectionService(userCollectionRepository, playerDrawPool);
+    }
+
+    @Test
+    @DisplayName("워드별 보유 비트를 포지션 마스크와 AND 하여 보유 카드 수 계산")
+    void getCollection_CountsOwnedPerPosition() {
+        // given
+        // 워드 0: 인덱스 0, 2 / 워드 1: 인덱스 65 (64 + 1)
+        given(userCollectionRepository.findById("user1")).willReturn(Optional.of(createCollection(
+                Map.of("0", 0b101L, "1", 0b10L))));
+
+        // when
+        CollectionResponse response = collectionService.getCollection("user1");
+
+        // then
+        assertThat(progress(response, Player.Position.MID)).containsExactly(2, 3);
+        assertThat(progress(response, Player.Position.TOP)).containsExactly(1, 2);
+        assertThat(progress(response, Player.Position.ADC)).containsExactly(0, 0);
+        assertThat(response.getOwnedCount()).isEqualTo(3);
+        assertThat(response.getTotalCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("도감 문서가 없으면 보유 카드 0장")
+    void getCollection_NoCollection() {
+        // given
+        given(userCollectionRepository.findById("user1")).willReturn(Optional.empty());
+
+        // when
+        CollectionResponse response = collectionService.getCollection("user1");
+
+        // then
+        assertThat(response.getOwnedCount()).isZero();
+        assertThat(response.getTotalCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("카드가 없는 비트와 카탈로그 범위를 넘는 워드는 세지 않음")
+    void getCollection_IgnoresBitsOutsideCatalog() {
+        // given
+        given(userCollectionRepository.findById("user1")).willReturn(Optional.of(createCollection(
+                Map.of("0", 1L << 40, "1", 1L << 63, "7", -1L))));
+
+        // when
+        CollectionResponse response = collectionService.getCollection("user1");
+
+        // then
+        assertThat(response.getOwnedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("비로그인 사용자는 도감 조회 불가")
+    void getCollection_Anonymous_Unauthorized() {
+        // when & then
+        assertThatThrownBy(() -> collectionService.getCollection(null))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("저장된 워드를 번호 위치의 배열로 변환하고 없는 워드는 0")
+    void toWords_Layout() {
+        // given
+        UserCollection collection = createCollection(Map.of("1", 5L, "3", 9L));
+
+        // when & then
+        assertThat(collection.toWords(3)).containsExactly(0L, 5L, 0L);
+        assertThat(createCollection(null).toWords(2)).containsExactly(0L, 0L);
+    }
+
+    private List<Integer> progress(CollectionResponse response, Player.Position position) {
+        return response.getPositions().stream()
+                .filter(progress -> progress.getPosition().equals(position.name()))
+                .findFirst()
+                .map(progress -> List.of(progress.getOwned(), progress.getTotal()))
+                .orElseThrow();
+    }
+
+    private UserCollection createCollection(Map<String, Long> words) {
+        return UserCollection.builder()
+                .id("user1")
+                .words(words)
+                .build();
+    }
+
+    private Player createPlayer(String id, Player.Position position, int collectionIndex) {
+        Player player = Player.builder()
+                .name(id)
+                .position(position)
+                .year(2024)
+                .collectionIndex(collectionIndex)
+                .isActive(true)
+                .build();
+        player.setId(id);
+        return player;
+    }
+}
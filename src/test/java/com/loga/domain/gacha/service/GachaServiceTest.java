@@ -3,24 +3,34 @@ package com.loga.domain.gacha.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.loga.domain.gacha.dto.GachaMultiResultResponse;
 import com.loga.domain.gacha.dto.GachaResultResponse;
+import com.loga.domain.gacha.entity.UserCollection;
+import com.loga.domain.gacha.event.GachaDrawnEvent;
+import com.loga.domain.gacha.repository.GachaDrawEventRepository;
+import com.loga.domain.gacha.repository.UserCollectionRepository;
+import com.loga.domain.player.dto.PlayerResponse;
 import com.loga.domain.player.entity.Player;
-import com.loga.domain.player.repository.ChampionshipRepository;
-import com.loga.domain.player.repository.PlayerRepository;
+import com.loga.domain.player.service.ChampionshipMatcher;
 import com.loga.domain.user.entity.User;
 import com.loga.domain.user.repository.UserRepository;
 import com.loga.global.error.BusinessException;
@@ -33,14 +43,23 @@ class GachaServiceTest {
     private GachaService gachaService;
 
     @Mock
-    private PlayerRepository playerRepository;
+    private PlayerDrawPool playerDrawPool;
 
     @Mock
-    private ChampionshipRepository championshipRepository;
+    private GachaSideEffectPipeline sideEffectPipeline;
+
+    @Mock
+    private ChampionshipMatcher championshipMatcher;
 
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private GachaDrawEventRepository gachaDrawEventRepository;
+
+    @Mock
+    private UserCollectionRepository userCollectionRepository;
+
     @Test
     @DisplayName("단일 포지션 뽑기 성공 - 비로그인")
     void drawByPosition_Success_NoAuth() {
@@ -52,7 +71,7 @@ class GachaServiceTest {
                 .build();
         player.setId("faker_2013");
 
-        given(playerRepository.findRandomByPosition(position)).willReturn(Optional.of(player));
+        given(playerDrawPool.draw(Player.Position.MID)).willReturn(Optional.of(PlayerResponse.from(player)));
 
         // when
         GachaResultResponse result = gachaService.drawByPosition(position, null);
@@ -60,8 +79,10 @@ class GachaServiceTest {
         // then
         assertThat(result.getPlayer()).isNotNull();
         assertThat(result.getPlayer().getName()).isEqualTo("Faker");
-        verify(playerRepository).findRandomByPosition(position);
-        verify(playerRepository).save(player); // picked count update
+        verify(playerDrawPool).draw(Player.Position.MID);
+        GachaDrawnEvent event = captureEvent();
+        assertThat(event.userId()).isNull();
+        assertThat(event.pickedPlayerIds()).containsExactly("faker_2013");
         verify(userRepository, times(0)).findById(any());
     }
 
@@ -76,18 +97,69 @@ class GachaServiceTest {
                 .position(Player.Position.MID)
                 .build();
         player.setId("faker_2013");
-        User mockUser = mock(User.class);
 
-        given(playerRepository.findRandomByPosition(position)).willReturn(Optional.of(player));
-        given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
+        given(playerDrawPool.draw(Player.Position.MID)).willReturn(Optional.of(PlayerResponse.from(player)));
 
         // when
         GachaResultResponse result = gachaService.drawByPosition(position, userId);
 
         // then
         assertThat(result.getPlayer()).isNotNull();
-        verify(userRepository).findById(userId);
-        verify(mockUser).incrementGachaCount(1);
+        GachaDrawnEvent event = captureEvent();
+        assertThat(event.userId()).isEqualTo(userId);
+        assertThat(event.gachaCount()).isEqualTo(1);
+        verify(userRepository, times(0)).findById(any());
+        verify(userRepository, times(0)).save(any());
+    }
+
+    @Test
+    @DisplayName("보유 카드 제외 뽑기 성공 - 프리미엄 회원, 컬렉션 비트셋 전달")
+    void drawByPosition_ExcludeOwned_Success() {
+        // given
+        String userId = "user1";
+        Player player = Player.builder()
+                .name("Faker")
+                .position(Player.Position.MID)
+                .build();
+        player.setId("faker_2013");
+        UserCollection collection = UserCollection.builder()
+                .id(userId)
+                .words(Map.of("0", 1L << 3))
+                .build();
+
+        given(userRepository.findMembershipById(userId))
+                .willReturn(Optional.of(new User.MembershipInfo(true, null, 3)));
+        given(userCollectionRepository.findById(userId)).willReturn(Optional.of(collection));
+        given(playerDrawPool.collectionWordCount()).willReturn(1);
+        given(playerDrawPool.drawExcluding(eq(Player.Position.MID), any()))
+                .willReturn(Optional.of(PlayerResponse.from(player)));
+
+        // when
+        GachaResultResponse result = gachaService.drawByPosition("MID", userId, true);
+
+        // then
+        assertThat(result.getPlayer().getId()).isEqualTo("faker_2013");
+        ArgumentCaptor<long[]> owned = ArgumentCaptor.forClass(long[].class);
+        verify(playerDrawPool).drawExcluding(eq(Player.Position.MID), owned.capture());
+        assertThat(owned.getValue()).containsExactly(1L << 3);
+        assertThat(captureEvent().userId()).isEqualTo(userId);
+        verify(userRepository, times(0)).findById(any());
+    }
+
+    @Test
+    @DisplayName("보유 카드 제외 뽑기 실패 - 프리미엄 회원이 아님")
+    void drawByPosition_ExcludeOwned_Fail_PremiumRequired() {
+        // given
+        String userId = "user1";
+        given(userRepository.findMembershipById(userId)).willReturn(Optional.of(new User.MembershipInfo()));
+
+        // when & then
+        assertThatThrownBy(() -> gachaService.drawByPosition("MID", userId, true))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.PREMIUM_REQUIRED);
+        verify(playerDrawPool, times(0)).drawExcluding(any(), any());
+        verify(sideEffectPipeline, times(0)).publish(any());
     }
 
     @Test
@@ -105,13 +177,11 @@ class GachaServiceTest {
         Player sup = Player.builder().position(Player.Position.SUPPORT).build();
         sup.setId("sup");
 
-        given(playerRepository.findRandomByPosition("TOP")).willReturn(Optional.of(top));
-        given(playerRepository.findRandomByPosition("JUNGLE")).willReturn(Optional.of(jgl));
-        given(playerRepository.findRandomByPosition("MID")).willReturn(Optional.of(mid));
-        given(playerRepository.findRandomByPosition("ADC")).willReturn(Optional.of(adc));
-        given(playerRepository.findRandomByPosition("SUPPORT")).willReturn(Optional.of(sup));
+        given(playerDrawPool.drawRoster()).willReturn(Optional.of(new PlayerDrawPool.DrawnRoster(
+                PlayerResponse.from(top), PlayerResponse.from(jgl), PlayerResponse.from(mid),
+                PlayerResponse.from(adc), PlayerResponse.from(sup))));
 
-        given(championshipRepository.findByRosterPlayers(any(), any(), any(), any(), any()))
+        given(championshipMatcher.match(any(), any(), any(), any(), any()))
                 .willReturn(Optional.empty());
 
         // when
@@ -124,7 +194,83 @@ class GachaServiceTest {
         assertThat(result.getAdc()).isNotNull();
         assertThat(result.getSupport()).isNotNull();
         assertThat(result.isChampionshipRoster()).isFalse();
-        verify(playerRepository, times(5)).save(any(Player.class)); // 5 players picked
+        assertThat(captureEvent().pickedPlayerIds()).containsExactly("top", "jgl", "mid", "adc", "sup");
+    }
+
+    @Test
+    @DisplayName("전체 로스터 뽑기 실패 - 비어 있는 포지션이 있으면 부수 효과 없이 실패")
+    void drawFullRoster_Fail_NoPlayersAvailable() {
+        // given
+        given(playerDrawPool.drawRoster()).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> gachaService.drawFullRoster("user1"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NO_PLAYERS_AVAILABLE);
+        verify(championshipMatcher, times(0)).match(any(), any(), any(), any(), any());
+        verify(sideEffectPipeline, times(0)).publish(any());
+    }
+
+    @Test
+    @DisplayName("연속 뽑기 성공 - 뽑힌 횟수와 유저 통계를 이벤트 하나로 발행")
+    void drawMany_Success_BatchedSideEffects() {
+        // given
+        String userId = "user1";
+        Player player = Player.builder()
+                .name("Faker")
+                .position(Player.Position.MID)
+                .build();
+        player.setId("faker_2013");
+
+        given(playerDrawPool.draw(Player.Position.MID)).willReturn(Optional.of(PlayerResponse.from(player)));
+
+        // when
+        GachaMultiResultResponse result = gachaService.drawMany(10, "MID", userId);
+
+        // then
+        assertThat(result.getCount()).isEqualTo(10);
+        assertThat(result.getResults()).hasSize(10);
+        GachaDrawnEvent event = captureEvent();
+        assertThat(event.gachaCount()).isEqualTo(10);
+        assertThat(event.pickedPlayerIds()).hasSize(10).containsOnly("faker_2013");
+        verify(userRepository, times(0)).incrementGachaCount(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("연속 뽑기 실패 - 허용 범위를 벗어난 횟수")
+    void drawMany_Fail_InvalidCount() {
+        // when & then
+        assertThatThrownBy(() -> gachaService.drawMany(0, null, null))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_INPUT);
+    }
+
+    @Test
+    @DisplayName("리롤 성공 - 조건부 업데이트 한 번으로 리롤 차감")
+    void reroll_Success() {
+        // given
+        String userId = "user1";
+        Player player = Player.builder()
+                .name("Chovy")
+                .position(Player.Position.MID)
+                .build();
+        player.setId("chovy_2023");
+
+        given(playerDrawPool.draw(Player.Position.MID)).willReturn(Optional.of(PlayerResponse.from(player)));
+        given(userRepository.consumeReroll(userId, 1)).willReturn(true);
+
+        // when
+        GachaResultResponse result = gachaService.reroll("MID", userId);
+
+        // then
+        assertThat(result.getPlayer().getName()).isEqualTo("Chovy");
+        GachaDrawnEvent event = captureEvent();
+        assertThat(event.gachaCount()).isZero();
+        assertThat(event.pickedPlayerIds()).containsExactly("chovy_2023");
+        verify(userRepository, times(0)).findById(any());
+        verify(userRepository, times(0)).save(any());
     }
 
     @Test
@@ -132,14 +278,42 @@ class GachaServiceTest {
     void reroll_Fail_NoRerollLeft() {
         // given
         String userId = "user1";
-        User mockUser = mock(User.class);
-        given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
-        given(mockUser.canReroll()).willReturn(false);
+        Player player = Player.builder()
+                .name("Zeus")
+                .position(Player.Position.TOP)
+                .build();
+        player.setId("zeus_2023");
+
+        given(playerDrawPool.draw(Player.Position.TOP)).willReturn(Optional.of(PlayerResponse.from(player)));
+        given(userRepository.consumeReroll(userId, 1)).willReturn(false);
+        given(userRepository.existsById(userId)).willReturn(true);
 
         // when & then
         assertThatThrownBy(() -> gachaService.reroll("TOP", userId))
                 .isInstanceOf(BusinessException.class)
                 .extracting("errorCode")
                 .isEqualTo(ErrorCode.NO_REROLL_LEFT);
+        verify(sideEffectPipeline, times(0)).publish(any());
+    }
+
+    @Test
+    @DisplayName("뽑기 집계 실패 - 시간 단위 최대 기간 초과")
+    void getDrawRollup_Fail_RangeTooLong() {
+        // given
+        Instant to = Instant.parse("2026-02-01T00:00:00Z");
+        Instant from = to.minus(Duration.ofDays(40));
+
+        // when & then
+        assertThatThrownBy(() -> gachaService.getDrawRollup("HOUR", from, to, null, "Asia/Seoul"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_INPUT);
+        verify(gachaDrawEventRepository, times(0)).rollup(any(), any(), any(), any(), any());
+    }
+
+    private GachaDrawnEvent captureEvent() {
+        ArgumentCaptor<GachaDrawnEvent> captor = ArgumentCaptor.forClass(GachaDrawnEvent.class);
+        verify(sideEffectPipeline).publish(captor.capture());
+        return captor.getValue();
     }
 }
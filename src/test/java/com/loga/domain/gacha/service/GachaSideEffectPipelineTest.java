@@ -0,0 +1,152 @@
+package com.loga.domain.gacha.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loga.domain.gacha.dto.GachaResultResponse;
+import com.loga.domain.gacha.event.GachaDrawnEvent;
+import com.loga.domain.gacha.repository.UserCollectionRepository;
+import com.loga.domain.player.dto.PlayerResponse;
+import com.loga.domain.player.entity.Player;
+import com.loga.domain.user.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class GachaSideEffectPipelineTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PickCountAggregator pickCountAggregator;
+
+    @Mock
+    private GachaDrawEventWriter drawEventWriter;
+
+    @Mock
+    private UserCollectionRepository userCollectionRepository;
+
+    @Mock
+    private PlayerDrawPool playerDrawPool;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GachaSideEffectPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pipeline = new GachaSideEffectPipeline(userRepository, pickCountAggregator, drawEventWriter,
+                userCollectionRepository, playerDrawPool, meterRegistry, 100, 1, 10);
+    }
+
+    @Test
+    @DisplayName("도감 반영에 실패한 비트는 재시도 주기에 다시 반영")
+    void retryFailedWrites_ReappliesFailedMasks() {
+        // given
+        given(playerDrawPool.collectionIndexOf("faker_2013")).willReturn(67);
+        willThrow(new IllegalStateException("mongo down"))
+                .willDoNothing()
+                .given(userCollectionRepository).bulkAddCards(anyMap());
+        pipeline.publish(event("user1", "faker_2013"));
+
+        // when
+        pipeline.retryFailedWrites();
+
+        // then
+        Map<String, Map<Integer, Long>> expected = Map.of("user1", Map.of(1, 1L << 3));
+        verify(userCollectionRepository, times(2)).bulkAddCards(expected);
+        assertThat(pipeline.getFailedCollectionCount()).isZero();
+        assertThat(meterRegistry.get("gacha.side-effects.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패한 도감 비트는 다음 배치의 비트와 합쳐서 반영")
+    void publish_MergesFailedMasksIntoNextBatch() {
+        // given
+        given(playerDrawPool.collectionIndexOf("faker_2013")).willReturn(3);
+        given(playerDrawPool.collectionIndexOf("chovy_2024")).willReturn(5);
+        willThrow(new IllegalStateException("mongo down"))
+                .willDoNothing()
+                .given(userCollectionRepository).bulkAddCards(anyMap());
+        pipeline.publish(event("user1", "faker_2013"));
+
+        // when
+        pipeline.publish(event("user1", "chovy_2024"));
+
+        // then
+        verify(userCollectionRepository).bulkAddCards(Map.of("user1", Map.of(0, (1L << 3) | (1L << 5))));
+        assertThat(pipeline.getFailedCollectionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("가챠 횟수 반영에 실패한 증가량만 다음 배치와 재시도 주기에 다시 반영")
+    void retryFailedWrites_ReappliesOnlyFailedGachaCounts() {
+        // given
+        given(userRepository.bulkIncrementGachaCount(Map.of("user1", 1L)))
+                .willThrow(new IllegalStateException("mongo down"))
+                .willReturn(Map.of());
+        // 합쳐진 배치에서 user1만 실패 (user2는 반영되었으므로 다시 쓰지 않음)
+        given(userRepository.bulkIncrementGachaCount(Map.of("user1", 1L, "user2", 1L)))
+                .willReturn(Map.of("user1", 1L));
+        pipeline.publish(event("user1", "faker_2013"));
+        pipeline.publish(event("user2", "chovy_2024"));
+        assertThat(pipeline.getFailedGachaCountUserCount()).isEqualTo(1);
+
+        // when
+        pipeline.retryFailedWrites();
+
+        // then
+        verify(userRepository, times(2)).bulkIncrementGachaCount(Map.of("user1", 1L));
+        verify(userRepository).bulkIncrementGachaCount(Map.of("user1", 1L, "user2", 1L));
+        assertThat(pipeline.getFailedGachaCountUserCount()).isZero();
+        assertThat(meterRegistry.get("gacha.side-effects.failures").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("배치 처리 중 예외가 나도 소비자가 종료되지 않고 다음 이벤트를 처리")
+    void consume_RuntimeException_KeepsConsuming() throws InterruptedException {
+        // given
+        GachaDrawnEvent broken = event("user1", "faker_2013");
+        GachaDrawnEvent next = event("user2", "chovy_2024");
+        // 소비자 스레드에서 다른 인자로 호출되므로 strict stubbing 검사에서 제외
+        lenient().doThrow(new IllegalStateException("boom")).when(drawEventWriter).append(broken);
+        pipeline.start();
+
+        // when
+        pipeline.publish(broken);
+        verify(drawEventWriter, timeout(2000)).append(broken);
+        pipeline.publish(next);
+
+        // then
+        verify(userRepository, timeout(2000)).bulkIncrementGachaCount(Map.of("user2", 1L));
+        pipeline.shutdown();
+        assertThat(meterRegistry.get("gacha.side-effects.failures").counter().count()).isEqualTo(1);
+    }
+
+    private GachaDrawnEvent event(String userId, String playerId) {
+        Player player = Player.builder()
+                .name(playerId)
+                .position(Player.Position.MID)
+                .year(2024)
+                .isActive(true)
+                .build();
+        player.setId(playerId);
+        return GachaDrawnEvent.of(userId, 1, GachaResultResponse.ofSingle(PlayerResponse.from(player)));
+    }
+}
@@ -0,0 +1,87 @@
+package com.loga.domain.gacha.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loga.domain.player.repository.PlayerRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class PickCountAggregatorTest {
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    private PickCountAggregator pickCountAggregator;
+
+    @BeforeEach
+    void setUp() {
+        pickCountAggregator = new PickCountAggregator(playerRepository, new SimpleMeterRegistry(), 4);
+    }
+
+    @Test
+    @DisplayName("누적한 횟수를 한 번에 반영하고 버퍼 비움")
+    void flush_Success() {
+        // given
+        pickCountAggregator.record("faker");
+        pickCountAggregator.record("faker");
+        pickCountAggregator.record("chovy", 3);
+        given(playerRepository.bulkIncrementPickedCount(Map.of("faker", 2L, "chovy", 3L))).willReturn(Map.of());
+
+        // when
+        pickCountAggregator.flush();
+
+        // then
+        assertThat(pickCountAggregator.getBufferedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("일부 쓰기만 실패하면 실패한 선수만 다시 반영 (반영된 선수는 중복 집계하지 않음)")
+    void flush_PartialFailure_RetriesOnlyFailed() {
+        // given
+        pickCountAggregator.record("faker", 2);
+        pickCountAggregator.record("chovy", 3);
+        given(playerRepository.bulkIncrementPickedCount(Map.of("faker", 2L, "chovy", 3L)))
+                .willReturn(Map.of("chovy", 3L));
+        pickCountAggregator.flush();
+        assertThat(pickCountAggregator.getBufferedCount()).isEqualTo(3);
+
+        given(playerRepository.bulkIncrementPickedCount(Map.of("chovy", 3L))).willReturn(Map.of());
+
+        // when
+        pickCountAggregator.flush();
+
+        // then
+        verify(playerRepository).bulkIncrementPickedCount(Map.of("chovy", 3L));
+        assertThat(pickCountAggregator.getBufferedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("쓰기 결과를 받지 못하면 배치 전체를 다음 주기에 재시도")
+    void flush_Failure_RetriesWholeBatch() {
+        // given
+        pickCountAggregator.record("faker", 2);
+        given(playerRepository.bulkIncrementPickedCount(Map.of("faker", 2L)))
+                .willThrow(new IllegalStateException("mongo down"))
+                .willReturn(Map.of());
+        pickCountAggregator.flush();
+        assertThat(pickCountAggregator.getBufferedCount()).isEqualTo(2);
+
+        // when
+        pickCountAggregator.flush();
+
+        // then
+        assertThat(pickCountAggregator.getBufferedCount()).isZero();
+    }
+}
@@ -0,0 +1,126 @@
+package com.loga.domain.gacha.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loga.domain.player.dto.PlayerResponse;
+import com.loga.domain.player.entity.Player;
+import com.loga.domain.player.repository.PlayerRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerDrawPoolTest {
+
+    private static final int DRAWS = 500;
+
+    @InjectMocks
+    private PlayerDrawPool playerDrawPool;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @BeforeEach
+    void setUp() {
+        // MID 4장 (컬렉션 인덱스 0~3), TOP 1장 (인덱스 64, 두 번째 워드)
+        given(playerRepository.findCatalog()).willReturn(List.of(
+                createPlayer("mid_a", Player.Position.MID, 0),
+                createPlayer("mid_b", Player.Position.MID, 1),
+                createPlayer("mid_c", Player.Position.MID, 2),
+                createPlayer("mid_d", Player.Position.MID, 3),
+                createPlayer("top_a", Player.Position.TOP, 64)));
+        playerDrawPool.refresh();
+    }
+
+    @Test
+    @DisplayName("보유 비율이 낮으면 보유 카드를 제외하고 선택")
+    void drawExcluding_FewOwned_SkipsOwned() {
+        // given
+        long[] owned = { 1L << 0 };
+
+        // when
+        Set<String> drawn = drawMany(Player.Position.MID, owned);
+
+        // then
+        assertThat(drawn).doesNotContain("mid_a").isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("보유 비율이 높으면 미보유 목록에서 선택")
+    void drawExcluding_MostlyOwned_UsesComplement() {
+        // given
+        long[] owned = { (1L << 0) | (1L << 1) | (1L << 3) };
+
+        // when
+        Set<String> drawn = drawMany(Player.Position.MID, owned);
+
+        // then
+        assertThat(drawn).containsExactly("mid_c");
+    }
+
+    @Test
+    @DisplayName("모두 보유하면 일반 뽑기와 같이 선택")
+    void drawExcluding_AllOwned_FallsBackToPlainDraw() {
+        // given
+        long[] owned = { 0b1111L };
+
+        // when
+        Set<String> drawn = drawMany(Player.Position.MID, owned);
+
+        // then
+        assertThat(drawn).isNotEmpty().isSubsetOf("mid_a", "mid_b", "mid_c", "mid_d");
+    }
+
+    @Test
+    @DisplayName("비트셋 워드가 짧거나 다른 포지션 비트만 있으면 보유하지 않은 것으로 취급")
+    void drawExcluding_OtherWords_Ignored() {
+        // given
+        long[] owned = { 0, 1L };
+
+        // when
+        Optional<PlayerResponse> top = playerDrawPool.drawExcluding(Player.Position.TOP, new long[0]);
+        Set<String> mid = drawMany(Player.Position.MID, owned);
+
+        // then
+        assertThat(top).map(PlayerResponse::getId).contains("top_a");
+        assertThat(mid).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("포지션에 카드가 없으면 empty")
+    void drawExcluding_EmptyPosition() {
+        // when & then
+        assertThat(playerDrawPool.drawExcluding(Player.Position.ADC, new long[0])).isEmpty();
+    }
+
+    private Set<String> drawMany(Player.Position position, long[] owned) {
+        Set<String> drawn = new HashSet<>();
+        for (int i = 0; i < DRAWS; i++) {
+            playerDrawPool.drawExcluding(position, owned).ifPresent(card -> drawn.add(card.getId()));
+        }
+        return drawn;
+    }
+
+    private Player createPlayer(String id, Player.Position position, int collectionIndex) {
+        Player player = Player.builder()
+                .name(id)
+                .position(position)
+                .year(2024)
+                .collectionIndex(collectionIndex)
+                .isActive(true)
+                .build();
+        player.setId(id);
+        return player;
+    }
+}
@@ -0,0 +1,113 @@
+package com.loga.domain.player.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.loga.domain.player.entity.Player;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+class PlayerResponseTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.shared();
+
+    // 직렬화 방식을 바꾸기 전 Lombok getter 기반 응답과 같은 프로퍼티 이름/값 (클라이언트 계약)
+    private static final String GOLDEN = """
+            {
+              "id": "faker_2013",
+              "name": "Faker",
+              "realName": "이상혁 \\"Faker\\"",
+              "position": "MID",
+              "year": 2013,
+              "teamShort": "SKT",
+              "teamFull": null,
+              "teamColor": "#E2012D",
+              "region": "LCK",
+              "nationality": "Korea",
+              "iso": "kr",
+              "winner": true,
+              "championshipLeague": "Worlds",
+              "championshipYear": 2013,
+              "profileImage": null,
+              "pickedCount": %d,
+              "active": true
+            }
+            """;
+
+    @Test
+    @DisplayName("일반 카드 JSON이 고정된 응답 형식과 같음")
+    void from_MatchesGoldenJson() {
+        // given
+        Player player = createPlayer();
+
+        // when
+        JsonNode json = jsonMapper.readTree(jsonMapper.writeValueAsString(PlayerResponse.from(player)));
+
+        // then
+        assertThat(json).isEqualTo(jsonMapper.readTree(GOLDEN.formatted(7)));
+    }
+
+    @Test
+    @DisplayName("미리 직렬화한 카드 JSON이 고정된 응답 형식과 같고 pickedCount만 교체됨")
+    void preserialized_MatchesGoldenJsonWithPatchedPickedCount() {
+        // given
+        Player player = createPlayer();
+
+        // when
+        String cached = jsonMapper.writeValueAsString(PlayerResponse.preserialized(player));
+        String patched = jsonMapper.writeValueAsString(PlayerResponse.preserialized(player).withPickedCount(42));
+
+        // then
+        assertThat(jsonMapper.readTree(cached)).isEqualTo(jsonMapper.readTree(GOLDEN.formatted(7)));
+        assertThat(jsonMapper.readTree(patched)).isEqualTo(jsonMapper.readTree(GOLDEN.formatted(42)));
+    }
+
+    @Test
+    @DisplayName("null 가능한 필드가 모두 비어 있어도 고정된 응답 형식과 같음")
+    void preserialized_NullFields() {
+        // given
+        Player player = Player.builder()
+                .name("Unknown")
+                .position(Player.Position.TOP)
+                .isActive(false)
+                .build();
+        player.setId("unknown_2020");
+
+        // when
+        JsonNode json = jsonMapper.readTree(jsonMapper.writeValueAsString(PlayerResponse.preserialized(player)));
+
+        // then
+        assertThat(json).isEqualTo(jsonMapper.readTree("""
+                {
+                  "id": "unknown_2020", "name": "Unknown", "realName": null, "position": "TOP", "year": 0,
+                  "teamShort": null, "teamFull": null, "teamColor": null, "region": null, "nationality": null,
+                  "iso": null, "winner": false, "championshipLeague": null, "championshipYear": null,
+                  "profileImage": null, "pickedCount": 0, "active": false
+                }
+                """));
+    }
+
+    private Player createPlayer() {
+        Player player = Player.builder()
+                .name("Faker")
+                .realName("이상혁 \"Faker\"")
+                .position(Player.Position.MID)
+                .year(2013)
+                .teamShort("SKT")
+                .teamColor("#E2012D")
+                .region("LCK")
+                .nationality("Korea")
+                .iso("kr")
+                .isWinner(true)
+                .championshipLeague("Worlds")
+                .championshipYear(2013)
+                .pickedCount(7)
+                .isActive(true)
+                .build();
+        player.setId("faker_2013");
+        return player;
+    }
+}
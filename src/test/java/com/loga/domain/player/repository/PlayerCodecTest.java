@@ -0,0 +1,122 @@
+package com.loga.domain.player.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.DefaultMongoTypeMapper;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import com.loga.domain.player.entity.Player;
+
+class PlayerCodecTest {
+
+    private final PlayerCodec codec = new PlayerCodec();
+
+    private MappingMongoConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        // MongoConfig와 같은 리플렉션 매핑 (_class 없음)
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+        converter.setTypeMapper(new DefaultMongoTypeMapper(null));
+        converter.afterPropertiesSet();
+    }
+
+    @Test
+    @DisplayName("코덱 인코딩 결과가 MappingMongoConverter 문서와 같음")
+    void encode_MatchesConverter() {
+        // given
+        Player player = createPlayer();
+        Document expected = new Document();
+        converter.write(player, expected);
+
+        // when
+        BsonDocument encoded = encode(player);
+
+        // then
+        assertThat(encoded).isEqualTo(expected.toBsonDocument());
+    }
+
+    @Test
+    @DisplayName("컨버터가 저장한 문서를 코덱으로 디코딩하면 컨버터 결과와 같음")
+    void decode_MatchesConverter() {
+        // given
+        Document stored = new Document();
+        converter.write(createPlayer(), stored);
+
+        // when
+        Player decoded = decode(stored.toBsonDocument());
+
+        // then
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(converter.read(Player.class, stored));
+    }
+
+    @Test
+    @DisplayName("없는 필드는 빌더 기본값, 모르는 필드와 null은 건너뜀")
+    void decode_MissingAndUnknownFields() {
+        // given
+        BsonDocument stored = BsonDocument.parse("""
+                { "_id": "faker_2013", "name": "Faker", "position": "MID", "year": 2013,
+                  "pickedCount": { "$numberLong": "7" }, "championshipYear": null, "legacyField": [1, 2] }
+                """);
+
+        // when
+        Player decoded = decode(stored);
+
+        // then
+        assertThat(decoded.getId()).isEqualTo("faker_2013");
+        assertThat(decoded.getPosition()).isEqualTo(Player.Position.MID);
+        assertThat(decoded.getPickedCount()).isEqualTo(7);
+        assertThat(decoded.getChampionshipYear()).isNull();
+        assertThat(decoded.isActive()).isTrue();
+    }
+
+    private BsonDocument encode(Player player) {
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), player, EncoderContext.builder().build());
+        return document;
+    }
+
+    private Player decode(BsonDocument document) {
+        return codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+
+    private Player createPlayer() {
+        Player player = Player.builder()
+                .name("Faker")
+                .realName("이상혁")
+                .position(Player.Position.MID)
+                .year(2013)
+                .teamShort("SKT")
+                .teamFull("SK Telecom T1")
+                .teamColor("#E2012D")
+                .region("LCK")
+                .nationality("Korea")
+                .iso("kr")
+                .isWinner(true)
+                .championshipLeague("WORLDS")
+                .championshipYear(2013)
+                .pickedCount(42)
+                .collectionIndex(3)
+                .isActive(true)
+                .drawWeight(2.5)
+                .build();
+        player.setId("faker_2013");
+        // BSON date는 밀리초 단위
+        player.setCreatedAt(LocalDateTime.of(2025, 1, 2, 3, 4, 5, 6_000_000));
+        player.setUpdatedAt(LocalDateTime.of(2025, 2, 3, 4, 5, 6, 7_000_000));
+        return player;
+    }
+}
@@ -0,0 +1,135 @@
+package com.loga.domain.player.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loga.domain.player.entity.Championship;
+import com.loga.domain.player.repository.ChampionshipRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ChampionshipMatcherTest {
+
+    @InjectMocks
+    private ChampionshipMatcher championshipMatcher;
+
+    @Mock
+    private ChampionshipRepository championshipRepository;
+
+    @Test
+    @DisplayName("5인 조합이 우승 로스터와 같으면 해당 우승 로스터 반환")
+    void match_Hit() {
+        // given
+        Championship skt = createChampionship("SKT", "impact", "bengi", "faker", "piglet", "mata");
+        Championship ssw = createChampionship("SSW", "looper", "dandy", "pawn", "imp", "mata_ssw");
+        given(championshipRepository.findAll()).willReturn(List.of(skt, ssw));
+        championshipMatcher.reload();
+
+        // when & then
+        assertThat(championshipMatcher.match("impact", "bengi", "faker", "piglet", "mata")).containsSame(skt);
+        assertThat(championshipMatcher.match("looper", "dandy", "pawn", "imp", "mata_ssw")).containsSame(ssw);
+    }
+
+    @Test
+    @DisplayName("한 명이라도 다르거나 비어 있으면 empty")
+    void match_Miss() {
+        // given
+        given(championshipRepository.findAll()).willReturn(List.of(
+                createChampionship("SKT", "impact", "bengi", "faker", "piglet", "mata")));
+        championshipMatcher.reload();
+
+        // when & then
+        assertThat(championshipMatcher.match("impact", "bengi", "faker", "piglet", "wolf")).isEmpty();
+        assertThat(championshipMatcher.match("impact", "bengi", "faker", "piglet", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 5명이라도 포지션 배치가 다르면 일치하지 않음")
+    void match_DifferentPositionOrder_Miss() {
+        // given
+        given(championshipRepository.findAll()).willReturn(List.of(
+                createChampionship("SKT", "impact", "bengi", "faker", "piglet", "mata")));
+        championshipMatcher.reload();
+
+        // when & then
+        assertThat(championshipMatcher.match("bengi", "impact", "faker", "piglet", "mata")).isEmpty();
+        assertThat(championshipMatcher.match("mata", "piglet", "faker", "bengi", "impact")).isEmpty();
+        assertThat(ChampionshipMatcher.fingerprint("bengi", "impact", "faker", "piglet", "mata"))
+                .isNotEqualTo(ChampionshipMatcher.fingerprint("impact", "bengi", "faker", "piglet", "mata"));
+    }
+
+    @Test
+    @DisplayName("지문이 충돌해도 실제 선수 ID가 다르면 일치하지 않음")
+    void match_FingerprintCollision_RejectedByMatchesRoster() {
+        // given
+        // "Aa"와 "BB"는 String.hashCode가 같으므로 지문도 같음
+        Championship championship = createChampionship("T1", "Aa", "bengi", "faker", "piglet", "mata");
+        given(championshipRepository.findAll()).willReturn(List.of(championship));
+        championshipMatcher.reload();
+
+        // when & then
+        assertThat(ChampionshipMatcher.fingerprint("BB", "bengi", "faker", "piglet", "mata"))
+                .isEqualTo(ChampionshipMatcher.fingerprint("Aa", "bengi", "faker", "piglet", "mata"));
+        assertThat(championshipMatcher.match("BB", "bengi", "faker", "piglet", "mata")).isEmpty();
+        assertThat(championshipMatcher.match("Aa", "bengi", "faker", "piglet", "mata")).containsSame(championship);
+    }
+
+    @Test
+    @DisplayName("적재 전이거나 우승 로스터가 없으면 항상 empty")
+    void match_EmptyTable() {
+        // given
+        given(championshipRepository.findAll()).willReturn(List.of());
+
+        // when & then
+        assertThat(championshipMatcher.match("impact", "bengi", "faker", "piglet", "mata")).isEmpty();
+        championshipMatcher.reload();
+        assertThat(championshipMatcher.match("impact", "bengi", "faker", "piglet", "mata")).isEmpty();
+        assertThat(championshipMatcher.getChampionships()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다시 읽으면 테이블이 교체되고 버전 증가, 실패하면 이전 테이블 유지")
+    void reload_BumpsVersion() {
+        // given
+        Championship skt = createChampionship("SKT", "impact", "bengi", "faker", "piglet", "mata");
+        Championship t1 = createChampionship("T1", "zeus", "oner", "faker", "gumayusi", "keria");
+        given(championshipRepository.findAll())
+                .willReturn(List.of(skt))
+                .willReturn(List.of(t1))
+                .willThrow(new IllegalStateException("mongo down"));
+        long initialVersion = championshipMatcher.getVersion();
+
+        // when
+        championshipMatcher.reload();
+        long firstVersion = championshipMatcher.getVersion();
+        championshipMatcher.reload();
+        long secondVersion = championshipMatcher.getVersion();
+        championshipMatcher.reload();
+
+        // then
+        assertThat(firstVersion).isEqualTo(initialVersion + 1);
+        assertThat(secondVersion).isEqualTo(firstVersion + 1);
+        assertThat(championshipMatcher.getVersion()).isEqualTo(secondVersion);
+        assertThat(championshipMatcher.match("impact", "bengi", "faker", "piglet", "mata")).isEmpty();
+        assertThat(championshipMatcher.match("zeus", "oner", "faker", "gumayusi", "keria")).containsSame(t1);
+    }
+
+    private Championship createChampionship(String team, String top, String jungle, String mid, String adc,
+            String support) {
+        return Championship.create("Worlds", 2016, team, "LCK", Championship.RosterPlayers.builder()
+                .topPlayerId(top)
+                .junglePlayerId(jungle)
+                .midPlayerId(mid)
+                .adcPlayerId(adc)
+                .supportPlayerId(support)
+                .build());
+    }
+}
@@ -0,0 +1,93 @@
+package com.loga.domain.player.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loga.domain.gacha.service.PlayerDrawPool;
+import com.loga.domain.player.dto.PlayerResponse;
+import com.loga.domain.player.entity.Player;
+import com.loga.domain.player.repository.PlayerRepository;
+import com.loga.global.error.BusinessException;
+import com.loga.global.error.ErrorCode;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerCatalogTest {
+
+    @InjectMocks
+    private PlayerCatalog playerCatalog;
+
+    @Mock
+    private PlayerDrawPool playerDrawPool;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Test
+    @DisplayName("스냅샷에 모두 있으면 DB를 조회하지 않음")
+    void getAll_SnapshotHit_NoQuery() {
+        // given
+        given(playerDrawPool.findCard("faker_2013")).willReturn(Optional.of(card("faker_2013", "Faker")));
+        given(playerDrawPool.findCard("bang_2013")).willReturn(Optional.of(card("bang_2013", "Bang")));
+
+        // when
+        Map<String, PlayerResponse> result = playerCatalog.getAll(List.of("faker_2013", "bang_2013"));
+
+        // then
+        assertThat(result).containsOnlyKeys("faker_2013", "bang_2013");
+        verify(playerRepository, times(0)).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 선수만 findAllById 한 번으로 조회")
+    void getAll_SnapshotMiss_SingleQuery() {
+        // given
+        given(playerDrawPool.findCard("faker_2013")).willReturn(Optional.of(card("faker_2013", "Faker")));
+        given(playerDrawPool.findCard("new_2026")).willReturn(Optional.empty());
+        Player newPlayer = Player.builder().name("Rookie").position(Player.Position.MID).build();
+        newPlayer.setId("new_2026");
+        given(playerRepository.findAllById(List.of("new_2026"))).willReturn(List.of(newPlayer));
+
+        // when
+        Map<String, PlayerResponse> result = playerCatalog.getAll(List.of("new_2026", "faker_2013"));
+
+        // then
+        assertThat(result.keySet()).containsExactly("new_2026", "faker_2013");
+        assertThat(result.get("new_2026").getName()).isEqualTo("Rookie");
+    }
+
+    @Test
+    @DisplayName("없는 선수가 여러 명이면 모든 ID를 한 번에 보고")
+    void getAll_Fail_ReportsAllMissingIds() {
+        // given
+        given(playerDrawPool.findCard(any())).willReturn(Optional.empty());
+        given(playerRepository.findAllById(List.of("a", "b"))).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> playerCatalog.getAll(List.of("a", "b")))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("a, b")
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.PLAYER_NOT_FOUND);
+    }
+
+    private PlayerResponse card(String id, String name) {
+        Player player = Player.builder().name(name).position(Player.Position.MID).build();
+        player.setId(id);
+        return PlayerResponse.from(player);
+    }
+}
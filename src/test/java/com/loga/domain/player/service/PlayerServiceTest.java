@@ -6,6 +6,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +16,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.loga.domain.gacha.service.PlayerDrawPool;
+import com.loga.domain.player.dto.PlayerCardSummary;
 import com.loga.domain.player.dto.PlayerResponse;
 import com.loga.domain.player.entity.Player;
 import com.loga.domain.player.repository.PlayerRepository;
@@ -30,6 +33,12 @@ class PlayerServiceTest {
     @Mock
     private PlayerRepository playerRepository;
 
+    @Mock
+    private PlayerDrawPool playerDrawPool;
+
+    @Mock
+    private PlayerCatalog playerCatalog;
+
     @Test
     @DisplayName("전체 선수 목록 조회 성공")
     void getAllPlayers_Success() {
@@ -70,7 +79,12 @@ class PlayerServiceTest {
                 .build();
         player2.setId("bang_2015");
 
-        given(playerRepository.findAll()).willReturn(List.of(player1, player2));
+        given(playerRepository.findAllBy(PlayerCardSummary.class)).willReturn(List.of(
+                new PlayerCardSummary("faker_2013", 42),
+                new PlayerCardSummary("bang_2015", 7)));
+        given(playerCatalog.getAll(List.of("faker_2013", "bang_2015"))).willReturn(Map.of(
+                "faker_2013", PlayerResponse.from(player1),
+                "bang_2015", PlayerResponse.from(player2)));
 
         // when
         List<PlayerResponse> result = playerService.getAllPlayers();
@@ -78,7 +92,8 @@ class PlayerServiceTest {
         // then
         assertThat(result).hasSize(2);
         assertThat(result.get(0).getId()).isEqualTo("faker_2013");
-        verify(playerRepository).findAll();
+        assertThat(result.get(0).getPickedCount()).isEqualTo(42);
+        verify(playerRepository).findAllBy(PlayerCardSummary.class);
     }
 
     @Test
@@ -152,7 +167,9 @@ class PlayerServiceTest {
                 .build();
         player.setId("faker_2013");
 
-        given(playerRepository.findByTeamShort(team)).willReturn(List.of(player));
+        given(playerRepository.findByTeamShort(team, PlayerCardSummary.class))
+                .willReturn(List.of(new PlayerCardSummary("faker_2013", 0)));
+        given(playerCatalog.getAll(List.of("faker_2013"))).willReturn(Map.of("faker_2013", PlayerResponse.from(player)));
 
         // when
         List<PlayerResponse> result = playerService.getPlayersByTeam(team);
@@ -160,6 +177,6 @@ class PlayerServiceTest {
         // then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getTeamShort()).isEqualTo("SKT");
-        verify(playerRepository).findByTeamShort(team);
+        verify(playerRepository).findByTeamShort(team, PlayerCardSummary.class);
     }
 }
@@ -0,0 +1,117 @@
+package com.loga.domain.roster.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.DefaultMongoTypeMapper;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import com.loga.domain.roster.entity.Roster;
+
+class RosterCodecTest {
+
+    private final RosterCodec codec = new RosterCodec();
+
+    private MappingMongoConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        // MongoConfig와 같은 리플렉션 매핑 (_class 없음)
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+        converter.setTypeMapper(new DefaultMongoTypeMapper(null));
+        converter.afterPropertiesSet();
+    }
+
+    @Test
+    @DisplayName("코덱 인코딩 결과가 MappingMongoConverter 문서와 같음 (ObjectId _id, 중첩 값 객체)")
+    void encode_MatchesConverter() {
+        // given
+        Roster roster = createRankedRoster();
+        Document expected = new Document();
+        converter.write(roster, expected);
+
+        // when
+        BsonDocument encoded = encode(roster);
+
+        // then
+        assertThat(encoded).isEqualTo(expected.toBsonDocument());
+        assertThat(encoded.isObjectId("_id")).isTrue();
+    }
+
+    @Test
+    @DisplayName("컨버터가 저장한 문서를 코덱으로 디코딩하면 컨버터 결과와 같음")
+    void decode_MatchesConverter() {
+        // given
+        Document stored = new Document();
+        converter.write(createRankedRoster(), stored);
+
+        // when
+        Roster decoded = decode(stored.toBsonDocument());
+
+        // then
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(converter.read(Roster.class, stored));
+    }
+
+    @Test
+    @DisplayName("이전 버전 좋아요 배열은 건너뛰고 int64 카운터도 읽음")
+    void decode_LegacyCommunityInfo() {
+        // given
+        BsonDocument stored = BsonDocument.parse("""
+                { "_id": { "$oid": "65a000000000000000000001" }, "userId": "user1", "gameMode": "NORMAL",
+                  "communityInfo": { "isPublic": true, "likeCount": { "$numberLong": "3" }, "commentCount": 1,
+                                     "likedUserIds": ["a", "b", "c"] },
+                  "rankInfo": null }
+                """);
+
+        // when
+        Roster decoded = decode(stored);
+
+        // then
+        assertThat(decoded.getId()).isEqualTo("65a000000000000000000001");
+        assertThat(decoded.getCommunityInfo().isPublic()).isTrue();
+        assertThat(decoded.getCommunityInfo().getLikeCount()).isEqualTo(3);
+        assertThat(decoded.getCommunityInfo().getCommentCount()).isEqualTo(1);
+        assertThat(decoded.getRankInfo()).isNull();
+    }
+
+    private BsonDocument encode(Roster roster) {
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), roster, EncoderContext.builder().build());
+        return document;
+    }
+
+    private Roster decode(BsonDocument document) {
+        return codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+
+    private Roster createRankedRoster() {
+        Roster.RosterPlayers players = Roster.RosterPlayers.builder()
+                .topPlayerId("zeus_2023").topPlayerName("Zeus")
+                .junglePlayerId("oner_2023").junglePlayerName("Oner")
+                .midPlayerId("faker_2023").midPlayerName("Faker")
+                .adcPlayerId("gumayusi_2023").adcPlayerName("Gumayusi")
+                .supportPlayerId("keria_2023").supportPlayerName("Keria")
+                .build();
+
+        Roster roster = Roster.create("user1", "tester", players,
+                Roster.ChampionshipMatch.matched("WORLDS", 2023), true, Roster.GameMode.RANKED);
+        roster.setId(new ObjectId().toHexString());
+        // BSON date는 밀리초 단위
+        roster.setCreatedAt(LocalDateTime.of(2025, 1, 2, 3, 4, 5, 6_000_000));
+        roster.setUpdatedAt(LocalDateTime.of(2025, 2, 3, 4, 5, 6, 7_000_000));
+        return roster;
+    }
+}
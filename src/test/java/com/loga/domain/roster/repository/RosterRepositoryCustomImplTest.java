@@ -0,0 +1,95 @@
+package com.loga.domain.roster.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.loga.domain.roster.entity.Roster;
+import com.loga.infrastructure.persistence.CountCache;
+
+@ExtendWith(MockitoExtension.class)
+class RosterRepositoryCustomImplTest {
+
+    private static final Document EMBEDDED_EXISTS = new Document("$exists", true);
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private CountCache countCache;
+
+    @Mock
+    private BulkOperations bulkOps;
+
+    private RosterRepositoryCustomImpl rosterRepository;
+
+    @BeforeEach
+    void setUp() {
+        rosterRepository = new RosterRepositoryCustomImpl(mongoTemplate, countCache);
+    }
+
+    @Test
+    @DisplayName("내장 좋아요 조회는 이전 배치의 마지막 _id 뒤부터 _id 순으로 읽음")
+    void findEmbeddedLikes_ResumesAfterLastId() {
+        // given
+        ObjectId lastId = new ObjectId();
+        ObjectId nextId = new ObjectId();
+        given(mongoTemplate.getCollectionName(Roster.class)).willReturn("rosters");
+        given(mongoTemplate.find(any(Query.class), eq(Document.class), eq("rosters")))
+                .willReturn(List.of(new Document("_id", nextId)
+                        .append("communityInfo", new Document("likedUserIds", List.of("u1", "u2")))));
+
+        // when
+        Map<String, List<String>> likes = rosterRepository.findEmbeddedLikes(lastId.toHexString(), 100);
+
+        // then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Document.class), eq("rosters"));
+        assertThat(query.getValue().getQueryObject()).isEqualTo(new Document()
+                .append("communityInfo.likedUserIds", EMBEDDED_EXISTS)
+                .append("_id", new Document("$gt", lastId)));
+        assertThat(query.getValue().getSortObject()).isEqualTo(new Document("_id", 1));
+        assertThat(query.getValue().getLimit()).isEqualTo(100);
+        assertThat(likes).containsExactly(Map.entry(nextId.toHexString(), List.of("u1", "u2")));
+    }
+
+    @Test
+    @DisplayName("이전 완료 처리는 배열이 남은 로스터만 갱신 ($exists 조건)")
+    void completeEmbeddedLikeMigration_GuardedByExists() {
+        // given
+        given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Roster.class)).willReturn(bulkOps);
+
+        // when
+        rosterRepository.completeEmbeddedLikeMigration(Map.of("r1", 3));
+
+        // then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOps).updateOne(query.capture(), update.capture());
+        verify(bulkOps).execute();
+        assertThat(query.getValue().getQueryObject()).isEqualTo(new Document("_id", "r1")
+                .append("communityInfo.likedUserIds", EMBEDDED_EXISTS));
+        assertThat(update.getValue().getUpdateObject()).isEqualTo(new Document()
+                .append("$unset", new Document("communityInfo.likedUserIds", 1))
+                .append("$set", new Document("communityInfo.likeCount", 3)));
+    }
+}
@@ -0,0 +1,56 @@
+package com.loga.domain.roster.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함된 것으로 판별 (false negative 없음)")
+    void mightContain_NoFalseNegatives() {
+        // given
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.add("roster-" + i);
+        }
+
+        // when & then
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(filter.mightContain("roster-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값의 오탐률은 목표치 근처")
+    void mightContain_FalsePositiveRateNearTarget() {
+        // given
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.add("roster-" + i);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("빈 필터는 아무 값도 포함하지 않음")
+    void mightContain_EmptyFilter() {
+        // given
+        BloomFilter filter = BloomFilter.create(0, 0.01);
+
+        // when & then
+        assertThat(filter.mightContain("roster-1")).isFalse();
+        assertThat(filter.bitCount()).isGreaterThanOrEqualTo(64);
+    }
+}
@@ -0,0 +1,86 @@
+package com.loga.domain.roster.service;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loga.domain.roster.repository.RosterLikeShardRepository;
+import com.loga.domain.roster.repository.RosterRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RosterLikeCounterTest {
+
+    @Mock
+    private RosterRepository rosterRepository;
+
+    @Mock
+    private RosterLikeShardRepository rosterLikeShardRepository;
+
+    private RosterLikeCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new RosterLikeCounter(rosterRepository, rosterLikeShardRepository, 4, 3, 60, 100);
+    }
+
+    @Test
+    @DisplayName("임계치 이하 쓰기는 로스터 문서에 바로 반영")
+    void increment_BelowThreshold_UpdatesRoster() {
+        // given
+        given(rosterRepository.incrementLikeCount("roster1", 1)).willReturn(Optional.empty());
+
+        // when
+        counter.increment("roster1", 1);
+
+        // then
+        verify(rosterRepository).incrementLikeCount("roster1", 1);
+        verify(rosterLikeShardRepository, times(0)).increment(eq("roster1"), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("초당 쓰기가 임계치를 넘으면 샤드 카운터로 전환")
+    void increment_AboveThreshold_SwitchesToShards() {
+        // given
+        given(rosterRepository.incrementLikeCount("roster1", 1)).willReturn(Optional.empty());
+        given(rosterRepository.findById("roster1")).willReturn(Optional.empty());
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            counter.increment("roster1", 1);
+        }
+
+        // then (같은 초 안이면 3회, 초 경계를 넘으면 그 이상이 로스터 문서에 직접 반영)
+        verify(rosterRepository, times(0)).bulkIncrementLikeCount(anyMap());
+        verify(rosterLikeShardRepository, atLeastOnce())
+                .increment(eq("roster1"), anyInt(), eq(1));
+    }
+
+    @Test
+    @DisplayName("fold 실패 시 꺼낸 증감분을 샤드로 되돌림")
+    void fold_Failure_RestoresDrainedDeltas() {
+        // given
+        given(rosterLikeShardRepository.drain(100)).willReturn(Map.of("roster1", 5));
+        willThrow(new RuntimeException("write failed")).given(rosterRepository).bulkIncrementLikeCount(anyMap());
+
+        // when
+        counter.fold();
+
+        // then
+        verify(rosterLikeShardRepository).increment("roster1", 0, 5);
+    }
+}
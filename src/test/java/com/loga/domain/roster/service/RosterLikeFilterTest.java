@@ -0,0 +1,114 @@
+package com.loga.domain.roster.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loga.domain.roster.repository.RosterLikeRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RosterLikeFilterTest {
+
+    @Mock
+    private RosterLikeRepository rosterLikeRepository;
+
+    private RosterLikeFilter rosterLikeFilter;
+
+    @BeforeEach
+    void setUp() {
+        rosterLikeFilter = new RosterLikeFilter(rosterLikeRepository, 100, 300, 1000, 0.01);
+    }
+
+    @Test
+    @DisplayName("적재된 필터는 캐시되고 이후 추가된 좋아요도 후보에 포함")
+    void candidates_CachedFilter_IncludesRecordedLike() {
+        // given
+        given(rosterLikeRepository.findRosterIdsByUserId("user1", 1001)).willReturn(List.of("r1"));
+        rosterLikeFilter.candidates("user1", 0, List.of("r1"));
+
+        // when
+        rosterLikeFilter.recordLike("user1", "r2");
+        List<String> candidates = rosterLikeFilter.candidates("user1", 0, List.of("r1", "r2"));
+
+        // then
+        assertThat(candidates).contains("r1", "r2");
+        verify(rosterLikeRepository, times(1)).findRosterIdsByUserId("user1", 1001);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 좋아요해 버전이 올라가면 TTL 전이라도 다시 적재")
+    void candidates_NewerLikeVersion_Reloads() {
+        // given
+        given(rosterLikeRepository.findRosterIdsByUserId("user1", 1001))
+                .willReturn(List.of("r1"))
+                .willReturn(List.of("r1", "r2"));
+        rosterLikeFilter.candidates("user1", 3, List.of("r1"));
+
+        // when
+        List<String> sameVersion = rosterLikeFilter.candidates("user1", 3, List.of("r1"));
+        List<String> newerVersion = rosterLikeFilter.candidates("user1", 4, List.of("r1", "r2"));
+        List<String> cached = rosterLikeFilter.candidates("user1", 4, List.of("r2"));
+
+        // then
+        assertThat(sameVersion).containsExactly("r1");
+        assertThat(newerVersion).containsExactly("r1", "r2");
+        assertThat(cached).containsExactly("r2");
+        verify(rosterLikeRepository, times(2)).findRosterIdsByUserId("user1", 1001);
+    }
+
+    @Test
+    @DisplayName("적재 쿼리 도중 추가된 좋아요도 캐시되는 필터에 반영")
+    void candidates_LikeDuringLoad_NotLost() {
+        // given
+        // 쿼리가 좋아요 커밋 전 스냅샷을 읽는 상황: 결과에는 r2가 없지만 그 사이 recordLike가 호출됨
+        given(rosterLikeRepository.findRosterIdsByUserId("user1", 1001)).willAnswer(invocation -> {
+            rosterLikeFilter.recordLike("user1", "r2");
+            return List.of("r1");
+        });
+
+        // when
+        List<String> first = rosterLikeFilter.candidates("user1", 0, List.of("r1", "r2"));
+        List<String> cached = rosterLikeFilter.candidates("user1", 0, List.of("r1", "r2"));
+
+        // then
+        assertThat(first).contains("r1", "r2");
+        assertThat(cached).contains("r1", "r2");
+        verify(rosterLikeRepository, times(1)).findRosterIdsByUserId("user1", 1001);
+    }
+
+    @Test
+    @DisplayName("적재가 실패해도 다음 조회에서 다시 적재")
+    void candidates_LoadFailure_RetriesNextTime() {
+        // given
+        given(rosterLikeRepository.findRosterIdsByUserId("user1", 1001))
+                .willThrow(new IllegalStateException("mongo down"))
+                .willReturn(List.of("r1"));
+
+        // when & then
+        assertThatThrownBy(() -> rosterLikeFilter.candidates("user1", 0, List.of("r1")))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(rosterLikeFilter.candidates("user1", 0, List.of("r1"))).containsExactly("r1");
+    }
+
+    @Test
+    @DisplayName("좋아요가 상한을 넘으면 필터 없이 모든 로스터를 후보로 반환")
+    void candidates_TooManyLikes_NoFilter() {
+        // given
+        RosterLikeFilter smallFilter = new RosterLikeFilter(rosterLikeRepository, 100, 300, 1, 0.01);
+        given(rosterLikeRepository.findRosterIdsByUserId("user1", 2)).willReturn(List.of("r1", "r2"));
+
+        // when & then
+        assertThat(smallFilter.candidates("user1", 0, List.of("r3", "r4"))).containsExactly("r3", "r4");
+    }
+}
@@ -0,0 +1,111 @@
+package com.loga.domain.roster.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loga.domain.roster.repository.RosterLikeRepository;
+import com.loga.domain.roster.repository.RosterRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RosterLikeMigrationTest {
+
+    @Mock
+    private RosterRepository rosterRepository;
+
+    @Mock
+    private RosterLikeRepository rosterLikeRepository;
+
+    private RosterLikeMigration rosterLikeMigration;
+
+    @BeforeEach
+    void setUp() {
+        rosterLikeMigration = new RosterLikeMigration(rosterRepository, rosterLikeRepository, 2);
+    }
+
+    @Test
+    @DisplayName("마지막 _id 뒤부터 배치 단위로 이전하고 roster_likes 기준 좋아요 수로 완료 처리")
+    void migrate_Batches() {
+        // given
+        Map<String, List<String>> first = new LinkedHashMap<>();
+        first.put("r1", List.of("u1", "u2"));
+        first.put("r2", List.of());
+        Map<String, List<String>> second = Map.of("r3", List.of("u3"));
+        given(rosterRepository.findEmbeddedLikes(null, 2)).willReturn(first);
+        given(rosterRepository.findEmbeddedLikes("r2", 2)).willReturn(second);
+        given(rosterRepository.findEmbeddedLikes("r3", 2)).willReturn(Map.of());
+        given(rosterLikeRepository.countByRosterIds(first.keySet())).willReturn(Map.of("r1", 2));
+        given(rosterLikeRepository.countByRosterIds(second.keySet())).willReturn(Map.of("r3", 1));
+
+        // when
+        int migrated = rosterLikeMigration.migrate();
+
+        // then
+        assertThat(migrated).isEqualTo(3);
+        verify(rosterLikeRepository).bulkAddLikes(first);
+        verify(rosterLikeRepository).bulkAddLikes(second);
+        verify(rosterRepository).completeEmbeddedLikeMigration(Map.of("r1", 2, "r2", 0));
+        verify(rosterRepository).completeEmbeddedLikeMigration(Map.of("r3", 1));
+
+        // 이전이 끝나면 토글 시 배열 확인 쿼리를 하지 않음
+        assertThat(rosterLikeMigration.isPending("r1")).isFalse();
+        verify(rosterRepository, never()).hasEmbeddedLikes("r1");
+    }
+
+    @Test
+    @DisplayName("배치가 실패하면 이전 중으로 남고 재시도 주기에 다시 이전")
+    void retryIfIncomplete_AfterFailure_Resumes() {
+        // given
+        Map<String, List<String>> batch = Map.of("r1", List.of("u1"));
+        given(rosterRepository.findEmbeddedLikes(null, 2)).willReturn(batch);
+        given(rosterRepository.findEmbeddedLikes("r1", 2)).willReturn(Map.of());
+        willThrow(new IllegalStateException("mongo down"))
+                .willDoNothing()
+                .given(rosterLikeRepository).bulkAddLikes(anyMap());
+        given(rosterLikeRepository.countByRosterIds(batch.keySet())).willReturn(Map.of("r1", 1));
+        given(rosterRepository.hasEmbeddedLikes("r1")).willReturn(true);
+
+        assertThat(rosterLikeMigration.migrate()).isZero();
+        assertThat(rosterLikeMigration.isPending("r1")).isTrue();
+
+        // when
+        rosterLikeMigration.retryIfIncomplete();
+
+        // then
+        verify(rosterLikeRepository).createIndexes();
+        verify(rosterRepository).completeEmbeddedLikeMigration(Map.of("r1", 1));
+        assertThat(rosterLikeMigration.isPending("r1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("유니크 인덱스를 만들지 못하면 이전하지 않고 다음 주기에 다시 시도")
+    void retryIfIncomplete_IndexFailure_Postponed() {
+        // given
+        willThrow(new IllegalStateException("mongo down"))
+                .willDoNothing()
+                .given(rosterLikeRepository).createIndexes();
+        given(rosterRepository.findEmbeddedLikes(null, 2)).willReturn(Map.of());
+
+        // when
+        rosterLikeMigration.retryIfIncomplete();
+        verify(rosterRepository, never()).findEmbeddedLikes(null, 2);
+        rosterLikeMigration.retryIfIncomplete();
+
+        // then
+        verify(rosterRepository).findEmbeddedLikes(null, 2);
+    }
+}
@@ -0,0 +1,234 @@
+package com.loga.domain.roster.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loga.domain.player.dto.PlayerResponse;
+import com.loga.domain.player.entity.Player;
+import com.loga.domain.player.service.ChampionshipMatcher;
+import com.loga.domain.player.service.PlayerCatalog;
+import com.loga.domain.roster.dto.CreateRosterRequest;
+import com.loga.domain.roster.dto.RosterResponse;
+import com.loga.domain.roster.entity.Roster;
+import com.loga.domain.roster.repository.RosterLikeRepository;
+import com.loga.domain.roster.repository.RosterLikeShardRepository;
+import com.loga.domain.roster.repository.RosterRepository;
+import com.loga.domain.user.entity.User;
+import com.loga.domain.user.repository.UserRepository;
+import com.loga.global.error.BusinessException;
+import com.loga.global.error.ErrorCode;
+
+@ExtendWith(MockitoExtension.class)
+class RosterServiceTest {
+
+    @InjectMocks
+    private RosterService rosterService;
+
+    @Mock
+    private RosterRepository rosterRepository;
+
+    @Mock
+    private RosterLikeRepository rosterLikeRepository;
+
+    @Mock
+    private RosterLikeShardRepository rosterLikeShardRepository;
+
+    @Mock
+    private RosterLikeFilter rosterLikeFilter;
+
+    @Mock
+    private RosterLikeCounter rosterLikeCounter;
+
+    @Mock
+    private RosterLikeMigration rosterLikeMigration;
+
+    @Mock
+    private PlayerCatalog playerCatalog;
+
+    @Mock
+    private ChampionshipMatcher championshipMatcher;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("로스터 생성 성공 - 선수 일괄 조회 + 유저 통계는 $inc로 반영")
+    void createRoster_Success() {
+        // given
+        User user = createUser("user1");
+        CreateRosterRequest request = new CreateRosterRequest();
+        request.setTopPlayerId("top");
+        request.setJunglePlayerId("jgl");
+        request.setMidPlayerId("mid");
+        request.setAdcPlayerId("adc");
+        request.setSupportPlayerId("sup");
+
+        Map<String, PlayerResponse> cards = new LinkedHashMap<>();
+        for (String id : List.of("top", "jgl", "mid", "adc", "sup")) {
+            Player player = Player.builder().name(id.toUpperCase()).build();
+            player.setId(id);
+            cards.put(id, PlayerResponse.from(player));
+        }
+        given(playerCatalog.getAll(List.of("top", "jgl", "mid", "adc", "sup"))).willReturn(cards);
+        given(championshipMatcher.match("top", "jgl", "mid", "adc", "sup")).willReturn(Optional.empty());
+        given(rosterRepository.save(any(Roster.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        RosterResponse result = rosterService.createRoster(request, user);
+
+        // then
+        assertThat(result.getPlayers().getMidPlayerName()).isEqualTo("MID");
+        verify(userRepository).incrementRosterCount("user1", false);
+        verify(userRepository, times(0)).save(any());
+    }
+
+    @Test
+    @DisplayName("로스터 삭제 성공 - 관리자가 삭제해도 소유자 통계를 감소")
+    void deleteRoster_Success_AdminDecrementsOwnerCount() {
+        // given
+        User admin = User.builder().email("admin@example.com").role(User.Role.ADMIN).build();
+        admin.setId("admin");
+        Roster roster = createRoster("roster1");
+        given(rosterRepository.findById("roster1")).willReturn(Optional.of(roster));
+
+        // when
+        rosterService.deleteRoster("roster1", admin);
+
+        // then
+        verify(rosterRepository).delete(roster);
+        verify(userRepository).decrementRosterCount("owner");
+        verify(userRepository, times(0)).save(any());
+    }
+
+    @Test
+    @DisplayName("좋아요 토글 성공 - 새 좋아요는 추가 후 좋아요 수 증가")
+    void toggleLike_Success_Like() {
+        // given
+        User user = createUser("user1");
+        given(rosterRepository.existsById("roster1")).willReturn(true);
+        given(rosterLikeRepository.addLike("roster1", "user1")).willReturn(true);
+        given(rosterLikeCounter.increment("roster1", 1)).willReturn(Optional.of(createRoster("roster1")));
+
+        // when
+        RosterResponse result = rosterService.toggleLike("roster1", user);
+
+        // then
+        assertThat(result.getId()).isEqualTo("roster1");
+        assertThat(result.getLikedByMe()).isTrue();
+        verify(userRepository).incrementLikeVersion("user1");
+        verify(rosterLikeFilter).recordLike("user1", "roster1");
+        verify(rosterLikeRepository, times(0)).removeLike(any(), any());
+        verify(rosterRepository, times(0)).save(any());
+    }
+
+    @Test
+    @DisplayName("좋아요 토글 성공 - 이미 누른 좋아요는 삭제 후 좋아요 수 감소")
+    void toggleLike_Success_Unlike() {
+        // given
+        User user = createUser("user1");
+        given(rosterRepository.existsById("roster1")).willReturn(true);
+        given(rosterLikeRepository.addLike("roster1", "user1")).willReturn(false);
+        given(rosterLikeRepository.removeLike("roster1", "user1")).willReturn(true);
+        given(rosterLikeCounter.increment("roster1", -1)).willReturn(Optional.of(createRoster("roster1")));
+
+        // when
+        RosterResponse result = rosterService.toggleLike("roster1", user);
+
+        // then
+        assertThat(result.getId()).isEqualTo("roster1");
+        verify(rosterRepository, times(0)).findById(any());
+        verify(rosterRepository, times(0)).save(any());
+    }
+
+    @Test
+    @DisplayName("좋아요 토글 실패 - 로스터 없음")
+    void toggleLike_Fail_RosterNotFound() {
+        // given
+        given(rosterRepository.existsById("missing")).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> rosterService.toggleLike("missing", createUser("user1")))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.ROSTER_NOT_FOUND);
+        verify(rosterLikeRepository, times(0)).addLike(any(), any());
+        verify(rosterLikeCounter, times(0)).increment(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("좋아요 토글 실패 - 내장 좋아요 이전 중")
+    void toggleLike_Fail_Migrating() {
+        // given
+        given(rosterRepository.existsById("roster1")).willReturn(true);
+        given(rosterLikeMigration.isPending("roster1")).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> rosterService.toggleLike("roster1", createUser("user1")))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.ROSTER_LIKE_MIGRATING);
+        verify(rosterLikeRepository, times(0)).addLike(any(), any());
+        verify(rosterLikeCounter, times(0)).increment(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("좋아요 여부 조회 - Bloom 필터를 통과한 로스터만 $in 쿼리")
+    void findLikedRosterIds_QueriesOnlyCandidates() {
+        // given
+        List<String> rosterIds = List.of("r1", "r2", "r3");
+        given(rosterLikeFilter.candidates("user1", 0L, rosterIds)).willReturn(List.of("r2"));
+        given(rosterLikeRepository.findLikedRosterIds("user1", List.of("r2"))).willReturn(Set.of("r2"));
+
+        // when
+        Set<String> liked = rosterService.findLikedRosterIds(rosterIds, createUser("user1"));
+
+        // then
+        assertThat(liked).containsExactly("r2");
+    }
+
+    @Test
+    @DisplayName("좋아요 여부 조회 - Bloom 필터에서 모두 걸러지면 쿼리하지 않음")
+    void findLikedRosterIds_NoQuery_WhenFilterRejectsAll() {
+        // given
+        List<String> rosterIds = List.of("r1", "r2");
+        given(rosterLikeFilter.candidates("user1", 0L, rosterIds)).willReturn(List.of());
+
+        // when
+        Set<String> liked = rosterService.findLikedRosterIds(rosterIds, createUser("user1"));
+
+        // then
+        assertThat(liked).isEmpty();
+        verify(rosterLikeRepository, times(0)).findLikedRosterIds(any(), any());
+    }
+
+    private User createUser(String id) {
+        User user = User.builder().email(id + "@example.com").build();
+        user.setId(id);
+        return user;
+    }
+
+    private Roster createRoster(String id) {
+        Roster roster = Roster.create("owner", "Owner", Roster.RosterPlayers.builder().build(),
+                Roster.ChampionshipMatch.none(), true, Roster.GameMode.NORMAL);
+        roster.setId(id);
+        return roster;
+    }
+}
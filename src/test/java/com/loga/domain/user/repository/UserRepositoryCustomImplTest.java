@@ -0,0 +1,96 @@
+package com.loga.domain.user.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.loga.domain.user.entity.User;
+import com.mongodb.client.result.UpdateResult;
+
+@ExtendWith(MockitoExtension.class)
+class UserRepositoryCustomImplTest {
+
+    private static final UpdateResult NOT_MODIFIED = UpdateResult.acknowledged(0, 0L, null);
+    private static final UpdateResult MODIFIED = UpdateResult.acknowledged(1, 1L, null);
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private UserRepositoryCustomImpl userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = new UserRepositoryCustomImpl(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("rerollCount 필드가 없는 문서는 기본 횟수에서 1 차감한 값을 저장")
+    void consumeReroll_MissingRerollCount_SetsDefaultMinusOne() {
+        // given
+        given(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(User.class))).willReturn(MODIFIED);
+
+        // when
+        boolean consumed = userRepository.consumeReroll("user1", 1);
+
+        // then
+        assertThat(consumed).isTrue();
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(query.capture(), update.capture(), eq(User.class));
+        assertThat(query.getValue().getQueryObject().getList("$and", Document.class))
+                .contains(new Document("membership.rerollCount", new Document("$exists", false)));
+        assertThat(update.getValue().getUpdateObject()).isEqualTo(new Document()
+                .append("$set", new Document("membership.rerollCount", User.MembershipInfo.DEFAULT_REROLL_COUNT - 1))
+                .append("$inc", new Document("statistics.totalGachaCount", 1)));
+    }
+
+    @Test
+    @DisplayName("membership이 없는 문서는 기본 멤버십 전체를 1 차감해 저장")
+    void consumeReroll_MissingMembership_SetsDefaultMembership() {
+        // given
+        given(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(User.class)))
+                .willReturn(NOT_MODIFIED)
+                .willReturn(MODIFIED);
+
+        // when
+        boolean consumed = userRepository.consumeReroll("user1", 1);
+
+        // then
+        assertThat(consumed).isTrue();
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).updateFirst(any(Query.class), update.capture(), eq(User.class));
+        User.MembershipInfo membership = (User.MembershipInfo) update.getValue().getUpdateObject()
+                .get("$set", Document.class).get("membership");
+        assertThat(membership.isPremium()).isFalse();
+        assertThat(membership.getRerollCount()).isEqualTo(User.MembershipInfo.DEFAULT_REROLL_COUNT - 1);
+    }
+
+    @Test
+    @DisplayName("리롤이 남지 않은 일반 회원은 실패")
+    void consumeReroll_NoRerollLeft_Fails() {
+        // given
+        given(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(User.class))).willReturn(NOT_MODIFIED);
+
+        // when
+        boolean consumed = userRepository.consumeReroll("user1", 1);
+
+        // then
+        assertThat(consumed).isFalse();
+        verify(mongoTemplate, times(3)).updateFirst(any(Query.class), any(Update.class), eq(User.class));
+    }
+}
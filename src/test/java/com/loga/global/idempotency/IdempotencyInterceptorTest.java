@@ -0,0 +1,151 @@
+package com.loga.global.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.loga.domain.user.entity.User;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyInterceptorTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private IdempotencyInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new IdempotencyInterceptor(new IdempotencyStore(mongoTemplate, 60, 100), 5000);
+        User user = User.builder().email("user@example.com").build();
+        user.setId("user1");
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+        SecurityContextHolder.setContext(context);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 요청하면 컨트롤러를 호출하지 않고 저장된 응답 재전송")
+    void preHandle_Completed_Replays() throws Exception {
+        // given
+        handle(request("10"), 200, "{\"drawn\":10}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        boolean proceed = interceptor.preHandle(request("10"), response, null);
+
+        // then
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("{\"drawn\":10}");
+        assertThat(response.getHeader(IdempotencyInterceptor.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("같은 키라도 요청 파라미터가 다르면 새 요청으로 처리")
+    void preHandle_DifferentParameters_NotReplayed() throws Exception {
+        // given
+        handle(request("10"), 200, "{\"drawn\":10}");
+
+        // when
+        boolean proceed = interceptor.preHandle(request("50"), new MockHttpServletResponse(), null);
+
+        // then
+        assertThat(proceed).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패한 응답은 저장하지 않아 같은 키로 재시도 가능")
+    void afterCompletion_Failed_NotStored() throws Exception {
+        // given
+        handle(request("10"), 500, "{\"success\":false}");
+
+        // when
+        boolean proceed = interceptor.preHandle(request("10"), new MockHttpServletResponse(), null);
+
+        // then
+        assertThat(proceed).isTrue();
+    }
+
+    @Test
+    @DisplayName("처리 중인 같은 키의 요청은 첫 요청의 결과를 기다려 재전송")
+    void preHandle_InFlight_WaitsForFirst() throws Exception {
+        // given
+        MockHttpServletRequest first = request("10");
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(first, firstResponse, null)).isTrue();
+
+        MockHttpServletResponse secondResponse = new MockHttpServletResponse();
+        SecurityContext context = SecurityContextHolder.getContext();
+        CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(() -> {
+            SecurityContextHolder.setContext(context);
+            try {
+                return interceptor.preHandle(request("10"), secondResponse, null);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        });
+
+        // when
+        first.setAttribute(IdempotencyInterceptor.BODY_ATTRIBUTE, "{\"drawn\":10}");
+        firstResponse.setStatus(200);
+        interceptor.afterCompletion(first, firstResponse, null, null);
+
+        // then
+        assertThat(second.get(5, TimeUnit.SECONDS)).isFalse();
+        assertThat(secondResponse.getContentAsString()).isEqualTo("{\"drawn\":10}");
+    }
+
+    @Test
+    @DisplayName("비로그인 요청은 키가 있어도 저장/재전송하지 않음")
+    void preHandle_Anonymous_Ignored() throws Exception {
+        // given
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = request("10");
+
+        // when
+        boolean proceed = interceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+        // then
+        assertThat(proceed).isTrue();
+        assertThat(request.getAttribute(IdempotencyInterceptor.KEY_ATTRIBUTE)).isNull();
+    }
+
+    private void handle(MockHttpServletRequest request, int status, String body) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(request, response, null)).isTrue();
+        request.setAttribute(IdempotencyInterceptor.BODY_ATTRIBUTE, body);
+        response.setStatus(status);
+        interceptor.afterCompletion(request, response, null, null);
+    }
+
+    private MockHttpServletRequest request(String count) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/gacha/draw/multi");
+        request.addHeader(IdempotencyInterceptor.IDEMPOTENCY_KEY_HEADER, "key-1");
+        request.setParameter("count", count);
+        return request;
+    }
+}
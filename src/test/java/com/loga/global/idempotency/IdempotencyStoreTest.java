@@ -0,0 +1,98 @@
+package com.loga.global.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Test
+    @DisplayName("완료된 응답은 로컬 캐시에서 조회되고 대기 중인 Future에도 전달")
+    void complete_StoresAndCompletesFuture() {
+        // given
+        IdempotencyStore store = new IdempotencyStore(mongoTemplate, 60, 100);
+        CompletableFuture<IdempotentResponse> future = new CompletableFuture<>();
+        store.begin("k", future);
+
+        // when
+        store.complete("k", future, 200, "{\"ok\":true}");
+
+        // then
+        assertThat(store.findCompleted("k")).map(IdempotentResponse::body).contains("{\"ok\":true}");
+        assertThat(future.join().status()).isEqualTo(200);
+        assertThat(store.begin("k", new CompletableFuture<>())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("처리 중인 키는 기존 Future 반환")
+    void begin_InFlight_ReturnsRunningFuture() {
+        // given
+        IdempotencyStore store = new IdempotencyStore(mongoTemplate, 60, 100);
+        CompletableFuture<IdempotentResponse> first = new CompletableFuture<>();
+        store.begin("k", first);
+
+        // when
+        Optional<CompletableFuture<IdempotentResponse>> running = store.begin("k", new CompletableFuture<>());
+
+        // then
+        assertThat(running).containsSame(first);
+    }
+
+    @Test
+    @DisplayName("실패한 응답은 저장하지 않고 대기 중인 요청에 null 전달")
+    void complete_Failed_NotStored() {
+        // given
+        IdempotencyStore store = new IdempotencyStore(mongoTemplate, 60, 100);
+        CompletableFuture<IdempotentResponse> future = new CompletableFuture<>();
+        store.begin("k", future);
+
+        // when
+        store.complete("k", future, null, null);
+
+        // then
+        assertThat(future.join()).isNull();
+        assertThat(store.findCompleted("k")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 응답은 조회되지 않음")
+    void findCompleted_Expired_Empty() {
+        // given
+        IdempotencyStore store = new IdempotencyStore(mongoTemplate, 0, 100);
+        CompletableFuture<IdempotentResponse> future = new CompletableFuture<>();
+        store.begin("k", future);
+        store.complete("k", future, 200, "{}");
+
+        // when & then
+        assertThat(store.findCompleted("k")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 없으면 MongoDB 기록 사용 (만료된 기록은 무시)")
+    void findCompleted_FromMongo() {
+        // given
+        IdempotencyStore store = new IdempotencyStore(mongoTemplate, 60, 100);
+        given(mongoTemplate.findById("live", IdempotencyRecord.class)).willReturn(IdempotencyRecord.create("live",
+                new IdempotentResponse(201, "{}", Instant.now().plusSeconds(60))));
+        given(mongoTemplate.findById("expired", IdempotencyRecord.class)).willReturn(IdempotencyRecord.create(
+                "expired", new IdempotentResponse(201, "{}", Instant.now().minusSeconds(1))));
+
+        // when & then
+        assertThat(store.findCompleted("live")).map(IdempotentResponse::status).contains(201);
+        assertThat(store.findCompleted("expired")).isEmpty();
+    }
+}
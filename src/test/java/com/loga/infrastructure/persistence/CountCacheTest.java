@@ -0,0 +1,88 @@
+package com.loga.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.loga.domain.roster.entity.Roster;
+
+@ExtendWith(MockitoExtension.class)
+class CountCacheTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private CountCache countCache;
+
+    @BeforeEach
+    void setUp() {
+        countCache = new CountCache(mongoTemplate, 30, 100);
+        given(mongoTemplate.getCollectionName(Roster.class)).willReturn("rosters");
+    }
+
+    @Test
+    @DisplayName("필터가 없으면 estimatedDocumentCount 사용")
+    void count_Unfiltered_UsesEstimate() {
+        // given
+        given(mongoTemplate.estimatedCount("rosters")).willReturn(1000L);
+
+        // when
+        CountCache.Total total = countCache.count(new Query(), Roster.class);
+
+        // then
+        assertThat(total.value()).isEqualTo(1000L);
+        assertThat(total.approximate()).isTrue();
+        verify(mongoTemplate, times(0)).count(any(Query.class), eq(Roster.class));
+    }
+
+    @Test
+    @DisplayName("같은 필터는 TTL 동안 캐시된 개수를 사용")
+    void count_SameFilter_Cached() {
+        // given
+        given(mongoTemplate.count(any(Query.class), eq(Roster.class))).willReturn(42L);
+        Query query = MongoQueryBuilder.builder().eq("communityInfo.isPublic", true).build();
+
+        // when
+        CountCache.Total first = countCache.count(query, Roster.class);
+        CountCache.Total second = countCache.count(
+                MongoQueryBuilder.builder().eq("communityInfo.isPublic", true).build().skip(20).limit(10),
+                Roster.class);
+
+        // then
+        assertThat(first.approximate()).isFalse();
+        assertThat(second.value()).isEqualTo(42L);
+        assertThat(second.approximate()).isTrue();
+        verify(mongoTemplate, times(1)).count(any(Query.class), eq(Roster.class));
+    }
+
+    @Test
+    @DisplayName("컬렉션에 저장 이벤트가 발생하면 다시 count")
+    void count_AfterSave_Invalidated() {
+        // given
+        given(mongoTemplate.count(any(Query.class), eq(Roster.class))).willReturn(42L, 43L);
+        Query query = MongoQueryBuilder.builder().eq("communityInfo.isPublic", true).build();
+        countCache.count(query, Roster.class);
+
+        // when
+        countCache.onAfterSave(new AfterSaveEvent<>(Roster.builder().build(), new Document(), "rosters"));
+        CountCache.Total total = countCache.count(query, Roster.class);
+
+        // then
+        assertThat(total.value()).isEqualTo(43L);
+        assertThat(total.approximate()).isFalse();
+    }
+}
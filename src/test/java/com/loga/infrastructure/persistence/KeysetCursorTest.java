@@ -0,0 +1,57 @@
+package com.loga.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.loga.global.error.BusinessException;
+import com.loga.global.error.ErrorCode;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 정렬 키 값과 ID가 복원됨")
+    void encodeDecode_RoundTrip() {
+        // given
+        KeysetCursor cursor = KeysetCursor.of(156, "67a1b2c3d4e5f60718293a4b");
+
+        // when
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.intValue()).isEqualTo(156);
+    }
+
+    @Test
+    @DisplayName("정렬 키 값 없이 ID만 있는 커서도 복원됨")
+    void encodeDecode_IdOnly() {
+        // given
+        KeysetCursor cursor = KeysetCursor.of(null, "67a1b2c3d4e5f60718293a4b");
+
+        // when
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded.value()).isNull();
+        assertThat(decoded.id()).isEqualTo("67a1b2c3d4e5f60718293a4b");
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지로 보고 null 반환")
+    void decode_Blank_ReturnsNull() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode("")).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 INVALID_INPUT")
+    void decode_Fail_Malformed() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not a cursor!"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_INPUT);
+    }
+}
@@ -0,0 +1,87 @@
+package com.loga.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QueryPlanAdvisorTest {
+
+    @Test
+    @DisplayName("필터 값은 ?로 바꾸고 필드/연산자 구조는 유지")
+    void shapeOf_ReplacesValues() {
+        // given
+        BsonDocument filter = BsonDocument.parse("""
+                { "communityInfo.isPublic": true,
+                  "$or": [ { "communityInfo.likeCount": { "$lt": 10 } }, { "_id": { "$in": ["a", "b"] } } ] }
+                """);
+
+        // when
+        String shape = QueryPlanAdvisor.shapeOf(filter).asDocument().toJson();
+
+        // then
+        assertThat(shape).isEqualTo(BsonDocument.parse("""
+                { "communityInfo.isPublic": "?",
+                  "$or": [ { "communityInfo.likeCount": { "$lt": "?" } }, { "_id": { "$in": "?" } } ] }
+                """).toJson());
+    }
+
+    @Test
+    @DisplayName("승리 플랜의 COLLSCAN과 인메모리 SORT를 찾음")
+    void rejectedStages_CollscanAndSort() {
+        // given
+        Document explain = new Document("queryPlanner", new Document()
+                .append("winningPlan", new Document("stage", "SORT")
+                        .append("inputStage", new Document("stage", "COLLSCAN")))
+                .append("rejectedPlans", List.of()));
+
+        // when & then
+        assertThat(QueryPlanAdvisor.rejectedStages(explain)).containsExactly("COLLSCAN", "SORT");
+    }
+
+    @Test
+    @DisplayName("인덱스로 정렬까지 처리하면 위반 없음")
+    void rejectedStages_IndexScan() {
+        // given
+        Document explain = new Document("queryPlanner", new Document("winningPlan",
+                new Document("stage", "LIMIT")
+                        .append("inputStage", new Document("stage", "FETCH")
+                                .append("inputStage", new Document("stage", "IXSCAN")
+                                        .append("indexName", "public_popular")))));
+
+        // when & then
+        assertThat(QueryPlanAdvisor.rejectedStages(explain)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("countDocuments aggregate에서 $match 필터를 꺼냄")
+    void countFilterOf_CountDocumentsPipeline() {
+        // given
+        BsonDocument command = BsonDocument.parse("""
+                { "aggregate": "rosters",
+                  "pipeline": [ { "$match": { "userId": "u1" } }, { "$skip": 0 },
+                                { "$group": { "_id": 1, "n": { "$sum": 1 } } } ] }
+                """);
+
+        // when & then
+        assertThat(QueryPlanAdvisor.countFilterOf(command)).isEqualTo(BsonDocument.parse("{ \"userId\": \"u1\" }"));
+    }
+
+    @Test
+    @DisplayName("count 형태가 아닌 aggregate는 검사하지 않음")
+    void countFilterOf_OtherPipeline() {
+        // given
+        BsonDocument command = BsonDocument.parse("""
+                { "aggregate": "draw_events",
+                  "pipeline": [ { "$match": { "position": "MID" } },
+                                { "$group": { "_id": "$playerId", "n": { "$sum": 1 } } } ] }
+                """);
+
+        // when & then
+        assertThat(QueryPlanAdvisor.countFilterOf(command)).isNull();
+    }
+}
@@ -0,0 +1,20 @@
+package com.loga.infrastructure.persistence;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * Spring 통합 테스트가 실행한 쿼리 중 인덱스를 타지 않은 쿼리가 있으면 테스트 실패
+ *
+ * 각 테스트 후 {@link QueryPlanAdvisor#assertNoViolations()}를 호출합니다. prod 프로파일처럼 advisor가 없으면 검사하지 않습니다.
+ */
+public class QueryPlanCheckExtension implements AfterEachCallback {
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        SpringExtension.getApplicationContext(context)
+                .getBeanProvider(QueryPlanAdvisor.class)
+                .ifAvailable(QueryPlanAdvisor::assertNoViolations);
+    }
+}
@@ -0,0 +1,80 @@
+package com.loga.infrastructure.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.loga.domain.community.entity.Comment;
+import com.loga.domain.community.repository.CommentRepository;
+import com.loga.domain.player.dto.PlayerCardSummary;
+import com.loga.domain.player.dto.PlayerSearchCondition;
+import com.loga.domain.player.entity.Player;
+import com.loga.domain.player.repository.PlayerRepository;
+import com.loga.domain.roster.dto.RosterSearchCondition;
+import com.loga.domain.roster.entity.Roster;
+import com.loga.domain.roster.repository.RosterRepository;
+
+/**
+ * 레포지토리 조회가 선언된 인덱스를 사용하는지 검사 (QueryPlanAdvisor가 위반을 기록하면 실패)
+ */
+@SpringBootTest
+@ExtendWith(QueryPlanCheckExtension.class)
+class RepositoryQueryPlanTest {
+
+    private static final Pageable PAGE = PageRequest.of(0, 10);
+
+    @Autowired
+    private IndexReconciler indexReconciler;
+
+    @Autowired
+    private RosterRepository rosterRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 시작 시 비동기 동기화를 기다리지 않고 인덱스를 먼저 맞춤
+        indexReconciler.reconcile(Roster.class);
+        indexReconciler.reconcile(Player.class);
+        indexReconciler.reconcile(Comment.class);
+    }
+
+    @Test
+    @DisplayName("로스터 목록/피드/검색/카운트 조회")
+    void rosterQueries() {
+        rosterRepository.findSummariesByUserId("user1", PAGE);
+        rosterRepository.findPublicRosters(PAGE);
+        rosterRepository.findPublicChampionshipRosters(PAGE);
+        rosterRepository.findByPopularity(PAGE);
+        rosterRepository.findPublicSlice(false, null, PAGE);
+        rosterRepository.findPublicSlice(true, null, PAGE);
+        rosterRepository.findPopularSlice(null, PAGE);
+        rosterRepository.findRankedByTier("GOLD", PAGE);
+        rosterRepository.search(RosterSearchCondition.builder().gameMode(Roster.GameMode.RANKED).build(), PAGE);
+        rosterRepository.countByUserId("user1");
+        rosterRepository.countChampionshipRostersByUserId("user1");
+    }
+
+    @Test
+    @DisplayName("선수 검색/포지션별 조회")
+    void playerQueries() {
+        playerRepository.search(PlayerSearchCondition.builder().position(Player.Position.MID).build(), PAGE);
+        playerRepository.findTopByPositionOrderByPickedCount(Player.Position.MID, 10);
+        playerRepository.findByPosition(Player.Position.MID, PlayerCardSummary.class);
+    }
+
+    @Test
+    @DisplayName("로스터 댓글 조회")
+    void commentQueries() {
+        commentRepository.findByRosterIdOrderByCreatedAtDesc("roster1", PAGE);
+    }
+}
@@ -0,0 +1,102 @@
+package com.loga.infrastructure.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import tools.jackson.databind.json.JsonMapper;
+
+class RateLimitFilterTest {
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(1);
+        limit.setRefillPerSecond(0.5);
+
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setName("gacha-draw");
+        rule.setMethod("POST");
+        rule.setPattern("/api/gacha/**");
+        rule.setAnonymous(limit);
+        rule.setAuthenticated(limit);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rule));
+
+        filter = new RateLimitFilter(properties, new RateLimiter(properties), JsonMapper.shared());
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("제한을 넘으면 429와 Retry-After 반환, 체인은 호출하지 않음")
+    void doFilter_ExceedsLimit_Returns429() throws Exception {
+        // given
+        filter.doFilter(request("10.0.0.1"), new MockHttpServletResponse(), new MockFilterChain());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request("10.0.0.1"), response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains("\"success\":false");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("비로그인 사용자는 클라이언트 IP별로 제한")
+    void doFilter_AnonymousPerClientIp() throws Exception {
+        // given
+        filter.doFilter(request("10.0.0.1"), new MockHttpServletResponse(), new MockFilterChain());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request("10.0.0.2"), response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("규칙에 없는 경로는 제한하지 않음")
+    void doFilter_NoRule_PassesThrough() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/players");
+        request.setRemoteAddr("10.0.0.1");
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            assertThat(chain.getRequest()).isNotNull();
+        }
+    }
+
+    private MockHttpServletRequest request(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/gacha/draw");
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
@@ -0,0 +1,152 @@
+package com.loga.infrastructure.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private RateLimiter rateLimiter;
+    private RateLimitProperties.Limit limit;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new RateLimiter(new RateLimitProperties());
+        limit = new RateLimitProperties.Limit();
+        limit.setCapacity(3);
+        limit.setRefillPerSecond(1);
+    }
+
+    @Test
+    @DisplayName("capacity만큼 연속 요청을 허용하고 다음 요청은 대기 시간 반환")
+    void tryAcquire_Burst() {
+        // given
+        long now = 0;
+
+        // when & then
+        assertThat(rateLimiter.tryAcquire("ip:1", limit, now)).isZero();
+        assertThat(rateLimiter.tryAcquire("ip:1", limit, now)).isZero();
+        assertThat(rateLimiter.tryAcquire("ip:1", limit, now)).isZero();
+        assertThat(rateLimiter.tryAcquire("ip:1", limit, now)).isEqualTo(SECOND);
+    }
+
+    @Test
+    @DisplayName("충전 간격이 지나면 토큰 1개씩 다시 허용")
+    void tryAcquire_Refill() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("ip:1", limit, 0);
+        }
+
+        // when & then
+        assertThat(rateLimiter.tryAcquire("ip:1", limit, SECOND / 2)).isEqualTo(SECOND / 2);
+        assertThat(rateLimiter.tryAcquire("ip:1", limit, SECOND)).isZero();
+        assertThat(rateLimiter.tryAcquire("ip:1", limit, SECOND)).isEqualTo(SECOND);
+    }
+
+    @Test
+    @DisplayName("키마다 버킷이 분리됨")
+    void tryAcquire_SeparateKeys() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("ip:1", limit, 0);
+        }
+
+        // when & then
+        assertThat(rateLimiter.tryAcquire("ip:1", limit, 0)).isPositive();
+        assertThat(rateLimiter.tryAcquire("ip:2", limit, 0)).isZero();
+    }
+
+    @Test
+    @DisplayName("가득 찬 버킷만 정리")
+    void sweep_EvictsOnlyFullBuckets() {
+        // given
+        rateLimiter.tryAcquire("idle", limit, System.nanoTime() - 10 * SECOND);
+        rateLimiter.tryAcquire("busy", limit, System.nanoTime() + 10 * SECOND);
+
+        // when
+        rateLimiter.sweep();
+
+        // then
+        assertThat(rateLimiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키가 몰려도 버킷 수는 상한을 넘지 않음")
+    void tryAcquire_BucketCountCapped() {
+        // given
+        RateLimiter small = smallLimiter();
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            small.tryAcquire("ip:" + i, limit, 0);
+        }
+
+        // then
+        assertThat(small.size()).isLessThanOrEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("상한에 도달한 stripe의 새 키는 공유 버킷으로 제한되고 기존 키는 영향 없음")
+    void tryAcquire_FullStripe_SharesOverflowBucket() {
+        // given
+        RateLimiter small = smallLimiter();
+        List<String> keys = sameStripeKeys(3);
+        small.tryAcquire(keys.get(0), limit, 0);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(small.tryAcquire(keys.get(1), limit, 0)).isZero();
+        }
+
+        // then
+        assertThat(small.tryAcquire(keys.get(2), limit, 0)).isPositive();
+        assertThat(small.tryAcquire(keys.get(0), limit, 0)).isZero();
+        assertThat(small.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상한에 도달하면 가득 찬 버킷을 제거해 새 키에 자리를 줌")
+    void tryAcquire_FullStripe_EvictsFullBucket() {
+        // given
+        RateLimiter small = smallLimiter();
+        List<String> keys = sameStripeKeys(3);
+        small.tryAcquire(keys.get(0), limit, 0);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(small.tryAcquire(keys.get(1), limit, 10 * SECOND)).isZero();
+        }
+
+        // then
+        // keys[1]이 자기 버킷을 받았으므로 다른 새 키(공유 버킷)는 아직 허용
+        assertThat(small.tryAcquire(keys.get(1), limit, 10 * SECOND)).isPositive();
+        assertThat(small.tryAcquire(keys.get(2), limit, 10 * SECOND)).isZero();
+        assertThat(small.size()).isEqualTo(1);
+    }
+
+    // stripe당 버킷 1개
+    private RateLimiter smallLimiter() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxBuckets(16);
+        return new RateLimiter(properties);
+    }
+
+    private List<String> sameStripeKeys(int count) {
+        List<String> keys = new ArrayList<>();
+        int stripe = RateLimiter.stripeIndex("ip:0");
+        for (int i = 0; keys.size() < count; i++) {
+            if (RateLimiter.stripeIndex("ip:" + i) == stripe) {
+                keys.add("ip:" + i);
+            }
+        }
+        return keys;
+    }
+}